@@ -0,0 +1,21 @@
+package itacademy.pawalert.application.alert.model;
+
+import itacademy.pawalert.domain.alert.model.ClosureReason;
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Denormalized snapshot of the latest event data of an alert,
+ * so readers don't need to scan alert_events to know where and in which status it was last seen.
+ */
+public record AlertLatestState(
+        UUID alertId,
+        LocalDateTime lastEventAt,
+        GeographicLocation lastLocation,
+        StatusNames lastStatus,
+        ClosureReason closureReason
+) {
+}
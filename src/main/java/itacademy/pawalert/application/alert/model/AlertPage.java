@@ -0,0 +1,12 @@
+package itacademy.pawalert.application.alert.model;
+
+import itacademy.pawalert.domain.alert.model.Alert;
+
+import java.util.List;
+
+public record AlertPage(List<Alert> alerts, AlertCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
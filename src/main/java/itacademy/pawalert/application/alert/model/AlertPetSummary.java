@@ -0,0 +1,14 @@
+package itacademy.pawalert.application.alert.model;
+
+/**
+ * Pet columns read together with an alert by the search query, so callers listing alerts
+ * can show who is missing without loading every pet separately.
+ */
+public record AlertPetSummary(
+        String officialPetName,
+        String workingPetName,
+        String species,
+        String breed,
+        String petImage
+) {
+}
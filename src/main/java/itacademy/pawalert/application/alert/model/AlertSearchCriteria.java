@@ -15,9 +15,38 @@ public record AlertSearchCriteria(
         LocalDateTime createdTo,
         LocalDateTime updatedFrom,
         LocalDateTime updatedTo,
-        UUID userId
+        UUID userId,
+        boolean activeOnly,
+        AlertCursor after,
+        Integer limit
 ) {
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public AlertSearchCriteria {
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    public AlertSearchCriteria(StatusNames status, String title, String petName, String species, String breed,
+                               LocalDateTime createdFrom, LocalDateTime createdTo,
+                               LocalDateTime updatedFrom, LocalDateTime updatedTo, UUID userId) {
+        this(status, title, petName, species, breed, createdFrom, createdTo, updatedFrom, updatedTo, userId,
+                false, null, null);
+    }
+
     public static AlertSearchCriteria empty() {
         return new AlertSearchCriteria(null, null, null, null, null, null, null, null, null, null);
     }
+
+    // Every alert that is not closed
+    public static AlertSearchCriteria active() {
+        return new AlertSearchCriteria(null, null, null, null, null, null, null, null, null, null,
+                true, null, null);
+    }
+
+    public AlertSearchCriteria withPage(AlertCursor after, int limit) {
+        return new AlertSearchCriteria(status, title, petName, species, breed, createdFrom, createdTo,
+                updatedFrom, updatedTo, userId, activeOnly, after, limit);
+    }
 }
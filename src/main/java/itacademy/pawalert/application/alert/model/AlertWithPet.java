@@ -0,0 +1,7 @@
+package itacademy.pawalert.application.alert.model;
+
+import itacademy.pawalert.domain.alert.model.Alert;
+
+// Pet is null when the alert points to a pet that no longer exists
+public record AlertWithPet(Alert alert, AlertPetSummary pet) {
+}
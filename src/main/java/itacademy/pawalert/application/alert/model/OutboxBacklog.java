@@ -0,0 +1,12 @@
+package itacademy.pawalert.application.alert.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Events still waiting in the outbox.
+ *
+ * @param oldestCreatedAt creation time of the oldest waiting event, or null when there is none
+ * @param stuck           events that reached the attempt limit and are no longer relayed
+ */
+public record OutboxBacklog(long pending, LocalDateTime oldestCreatedAt, long stuck) {
+}
@@ -0,0 +1,21 @@
+package itacademy.pawalert.application.alert.model;
+
+/**
+ * Outcome of one outbox relay batch.
+ *
+ * @param claimed     events read and locked for this batch
+ * @param published   events confirmed by the broker
+ * @param failed      events that failed on their own and wait for a later try, or were left aside
+ * @param brokerError why the broker could not be reached, or null; the events after the failing
+ *                    one were not tried and keep their attempt count
+ */
+public record OutboxBatchResult(int claimed, int published, int failed, String brokerError) {
+
+    public static OutboxBatchResult empty() {
+        return new OutboxBatchResult(0, 0, 0, null);
+    }
+
+    public boolean brokerUnavailable() {
+        return brokerError != null;
+    }
+}
@@ -0,0 +1,19 @@
+package itacademy.pawalert.application.alert.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An alert domain event waiting in the outbox to be relayed.
+ *
+ * @param event    the domain event itself, e.g. an {@code AlertStatusChangedEvent}
+ * @param attempts publishes of this event that failed so far
+ */
+public record OutboxEvent(
+        UUID id,
+        UUID alertId,
+        Object event,
+        LocalDateTime createdAt,
+        int attempts
+) {
+}
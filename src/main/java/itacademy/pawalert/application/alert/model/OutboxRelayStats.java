@@ -0,0 +1,25 @@
+package itacademy.pawalert.application.alert.model;
+
+/**
+ * Throughput and lag of the alert event outbox relay.
+ *
+ * @param failedBatches    batches cut short because the broker could not be reached
+ * @param failedEvents     single events the broker refused or that could not be sent
+ * @param eventsPerSecond  events published per second of relay work since startup
+ * @param lastPublishLagMs time the newest published event spent in the outbox before the broker confirmed it
+ * @param oldestPendingAgeMs age of the oldest event still waiting, 0 when the outbox is drained
+ */
+public record OutboxRelayStats(
+        long published,
+        long failedBatches,
+        long failedEvents,
+        long batches,
+        double eventsPerSecond,
+        long lastBatchMs,
+        long lastPublishLagMs,
+        long maxPublishLagMs,
+        long pending,
+        long oldestPendingAgeMs,
+        long stuck
+) {
+}
@@ -0,0 +1,23 @@
+package itacademy.pawalert.application.alert.model;
+
+import java.time.Duration;
+
+/**
+ * How often and how fast failed outbox events are retried.
+ *
+ * @param maxAttempts failed publishes an event goes through before it is left aside
+ * @param baseDelay   wait after the first failure; it doubles with every further one
+ * @param maxDelay    longest wait between two tries
+ */
+public record OutboxRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+    public Duration delayAfter(int failures) {
+        if (failures <= 0) {
+            return Duration.ZERO;
+        }
+        // Capped shift: past 2^20 the max delay has long been reached
+        long factor = 1L << Math.min(failures - 1, 20);
+        Duration delay = baseDelay.multipliedBy(factor);
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+}
@@ -1,11 +1,15 @@
 package itacademy.pawalert.application.alert.port.inbound;
 
+import itacademy.pawalert.application.alert.model.AlertPage;
+import itacademy.pawalert.application.alert.model.AlertSearchCriteria;
+import itacademy.pawalert.application.alert.model.AlertWithPet;
 import itacademy.pawalert.domain.alert.model.Alert;
 import itacademy.pawalert.domain.alert.model.StatusNames;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface SearchAlertsUseCase {
     List<Alert> search(
@@ -24,6 +28,12 @@ public interface SearchAlertsUseCase {
 
     List<Alert> search();
 
+    List<AlertWithPet> searchWithPets(AlertSearchCriteria criteria);
+
+    AlertPage searchPage(AlertSearchCriteria criteria);
+
+    void streamSearch(AlertSearchCriteria criteria, Consumer<Alert> consumer);
+
     List<Alert> searchNearby(Double latitude, Double longitude, Double radiusKm);
 
 }
@@ -0,0 +1,14 @@
+package itacademy.pawalert.application.alert.port.outbound;
+
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+
+public interface AlertEventPublisherPort {
+
+    /**
+     * Returns once the broker has confirmed the event.
+     * Throws {@code EventBrokerUnavailableException} when the broker cannot be reached and
+     * {@code UnpublishableEventException} when the event cannot be sent at all; any other
+     * exception means this event was refused and may be tried again.
+     */
+    void publish(OutboxEvent event);
+}
@@ -1,9 +1,12 @@
 package itacademy.pawalert.application.alert.port.outbound;
 
+import itacademy.pawalert.application.alert.model.AlertLatestState;
 import itacademy.pawalert.domain.alert.model.AlertEvent;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +17,10 @@ public interface AlertEventRepositoryPort {
     List<AlertEvent> findByAlertIdOrderByChangedAtDesc(UUID alertId);
 
     Optional<AlertEvent> findLatestByAlertId(UUID alertId);
+
+    Optional<AlertLatestState> findLatestStateByAlertId(UUID alertId);
+
+    Map<UUID, AlertLatestState> findLatestStatesByAlertIds(Collection<UUID> alertIds);
+
+    int rebuildLatestStates();
 }
@@ -0,0 +1,24 @@
+package itacademy.pawalert.application.alert.port.outbound;
+
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Spatial index of the last known location of every non-closed alert.
+ * Lets radius queries touch only nearby candidates instead of scanning every alert.
+ */
+public interface AlertLocationIndexPort {
+
+    void index(UUID alertId, GeographicLocation location);
+
+    void remove(UUID alertId);
+
+    Set<UUID> findAlertIdsWithinRadius(GeographicLocation center, double radiusKm);
+
+    Optional<GeographicLocation> findLocation(UUID alertId);
+
+    void rebuild();
+}
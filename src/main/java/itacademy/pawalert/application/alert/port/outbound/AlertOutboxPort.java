@@ -0,0 +1,31 @@
+package itacademy.pawalert.application.alert.port.outbound;
+
+import itacademy.pawalert.application.alert.model.OutboxBacklog;
+import itacademy.pawalert.application.alert.model.OutboxBatchResult;
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+import itacademy.pawalert.application.alert.model.OutboxRetryPolicy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface AlertOutboxPort {
+
+    // Must run inside the transaction that changed the alert, so both commit or neither does
+    void append(UUID alertId, Object event);
+
+    /**
+     * Claims up to {@code limit} of the oldest events that are due and hands them to
+     * {@code publisher} one at a time. Events claimed by another relay are skipped rather than
+     * waited for. An event is marked published when the publisher returns. When it throws, the
+     * event counts a failed attempt and is not due again until the policy's delay has passed;
+     * an event that cannot be read or sent at all is left aside at once. When the broker is
+     * unavailable the batch stops there and no attempt is counted.
+     */
+    OutboxBatchResult relayBatch(int limit, OutboxRetryPolicy retryPolicy, Consumer<OutboxEvent> publisher);
+
+    OutboxBacklog backlog(int maxAttempts);
+
+    // Deletes events published before the given time; returns how many were removed
+    int purgePublished(LocalDateTime publishedBefore);
+}
@@ -1,13 +1,17 @@
 package itacademy.pawalert.application.alert.port.outbound;
 
+import itacademy.pawalert.application.alert.model.AlertPage;
 import itacademy.pawalert.application.alert.model.AlertSearchCriteria;
+import itacademy.pawalert.application.alert.model.AlertWithPet;
 import itacademy.pawalert.domain.alert.model.Alert;
 import itacademy.pawalert.domain.alert.model.StatusNames;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 
 @Component
@@ -24,8 +28,16 @@ public interface AlertRepositoryPort {
 
     List<Alert> findAll();
 
+    List<Alert> findAllById(Collection<UUID> alertIds);
+
     List<Alert> search(AlertSearchCriteria criteria);
 
+    List<AlertWithPet> searchWithPets(AlertSearchCriteria criteria);
+
+    AlertPage searchPage(AlertSearchCriteria criteria);
+
+    void streamSearch(AlertSearchCriteria criteria, Consumer<Alert> consumer);
+
     StatusNames getLastStatusById(UUID alertId);
 
     boolean existsActiveAlertByPetId(UUID petId);
@@ -5,18 +5,37 @@ import itacademy.pawalert.domain.alert.model.StatusNames;
 import itacademy.pawalert.domain.pet.model.Pet;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+/**
+ * Builds the email and Telegram texts sent when an alert changes status.
+ * <p>
+ * The email body comes from the {@code change-status-notification} Thymeleaf template, which the engine
+ * parses once and caches. The body does not depend on the recipient, so a fan-out renders it once and
+ * sends the same HTML to every subscriber.
+ * <p>
+ * Configuration properties:
+ * - app.frontend.url: Base URL for alert links (default: http://localhost:5173)
+ */
 @Service
 public class AlertNotificationFormatter {
 
+    private static final String EMAIL_TEMPLATE = "change-status-notification";
+    private static final Locale EMAIL_LOCALE = Locale.of("es", "ES");
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm", EMAIL_LOCALE);
+
+    private final ITemplateEngine templateEngine;
+
     @Value("${app.frontend.url:http://localhost:5173}")
     private String frontendUrl;
 
-    public AlertNotificationFormatter() {
+    public AlertNotificationFormatter(ITemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
     }
 
     public String formatStatusChangeMessage(Alert alert, Pet pet, StatusNames newStatus) {
@@ -37,111 +56,25 @@ public class AlertNotificationFormatter {
     }
 
     public String formatEmailBody(Alert alert, Pet pet, StatusNames oldStatus, StatusNames newStatus) {
-        String petImageUrl = pet.getPetImage() != null ? pet.getPetImage().value() : null;
-        String petName = pet.getOfficialPetName().value();
-        String species = pet.getSpecies() != null ? pet.getSpecies().toString() : "Pet";
-        String breed = pet.getBreed() != null ? pet.getBreed().value() : "";
-        String color = pet.getColor() != null ? pet.getColor().value() : "";
-        String description = alert.getDescription() != null ? alert.getDescription().getValue() : "Description not available";
-        String title = alert.getTitle() != null ? alert.getTitle().getValue() : "Alert";
-        String alertId = alert.getId().toString();
-        String alertUrl = frontendUrl + "/alerts/" + alertId;
-        String statusDisplayNew = getStatusDisplayName(newStatus);
-        String statusDisplayOld = getStatusDisplayName(oldStatus);
-        String timestamp = new SimpleDateFormat("dd/MM/yyyy HH:mm", new Locale("es", "ES")).format(new Date());
-
-        // Build status badge color
-        String statusColor = getStatusColor(newStatus);
-
-        // Build pet description
-        String petDescription = pet.getPetDescription() != null ? pet.getPetDescription().value() : "";
-
-        StringBuilder details = new StringBuilder();
-        details.append("<li><strong>📋 Previous status:</strong> ").append(statusDisplayOld).append("</li>");
-        details.append("<li><strong>✅ New status:</strong> <span style='color:").append(statusColor).append("'>").append(statusDisplayNew).append("</span></li>");
-
-        if (species != null && !species.isEmpty()) {
-            details.append("<li><strong>🐕 Species:</strong> ").append(species).append("</li>");
-        }
-        if (breed != null && !breed.isEmpty()) {
-            details.append("<li><strong>🐩 Breed:</strong> ").append(breed).append("</li>");
-        }
-        if (color != null && !color.isEmpty()) {
-            details.append("<li><strong>🎨 Color:</strong> ").append(color).append("</li>");
-        }
-        if (description != null && !description.isEmpty()) {
-            details.append("<li><strong>📝 Description:</strong> ").append(description).append("</li>");
-        }
-        if (petDescription != null && !petDescription.isEmpty()) {
-            details.append("<li><strong>📋 Pet notes:</strong> ").append(petDescription).append("</li>");
-        }
-
-        // Build image HTML
-        String imageHtml = getPetImageHtml(petImageUrl, petName);
-
-        return "<!DOCTYPE html>\n" +
-                "<html>\n" +
-                "<head>\n" +
-                "    <meta charset='UTF-8'>\n" +
-                "    <meta name='viewport' content='width=device-width, initial-scale=1.0'>\n" +
-                "    <style>\n" +
-                "        body { font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; background-color: #f5f7fa; margin: 0; padding: 0; }\n" +
-                "        .container { max-width: 600px; margin: 20px auto; background: #ffffff; border-radius: 16px; overflow: hidden; box-shadow: 0 10px 40px rgba(0,0,0,0.1); }\n" +
-                "        .header { background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: white; padding: 30px; text-align: center; }\n" +
-                "        .header h1 { margin: 0; font-size: 28px; }\n" +
-                "        .header p { margin: 10px 0 0; opacity: 0.9; font-size: 16px; }\n" +
-                "        .content { padding: 30px; }\n" +
-                "        .pet-card { background: #f8f9ff; border-radius: 12px; padding: 20px; margin-bottom: 20px; text-align: center; }\n" +
-                "        .pet-name { font-size: 24px; font-weight: bold; color: #2d3748; margin: 10px 0; }\n" +
-                "        .status-badge { display: inline-block; padding: 8px 20px; border-radius: 20px; font-weight: bold; font-size: 14px; margin: 10px 0; }\n" +
-                "        .details { list-style: none; padding: 0; margin: 20px 0; }\n" +
-                "        .details li { padding: 10px 0; border-bottom: 1px solid #e2e8f0; color: #4a5568; }\n" +
-                "        .details li:last-child { border-bottom: none; }\n" +
-                "        .button { display: inline-block; background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: white; padding: 14px 30px; border-radius: 8px; text-decoration: none; font-weight: bold; margin: 20px 0; }\n" +
-                "        .footer { background: #f7fafc; padding: 20px; text-align: center; color: #718096; font-size: 12px; }\n" +
-                "    </style>\n" +
-                "</head>\n" +
-                "<body>\n" +
-                "    <div class='container'>\n" +
-                "        <div class='header'>\n" +
-                "            <h1>🔔 Pet Alert</h1>\n" +
-                "            <p>The alert status has changed</p>\n" +
-                "        </div>\n" +
-                "        <div class='content'>\n" +
-                "            <div class='pet-card'>\n" +
-                "                " + imageHtml + "\n" +
-                "                <div class='pet-name'>" + petName + "</div>\n" +
-                "                <div class='status-badge' style='background: " + statusColor + "; color: white;'>" + statusDisplayNew + "</div>\n" +
-                "            </div>\n" +
-                "            <ul class='details'>\n" +
-                "                " + details + "\n" +
-                "            </ul>\n" +
-                "            <div style='text-align: center;'>\n" +
-                "                <a href='" + alertUrl + "' class='button'>View Alert Details</a>\n" +
-                "            </div>\n" +
-                "        </div>\n" +
-                "        <div class='footer'>\n" +
-                "            <p>🐾 PawAlert - Helping find lost pets</p>\n" +
-                "            <p>Sent on " + timestamp + "</p>\n" +
-                "        </div>\n" +
-                "    </div>\n" +
-                "</body>\n" +
-                "</html>";
+        Context context = new Context(EMAIL_LOCALE);
+        context.setVariable("petName", pet.getOfficialPetName().value());
+        context.setVariable("petImageUrl", textOrNull(pet.getPetImage() != null ? pet.getPetImage().value() : null));
+        context.setVariable("species", pet.getSpecies() != null ? pet.getSpecies().toString() : "Pet");
+        context.setVariable("breed", textOrNull(pet.getBreed() != null ? pet.getBreed().value() : null));
+        context.setVariable("color", textOrNull(pet.getColor() != null ? pet.getColor().value() : null));
+        context.setVariable("description",
+                alert.getDescription() != null ? textOrNull(alert.getDescription().getValue()) : "Description not available");
+        context.setVariable("petDescription", textOrNull(pet.getPetDescription() != null ? pet.getPetDescription().value() : null));
+        context.setVariable("alertUrl", frontendUrl + "/alerts/" + alert.getId());
+        context.setVariable("oldStatus", getStatusDisplayName(oldStatus));
+        context.setVariable("newStatus", getStatusDisplayName(newStatus));
+        context.setVariable("statusColor", getStatusColor(newStatus));
+        context.setVariable("timestamp", TIMESTAMP_FORMAT.format(LocalDateTime.now()));
+        return templateEngine.process(EMAIL_TEMPLATE, context);
     }
 
-    private String getPetImageHtml(String petImageUrl, String petName) {
-        if (petImageUrl == null || petImageUrl.isEmpty()) {
-            return "<div style='background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); width: 150px; height: 150px; border-radius: 12px; display: flex; align-items: center; justify-content: center; margin: 10px auto; font-size: 60px;'>🐾</div>";
-        }
-
-        // Check if it's a base64 image
-        if (petImageUrl.startsWith("data:")) {
-            // Use base64 directly
-            return "<img src='" + petImageUrl + "' alt='Photo of " + petName + "' style='max-width: 200px; max-height: 200px; border-radius: 12px; margin: 10px 0; box-shadow: 0 4px 8px rgba(0,0,0,0.1);' />";
-        }
-
-        // Otherwise it's a URL (Cloudinary or other)
-        return "<img src='" + petImageUrl + "' alt='Photo of " + petName + "' style='max-width: 200px; max-height: 200px; border-radius: 12px; margin: 10px 0; box-shadow: 0 4px 8px rgba(0,0,0,0.1);' />";
+    private static String textOrNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
     }
 
     private String getStatusDisplayName(StatusNames status) {
@@ -0,0 +1,167 @@
+package itacademy.pawalert.application.alert.service;
+
+import itacademy.pawalert.application.alert.model.OutboxBacklog;
+import itacademy.pawalert.application.alert.model.OutboxBatchResult;
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+import itacademy.pawalert.application.alert.model.OutboxRelayStats;
+import itacademy.pawalert.application.alert.model.OutboxRetryPolicy;
+import itacademy.pawalert.application.alert.port.outbound.AlertEventPublisherPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertOutboxPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes committed alert events from the outbox to the message broker.
+ * <p>
+ * Each batch is claimed with {@code SKIP LOCKED}, so relays on several nodes share the outbox
+ * without blocking on each other or publishing the same event twice at the same time. An event is
+ * marked published only after the broker confirmed it; if the node dies in between, the event is
+ * published again later, so delivery is at least once.
+ * <p>
+ * Events are confirmed one by one. An event the broker refuses counts an attempt and waits with
+ * exponential backoff; one that reaches the attempt limit, or cannot be read or sent at all, stays
+ * in the outbox for inspection. When the broker cannot be reached no attempt is counted: the run
+ * ends and the relay itself backs off the same way before trying again.
+ * <p>
+ * Configuration properties:
+ * - app.alerts.outbox.batch-size: Events claimed in one transaction (default: 100)
+ * - app.alerts.outbox.max-attempts: Failed publishes an event goes through before it is left aside (default: 10)
+ * - app.alerts.outbox.retry-base-delay-ms: Wait after the first failure, doubled after each further one (default: 1000)
+ * - app.alerts.outbox.retry-max-delay-ms: Longest wait between two tries (default: 300000)
+ * - app.alerts.outbox.retention-hours: How long published events are kept before they are purged (default: 24)
+ */
+@Slf4j
+@Service
+public class AlertOutboxRelay {
+
+    private final AlertOutboxPort outbox;
+    private final AlertEventPublisherPort eventPublisher;
+    private final int batchSize;
+    private final OutboxRetryPolicy retryPolicy;
+    private final Duration retention;
+    private final Clock clock;
+
+    // Only touched inside relayPending, which is synchronized
+    private int brokerFailures;
+    private Instant brokerRetryAt = Instant.MIN;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong lastBatchMs = new AtomicLong();
+    private final AtomicLong lastPublishLagMs = new AtomicLong();
+    private final AtomicLong maxPublishLagMs = new AtomicLong();
+
+    @Autowired
+    public AlertOutboxRelay(AlertOutboxPort outbox,
+                            AlertEventPublisherPort eventPublisher,
+                            @Value("${app.alerts.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.alerts.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.alerts.outbox.retry-base-delay-ms:1000}") long retryBaseDelayMs,
+                            @Value("${app.alerts.outbox.retry-max-delay-ms:300000}") long retryMaxDelayMs,
+                            @Value("${app.alerts.outbox.retention-hours:24}") long retentionHours) {
+        this(outbox, eventPublisher, batchSize,
+                new OutboxRetryPolicy(maxAttempts, Duration.ofMillis(retryBaseDelayMs), Duration.ofMillis(retryMaxDelayMs)),
+                Duration.ofHours(retentionHours), Clock.systemDefaultZone());
+    }
+
+    AlertOutboxRelay(AlertOutboxPort outbox, AlertEventPublisherPort eventPublisher, int batchSize,
+                     OutboxRetryPolicy retryPolicy, Duration retention, Clock clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Outbox batch size must be positive: " + batchSize);
+        }
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.retryPolicy = retryPolicy;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    // Synchronized so overlapping triggers on one node run one after the other
+    public synchronized int relayPending() {
+        if (clock.instant().isBefore(brokerRetryAt)) {
+            return 0;
+        }
+
+        int relayed = 0;
+        OutboxBatchResult result;
+        do {
+            long start = System.nanoTime();
+            result = outbox.relayBatch(batchSize, retryPolicy, this::publish);
+            if (result.claimed() == 0) {
+                break;
+            }
+            long elapsed = System.nanoTime() - start;
+            busyNanos.addAndGet(elapsed);
+            lastBatchMs.set(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            batches.incrementAndGet();
+            published.addAndGet(result.published());
+            failedEvents.addAndGet(result.failed());
+            relayed += result.published();
+
+            if (result.brokerUnavailable()) {
+                failedBatches.incrementAndGet();
+                brokerFailures++;
+                Duration delay = retryPolicy.delayAfter(brokerFailures);
+                brokerRetryAt = clock.instant().plus(delay);
+                log.warn("[OUTBOX] Broker unavailable, retrying in {} ms: {}", delay.toMillis(), result.brokerError());
+                break;
+            }
+            brokerFailures = 0;
+        } while (result.claimed() == batchSize);
+
+        if (relayed > 0) {
+            log.info("[OUTBOX] Published {} alert events", relayed);
+        }
+        return relayed;
+    }
+
+    public int purgePublished() {
+        int purged = outbox.purgePublished(LocalDateTime.now(clock).minus(retention));
+        if (purged > 0) {
+            log.info("[OUTBOX] Purged {} published alert events", purged);
+        }
+        return purged;
+    }
+
+    public OutboxRelayStats stats() {
+        OutboxBacklog backlog = outbox.backlog(retryPolicy.maxAttempts());
+        long publishedCount = published.get();
+        double busySeconds = busyNanos.get() / 1_000_000_000.0;
+        long oldestAgeMs = backlog.oldestCreatedAt() == null ? 0
+                : Math.max(0, Duration.between(backlog.oldestCreatedAt(), LocalDateTime.now(clock)).toMillis());
+
+        return new OutboxRelayStats(
+                publishedCount,
+                failedBatches.get(),
+                failedEvents.get(),
+                batches.get(),
+                busySeconds == 0 ? 0.0 : publishedCount / busySeconds,
+                lastBatchMs.get(),
+                lastPublishLagMs.get(),
+                maxPublishLagMs.get(),
+                backlog.pending(),
+                oldestAgeMs,
+                backlog.stuck());
+    }
+
+    private void publish(OutboxEvent event) {
+        eventPublisher.publish(event);
+
+        long lagMs = Math.max(0, Duration.between(event.createdAt(), LocalDateTime.now(clock)).toMillis());
+        lastPublishLagMs.set(lagMs);
+        maxPublishLagMs.accumulateAndGet(lagMs, Math::max);
+    }
+}
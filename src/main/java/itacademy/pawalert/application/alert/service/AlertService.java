@@ -1,8 +1,13 @@
 package itacademy.pawalert.application.alert.service;
 
+import itacademy.pawalert.application.alert.model.AlertLatestState;
+import itacademy.pawalert.application.alert.model.AlertPage;
 import itacademy.pawalert.application.alert.model.AlertSearchCriteria;
+import itacademy.pawalert.application.alert.model.AlertWithPet;
 import itacademy.pawalert.application.alert.port.inbound.*;
 import itacademy.pawalert.application.alert.port.outbound.AlertEventRepositoryPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertLocationIndexPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertOutboxPort;
 import itacademy.pawalert.application.alert.port.outbound.AlertRepositoryPort;
 import itacademy.pawalert.application.alert.port.outbound.AlertSubscriptionRepositoryPort;
 import itacademy.pawalert.application.alert.port.outbound.CurrentUserProviderPort;
@@ -20,12 +25,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static itacademy.pawalert.domain.alert.model.StatusNames.OPENED;
 
@@ -46,11 +54,14 @@ public class AlertService implements
     private final AlertMapper alertMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final CurrentUserProviderPort currentUserProvider;
+    private final AlertLocationIndexPort locationIndex;
+    private final AlertOutboxPort outbox;
 
     public AlertService(AlertRepositoryPort alertRepository, AlertEventRepositoryPort eventRepository,
                         AlertSubscriptionRepositoryPort subscriptionRepository,
                         GetUserUseCase userUseCase, AlertMapper alertMapper, ApplicationEventPublisher eventPublisher,
-                        CurrentUserProviderPort currentUserProvider) {
+                        CurrentUserProviderPort currentUserProvider, AlertLocationIndexPort locationIndex,
+                        AlertOutboxPort outbox) {
         this.alertRepository = alertRepository;
         this.eventRepository = eventRepository;
         this.subscriptionRepository = subscriptionRepository;
@@ -58,6 +69,8 @@ public class AlertService implements
         this.alertMapper = alertMapper;
         this.eventPublisher = eventPublisher;
         this.currentUserProvider = currentUserProvider;
+        this.locationIndex = locationIndex;
+        this.outbox = outbox;
     }
 
     public List<Alert> findOpenAlertsWithTitle(String title) {
@@ -105,10 +118,10 @@ public class AlertService implements
         eventRepository.save(event);
         log.info("[ALERT-CREATION] Alert event saved to database");
 
-        eventPublisher.publishEvent(
-                new AlertCreatedEvent(savedAlert.getId(), userId)
-        );
-        log.info("[ALERT-CREATION] AlertCreatedEvent published");
+        AlertCreatedEvent createdEvent = new AlertCreatedEvent(savedAlert.getId(), userId);
+        outbox.append(savedAlert.getId(), createdEvent);
+        eventPublisher.publishEvent(createdEvent);
+        log.info("[ALERT-CREATION] AlertCreatedEvent recorded in the outbox and published");
 
         return savedAlert;
     }
@@ -188,10 +201,6 @@ public class AlertService implements
             default -> throw new IllegalArgumentException("Invalid alert state: " + newStatus);
         }
 
-        eventPublisher.publishEvent(
-                new AlertStatusChangedEvent(alertId, previousStatus, newStatus)
-        );
-
         // Use appropriate factory method based on status change type
         AlertEvent event;
         if (newStatus == StatusNames.CLOSED) {
@@ -208,7 +217,14 @@ public class AlertService implements
         eventRepository.save(event);
         log.info("[CHANGE-STATUS] Event saved to repository for alertId={}", alertId);
 
-        return alertRepository.save(alertCopy);
+        Alert savedAlert = alertRepository.save(alertCopy);
+
+        // Only once the change is saved: the outbox row commits with it, listeners read the new state
+        AlertStatusChangedEvent statusChangedEvent = new AlertStatusChangedEvent(alertId, previousStatus, newStatus);
+        outbox.append(alertId, statusChangedEvent);
+        eventPublisher.publishEvent(statusChangedEvent);
+
+        return savedAlert;
     }
 
     @Transactional
@@ -219,6 +235,7 @@ public class AlertService implements
         // Delete subscriptions first (manual cascade delete due to type mismatch)
         subscriptionRepository.deleteAllByAlertId(alertId);
         alertRepository.deleteById(alertId);
+        afterCommit(() -> locationIndex.remove(alertId));
     }
 
     @Transactional
@@ -266,6 +283,20 @@ public class AlertService implements
     }
 
 
+    // Defers index changes until the transaction commits, so a rollback leaves the index untouched
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
     private UUID checkAuthorizationOwerOrAdmin(Alert alert) {
         UUID currentUserId = currentUserProvider.getCurrentUserId();
         boolean isAdmin = currentUserProvider.isCurrentUserAdmin();
@@ -315,27 +346,32 @@ public class AlertService implements
     }
 
     @Override
-    public List<Alert> searchNearby(Double latitude, Double longitude, Double radiusKm) {
+    public List<AlertWithPet> searchWithPets(AlertSearchCriteria criteria) {
+        return alertRepository.searchWithPets(criteria);
+    }
 
-        List<Alert> activeAlerts = alertRepository.findAll();
+    @Override
+    public AlertPage searchPage(AlertSearchCriteria criteria) {
+        return alertRepository.searchPage(criteria);
+    }
 
-        // Filter by status (exclude CLOSED)
-        List<Alert> nonClosedAlerts = activeAlerts.stream()
-                .filter(alert -> alert.currentStatus().getStatusName() != StatusNames.CLOSED)
-                .toList();
+    @Override
+    public void streamSearch(AlertSearchCriteria criteria, Consumer<Alert> consumer) {
+        alertRepository.streamSearch(criteria, consumer);
+    }
 
-        // Get the latest location for each alert
+    @Override
+    public List<Alert> searchNearby(Double latitude, Double longitude, Double radiusKm) {
         GeographicLocation center = GeographicLocation.of(latitude, longitude);
-        return nonClosedAlerts.stream()
-                .filter(alert -> {
-                    // Get latest event with location using the proper event repository
-                    List<AlertEvent> events = eventRepository.findByAlertIdOrderByChangedAtDesc(alert.getId());
-                    return events.stream()
-                            .filter(alertEvent -> alertEvent.getLocation() != null)
-                            .max(Comparator.comparing(alertEvent -> alertEvent.getChangedAt().value()))
-                            .map(event -> event.getLocation().isWithinRadius(center, radiusKm))
-                            .orElse(false);
-                })
+
+        // The index only holds non-closed alerts keyed by their latest known location
+        Set<UUID> candidateIds = locationIndex.findAlertIdsWithinRadius(center, radiusKm);
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        return alertRepository.findAllById(candidateIds).stream()
+                .filter(alert -> alert.currentStatus().getStatusName() != StatusNames.CLOSED)
                 .toList();
     }
 
@@ -360,21 +396,23 @@ public class AlertService implements
     }
 
     public GeographicLocation getLastLocationById(UUID alertId) {
-
         return eventRepository
-                .findLatestByAlertId(alertId)
-                .map(AlertEvent::getLocation)
+                .findLatestStateByAlertId(alertId)
+                .map(AlertLatestState::lastLocation)
                 .orElse(null);
-
     }
 
     public StatusNames getLastStatusById(UUID alertId) {
         return eventRepository
-                .findLatestByAlertId(alertId)
-                .map(AlertEvent::getNewStatus)
+                .findLatestStateByAlertId(alertId)
+                .map(AlertLatestState::lastStatus)
                 .orElse(null);
     }
 
+    public int rebuildLatestStates() {
+        return eventRepository.rebuildLatestStates();
+    }
+
     @Override
     public Optional<Alert> getActiveAlertByPetId(UUID petId) {
         return alertRepository.findActiveAlertByPetId(petId);
@@ -0,0 +1,8 @@
+package itacademy.pawalert.application.exception;
+
+// The broker could not be reached; the event itself is fine and is published once it is back
+public class EventBrokerUnavailableException extends RuntimeException {
+    public EventBrokerUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
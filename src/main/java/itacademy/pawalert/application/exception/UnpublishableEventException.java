@@ -0,0 +1,8 @@
+package itacademy.pawalert.application.exception;
+
+// The event can never be turned into a message, so retrying it is pointless
+public class UnpublishableEventException extends RuntimeException {
+    public UnpublishableEventException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,143 @@
+package itacademy.pawalert.application.image.service;
+
+import itacademy.pawalert.domain.image.exception.ImageProcessingException;
+import itacademy.pawalert.domain.image.exception.ImageUploadException;
+import itacademy.pawalert.domain.image.model.ImageSubmissionResult;
+import itacademy.pawalert.domain.image.model.PetAnalysisResult;
+import itacademy.pawalert.domain.image.port.inbound.ImagePreprocessor;
+import itacademy.pawalert.domain.image.port.inbound.ImageUploader;
+import itacademy.pawalert.domain.image.port.inbound.PetImageAnalyzer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Analyzes a pet photo and uploads it at the same time, so a submission takes as long as the
+ * slower of the two calls instead of their sum.
+ * <p>
+ * The upload runs on a virtual thread while the analysis runs on the request thread. A photo
+ * rejected as unsafe has its upload interrupted, but the Cloudinary call usually finishes anyway.
+ * Whichever side settles the upload first decides who owns the result: if the rejection comes
+ * first, the upload task deletes the image itself once the call returns; if the upload comes
+ * first, the rejecting thread deletes it.
+ */
+@Slf4j
+@Service
+public class ImageSubmissionService {
+
+    private final PetImageAnalyzer petImageAnalyzer;
+    private final ImageUploader imageUploader;
+    private final ImagePreprocessor imagePreprocessor;
+    private final ExecutorService uploadExecutor;
+
+    @Autowired
+    public ImageSubmissionService(PetImageAnalyzer petImageAnalyzer,
+                                  ImageUploader imageUploader,
+                                  ImagePreprocessor imagePreprocessor) {
+        this(petImageAnalyzer, imageUploader, imagePreprocessor,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-upload-", 0).factory()));
+    }
+
+    ImageSubmissionService(PetImageAnalyzer petImageAnalyzer, ImageUploader imageUploader,
+                           ImagePreprocessor imagePreprocessor, ExecutorService uploadExecutor) {
+        this.petImageAnalyzer = petImageAnalyzer;
+        this.imageUploader = imageUploader;
+        this.imagePreprocessor = imagePreprocessor;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    public ImageSubmissionResult submit(MultipartFile file, String folder) {
+        MultipartFile prepared = imagePreprocessor.prepare(file);
+        byte[] imageBytes;
+        try {
+            imageBytes = prepared.getBytes();
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to read uploaded image", e);
+        }
+
+        AtomicBoolean settled = new AtomicBoolean();
+        Future<String> upload = uploadExecutor.submit(() -> uploadUnlessDiscarded(prepared, folder, settled));
+
+        PetAnalysisResult analysis;
+        try {
+            analysis = petImageAnalyzer.analyze(imageBytes);
+        } catch (RuntimeException e) {
+            discard(upload, settled);
+            throw e;
+        }
+
+        if (!analysis.isSafeForWork()) {
+            log.warn("[IMAGE-SUBMIT] Image rejected as {}, discarding its upload", analysis.safetyStatus());
+            discard(upload, settled);
+            return new ImageSubmissionResult(analysis, null);
+        }
+
+        return new ImageSubmissionResult(analysis, awaitUpload(upload, settled));
+    }
+
+    // Runs on the upload thread; deletes its own result when the submission was discarded meanwhile
+    private String uploadUnlessDiscarded(MultipartFile prepared, String folder, AtomicBoolean settled) {
+        String url = imageUploader.upload(prepared, folder);
+        if (settled.compareAndSet(false, true)) {
+            return url;
+        }
+        // The interrupt from discarding must not abort the clean-up call
+        Thread.interrupted();
+        deleteQuietly(url);
+        return null;
+    }
+
+    private String awaitUpload(Future<String> upload, AtomicBoolean settled) {
+        try {
+            return upload.get();
+        } catch (InterruptedException e) {
+            discard(upload, settled);
+            Thread.currentThread().interrupt();
+            throw new ImageUploadException("Interrupted while uploading the image");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ImageUploadException("Failed to upload the image: " + e.getCause().getMessage());
+        }
+    }
+
+    // Interrupts an upload still in flight, which then deletes its own result; a finished one is deleted here
+    private void discard(Future<String> upload, AtomicBoolean settled) {
+        if (settled.compareAndSet(false, true)) {
+            upload.cancel(true);
+            return;
+        }
+        // The upload task settled first and is returning its URL
+        try {
+            deleteQuietly(upload.get());
+        } catch (ExecutionException | CancellationException e) {
+            // The upload failed on its own, so there is nothing to delete
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deleteQuietly(String url) {
+        try {
+            imageUploader.delete(url);
+        } catch (RuntimeException e) {
+            log.warn("[IMAGE-SUBMIT] Could not delete discarded upload {}: {}", url, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+    }
+}
@@ -1,5 +1,6 @@
 package itacademy.pawalert.application.image.service;
 
+import itacademy.pawalert.domain.image.port.inbound.ImagePreprocessor;
 import itacademy.pawalert.domain.image.port.inbound.ImageUploader;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -8,12 +9,14 @@ import org.springframework.web.multipart.MultipartFile;
 public class ImageUploadService {
 
     private final ImageUploader imageUploader;
+    private final ImagePreprocessor imagePreprocessor;
 
-    public ImageUploadService(ImageUploader imageUploader) {
+    public ImageUploadService(ImageUploader imageUploader, ImagePreprocessor imagePreprocessor) {
         this.imageUploader = imageUploader;
+        this.imagePreprocessor = imagePreprocessor;
     }
 
     public String upload(MultipartFile file, String folder) {
-        return imageUploader.upload(file, folder);
+        return imageUploader.upload(imagePreprocessor.prepare(file), folder);
     }
 }
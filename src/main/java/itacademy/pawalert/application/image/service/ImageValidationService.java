@@ -1,6 +1,7 @@
 package itacademy.pawalert.application.image.service;
 
 import itacademy.pawalert.domain.image.model.ImageValidationResult;
+import itacademy.pawalert.domain.image.port.inbound.ImagePreprocessor;
 import itacademy.pawalert.domain.image.port.inbound.ImageValidator;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -9,12 +10,14 @@ import org.springframework.web.multipart.MultipartFile;
 public class ImageValidationService {
 
     private final ImageValidator imageValidator;
+    private final ImagePreprocessor imagePreprocessor;
 
-    public ImageValidationService(ImageValidator imageValidator) {
+    public ImageValidationService(ImageValidator imageValidator, ImagePreprocessor imagePreprocessor) {
         this.imageValidator = imageValidator;
+        this.imagePreprocessor = imagePreprocessor;
     }
 
     public ImageValidationResult validate(MultipartFile file) {
-        return imageValidator.validate(file);
+        return imageValidator.validate(imagePreprocessor.prepare(file));
     }
 }
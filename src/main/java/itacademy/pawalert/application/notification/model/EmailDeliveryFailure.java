@@ -0,0 +1,14 @@
+package itacademy.pawalert.application.notification.model;
+
+/**
+ * A recipient of a bulk send that did not get its message.
+ * {@code index} points into the list given to the sender; {@code retryable} is false when sending again
+ * cannot succeed, such as an address the server rejected as invalid.
+ */
+public record EmailDeliveryFailure(
+        int index,
+        String to,
+        String reason,
+        boolean retryable
+) {
+}
@@ -0,0 +1,11 @@
+package itacademy.pawalert.application.notification.model;
+
+/**
+ * One message of a bulk email send.
+ */
+public record OutgoingEmail(
+        String to,
+        String subject,
+        String htmlBody
+) {
+}
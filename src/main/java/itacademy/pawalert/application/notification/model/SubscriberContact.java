@@ -0,0 +1,23 @@
+package itacademy.pawalert.application.notification.model;
+
+import java.util.UUID;
+
+/**
+ * Delivery details of one alert subscriber, loaded in bulk for the notification fan-out.
+ */
+public record SubscriberContact(
+        UUID userId,
+        String email,
+        boolean emailNotificationsEnabled,
+        String telegramChatId,
+        boolean telegramNotificationsEnabled
+) {
+
+    public boolean wantsEmail() {
+        return emailNotificationsEnabled && email != null && !email.isBlank();
+    }
+
+    public boolean wantsTelegram() {
+        return telegramNotificationsEnabled && telegramChatId != null && !telegramChatId.isBlank();
+    }
+}
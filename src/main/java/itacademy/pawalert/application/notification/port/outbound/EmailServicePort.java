@@ -1,6 +1,17 @@
 package itacademy.pawalert.application.notification.port.outbound;
 
 
+import itacademy.pawalert.application.notification.model.EmailDeliveryFailure;
+import itacademy.pawalert.application.notification.model.OutgoingEmail;
+
+import java.util.List;
+
 public interface EmailServicePort {
     void sendToUser(String email, String subject, String body);
+
+    /**
+     * Sends every message over a single SMTP connection.
+     * Returns the recipients that were not delivered; throws when the batch could not be sent at all.
+     */
+    List<EmailDeliveryFailure> sendAll(List<OutgoingEmail> emails);
 }
@@ -3,8 +3,20 @@ package itacademy.pawalert.application.notification.port.outbound;
 import itacademy.pawalert.domain.alert.model.NotificationChannel;
 import itacademy.pawalert.domain.notification.model.NotificationEvent;
 
+import java.util.List;
+
 public interface NotificationPublisherPort<T extends NotificationEvent> {
     void publish(T event);
 
+    // Adapters that can push several messages in one broker round trip should override this
+    default void publishAll(List<T> events) {
+        events.forEach(this::publish);
+    }
+
+    // Returns only once the broker holds every event; adapters whose publishAll merely buffers must override this
+    default void publishAllConfirmed(List<T> events) {
+        publishAll(events);
+    }
+
     NotificationChannel getChannel();
 }
@@ -1,5 +1,7 @@
 package itacademy.pawalert.application.notification.port.outbound;
 
+import itacademy.pawalert.application.notification.model.SubscriberContact;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -9,4 +11,6 @@ public interface NotificationRepositoryPort {
     List<String> findSubscriberTelegramChatIdsByAlertId(UUID alertId);
 
     List<UUID> findSubscriberUserIdsByAlertId(UUID alertId);
+
+    List<SubscriberContact> findSubscriberContactsByAlertId(UUID alertId);
 }
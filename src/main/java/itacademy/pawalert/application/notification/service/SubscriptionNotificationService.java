@@ -1,35 +1,113 @@
 package itacademy.pawalert.application.notification.service;
 
-import itacademy.pawalert.application.notification.port.inbound.EmailNotificationUseCase;
-import itacademy.pawalert.application.notification.port.inbound.TelegramNotificationUseCase;
+import itacademy.pawalert.application.alert.port.outbound.AlertRepositoryPort;
+import itacademy.pawalert.application.alert.service.AlertNotificationFormatter;
+import itacademy.pawalert.application.exception.AlertNotFoundException;
+import itacademy.pawalert.application.notification.model.SubscriberContact;
+import itacademy.pawalert.application.notification.port.outbound.NotificationPublisherPort;
 import itacademy.pawalert.application.notification.port.outbound.NotificationRepositoryPort;
+import itacademy.pawalert.application.pet.port.inbound.GetPetUseCase;
+import itacademy.pawalert.domain.alert.model.Alert;
 import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.domain.notification.model.NotificationEvent;
+import itacademy.pawalert.domain.pet.model.Pet;
+import itacademy.pawalert.infrastructure.notificationqueues.email.EmailNotificationEvent;
+import itacademy.pawalert.infrastructure.notificationqueues.telegram.TelegramNotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * Fans a status change out to every subscriber of the alert.
+ * <p>
+ * The alert and its pet are loaded once, every subscriber contact comes from a single query and
+ * each message variant is rendered once and shared by every queued event.
+ * <p>
+ * Configuration properties:
+ * - app.notifications.fanout.batch-size: Events handed to the publisher per call (default: 500)
+ */
+@Slf4j
 @Service
 public class SubscriptionNotificationService {
 
-    private final NotificationRepositoryPort notificationRepository;  // Port!
-    private final EmailNotificationUseCase emailUseCase;
-    private final TelegramNotificationUseCase telegramUseCase;
+    private final NotificationRepositoryPort notificationRepository;
+    private final AlertRepositoryPort alertRepository;
+    private final GetPetUseCase getPetUseCase;
+    private final AlertNotificationFormatter formatter;
+    private final NotificationPublisherPort<EmailNotificationEvent> emailPublisher;
+    private final NotificationPublisherPort<TelegramNotificationEvent> telegramPublisher;
+    private final int batchSize;
 
     public SubscriptionNotificationService(NotificationRepositoryPort notificationRepository,
-                                           EmailNotificationUseCase emailUseCase,
-                                           TelegramNotificationUseCase telegramUseCase) {
+                                           AlertRepositoryPort alertRepository,
+                                           GetPetUseCase getPetUseCase,
+                                           AlertNotificationFormatter formatter,
+                                           NotificationPublisherPort<EmailNotificationEvent> emailPublisher,
+                                           NotificationPublisherPort<TelegramNotificationEvent> telegramPublisher,
+                                           @Value("${app.notifications.fanout.batch-size:500}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Fan-out batch size must be positive: " + batchSize);
+        }
         this.notificationRepository = notificationRepository;
-        this.emailUseCase = emailUseCase;
-        this.telegramUseCase = telegramUseCase;
+        this.alertRepository = alertRepository;
+        this.getPetUseCase = getPetUseCase;
+        this.formatter = formatter;
+        this.emailPublisher = emailPublisher;
+        this.telegramPublisher = telegramPublisher;
+        this.batchSize = batchSize;
     }
 
     public void notifySubscribers(UUID alertId, StatusNames newStatus) {
-        List<UUID> userIds = notificationRepository.findSubscriberUserIdsByAlertId(alertId);
+        notifySubscribers(alertId, newStatus, newStatus);
+    }
+
+    public void notifySubscribers(UUID alertId, StatusNames oldStatus, StatusNames newStatus) {
+        List<SubscriberContact> contacts = notificationRepository.findSubscriberContactsByAlertId(alertId);
+        List<SubscriberContact> emailRecipients = contacts.stream().filter(SubscriberContact::wantsEmail).toList();
+        List<SubscriberContact> telegramRecipients = contacts.stream().filter(SubscriberContact::wantsTelegram).toList();
+
+        if (emailRecipients.isEmpty() && telegramRecipients.isEmpty()) {
+            log.debug("[FAN-OUT] No subscribers to notify for alert {}", alertId);
+            return;
+        }
+
+        Alert alert = alertRepository.findById(alertId)
+                .orElseThrow(() -> new AlertNotFoundException("Alert not found: " + alertId));
+        Pet pet = getPetUseCase.getPetById(alert.getPetId());
+
+        if (!emailRecipients.isEmpty()) {
+            String subject = formatter.formatEmailSubject(newStatus);
+            String body = formatter.formatEmailBody(alert, pet, oldStatus, newStatus);
+
+            List<EmailNotificationEvent> events = emailRecipients.stream()
+                    .map(contact -> EmailNotificationEvent.create(
+                            contact.userId(), alertId, newStatus, contact.email(), subject, body))
+                    .toList();
+            publishInBatches(events, emailPublisher);
+        }
+
+        if (!telegramRecipients.isEmpty()) {
+            String message = formatter.formatTelegramMessage(alert, pet, newStatus);
+            String photoUrl = pet.getPetImage() != null ? pet.getPetImage().value() : null;
+
+            List<TelegramNotificationEvent> events = telegramRecipients.stream()
+                    .map(contact -> TelegramNotificationEvent.create(
+                            contact.userId(), alertId, newStatus, contact.telegramChatId(), message, photoUrl))
+                    .toList();
+            publishInBatches(events, telegramPublisher);
+        }
+
+        log.info("[FAN-OUT] Alert {} status {}: published {} email and {} telegram notifications",
+                alertId, newStatus, emailRecipients.size(), telegramRecipients.size());
+    }
 
-        userIds.forEach(userId -> {
-            emailUseCase.notifyStatusChange(userId, alertId, newStatus);
-            telegramUseCase.notifyStatusChange(userId, alertId, newStatus);
-        });
+    // Confirmed publishing: the caller acknowledges its trigger message once this returns
+    private <T extends NotificationEvent> void publishInBatches(List<T> events, NotificationPublisherPort<T> publisher) {
+        for (int from = 0; from < events.size(); from += batchSize) {
+            publisher.publishAllConfirmed(events.subList(from, Math.min(from + batchSize, events.size())));
+        }
     }
 }
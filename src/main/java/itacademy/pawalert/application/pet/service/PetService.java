@@ -5,6 +5,7 @@ import itacademy.pawalert.application.pet.port.inbound.*;
 import itacademy.pawalert.application.pet.port.outbound.PetRepositoryPort;
 import itacademy.pawalert.application.user.port.outbound.UserRepositoryPort;
 import itacademy.pawalert.domain.image.model.PetAnalysisResult;
+import itacademy.pawalert.domain.image.port.inbound.ImagePreprocessor;
 import itacademy.pawalert.domain.image.port.inbound.PetImageAnalyzer;
 import itacademy.pawalert.domain.pet.exception.PetNotFoundException;
 import itacademy.pawalert.domain.pet.model.*;
@@ -34,14 +35,17 @@ public class PetService implements
     private final PetRepositoryPort petRepositoryPort;
     private final UserRepositoryPort userRepositoryPort;
     private final PetImageAnalyzer petImageAnalyzer;
+    private final ImagePreprocessor imagePreprocessor;
 
 
     public PetService(PetRepositoryPort petRepositoryPort,
                       UserRepositoryPort userRepositoryPort,
-                      PetImageAnalyzer petImageAnalyzer) {
+                      PetImageAnalyzer petImageAnalyzer,
+                      ImagePreprocessor imagePreprocessor) {
         this.petRepositoryPort = petRepositoryPort;
         this.userRepositoryPort = userRepositoryPort;
         this.petImageAnalyzer = petImageAnalyzer;
+        this.imagePreprocessor = imagePreprocessor;
     }
 
 
@@ -169,7 +173,7 @@ public class PetService implements
     public ImageValidationResponse validateImage(MultipartFile file) {
         try {
             // Analyze the image
-            PetAnalysisResult result = petImageAnalyzer.analyze(file.getBytes());
+            PetAnalysisResult result = petImageAnalyzer.analyze(imagePreprocessor.prepare(file).getBytes());
 
             // Validate the image
             if (!result.isValidPet()) {
@@ -0,0 +1,10 @@
+package itacademy.pawalert.domain.image.model;
+
+import java.util.List;
+
+public record ImageAnalysisResult(
+        List<LabelResult> labels,
+        String detectedText,
+        ColorResult colors,
+        SafetyResult safety) {
+}
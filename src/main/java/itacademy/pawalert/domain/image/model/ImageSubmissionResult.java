@@ -0,0 +1,12 @@
+package itacademy.pawalert.domain.image.model;
+
+/**
+ * Outcome of analyzing and uploading a pet photo together.
+ * imageUrl is null when the photo was rejected as unsafe and its upload discarded.
+ */
+public record ImageSubmissionResult(PetAnalysisResult analysis, String imageUrl) {
+
+    public boolean isAccepted() {
+        return imageUrl != null;
+    }
+}
@@ -1,4 +1,15 @@
 package itacademy.pawalert.domain.image.model;
 
 public record SafetyResult(boolean isSafe, String status) {
+
+    public static final String NOT_CHECKED = "NOT_CHECKED";
+
+    // No safety check ran; never to be read as safe
+    public static SafetyResult notChecked() {
+        return new SafetyResult(false, NOT_CHECKED);
+    }
+
+    public boolean isChecked() {
+        return !NOT_CHECKED.equals(status);
+    }
 }
@@ -0,0 +1,11 @@
+package itacademy.pawalert.domain.image.port.inbound;
+
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImagePreprocessor {
+    /**
+     * Returns the upload normalized for analysis and storage: upright, downscaled and re-encoded.
+     * Preparing an already prepared file returns it unchanged.
+     */
+    MultipartFile prepare(MultipartFile file);
+}
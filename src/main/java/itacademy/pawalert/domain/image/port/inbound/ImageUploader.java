@@ -4,4 +4,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 public interface ImageUploader {
     String upload(MultipartFile file, String folder);
+
+    void delete(String imageUrl);
 }
\ No newline at end of file
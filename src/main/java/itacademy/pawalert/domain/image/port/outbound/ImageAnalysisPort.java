@@ -2,6 +2,7 @@ package itacademy.pawalert.domain.image.port.outbound;
 
 import itacademy.pawalert.domain.image.model.ColorResult;
 import itacademy.pawalert.domain.image.model.DetectedObject;
+import itacademy.pawalert.domain.image.model.ImageAnalysisResult;
 import itacademy.pawalert.domain.image.model.LabelResult;
 import itacademy.pawalert.domain.image.model.SafetyResult;
 
@@ -17,5 +18,11 @@ public interface ImageAnalysisPort {
     SafetyResult checkSafety(byte[] imageBytes);
 
     List<DetectedObject> detectObjects(byte[] imageBytes);
+
+    /**
+     * Labels, text, colors and safety for one image, obtained from a single analysis call
+     * instead of one call per feature.
+     */
+    ImageAnalysisResult analyzeAll(byte[] imageBytes);
 }
 
@@ -0,0 +1,13 @@
+package itacademy.pawalert.domain.image.port.outbound;
+
+import itacademy.pawalert.domain.image.model.ImageAnalysisResult;
+
+import java.util.Optional;
+
+/**
+ * In-process first look at an image, consulted before the remote analysis.
+ * Answers only the cases it is confident about; an empty result means the image must be escalated.
+ */
+public interface LocalImageClassifier {
+    Optional<ImageAnalysisResult> classify(byte[] imageBytes);
+}
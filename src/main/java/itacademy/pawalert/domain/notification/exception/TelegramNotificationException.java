@@ -3,15 +3,24 @@ package itacademy.pawalert.domain.notification.exception;
 import itacademy.pawalert.domain.notification.model.NotificationFailureReason;
 import lombok.Getter;
 
+import java.time.Duration;
+
 @Getter
 public class TelegramNotificationException extends RuntimeException {
     private final String chatId;
     private final NotificationFailureReason reason;
+    // Only set for RATE_LIMITED: how long Telegram (or our own limiter) asked us to wait
+    private final Duration retryAfter;
 
-    public TelegramNotificationException(String chatId, NotificationFailureReason reason, Throwable cause) {
+    public TelegramNotificationException(String chatId, NotificationFailureReason reason, Duration retryAfter, Throwable cause) {
         super(buildMessage(chatId, reason), cause);
         this.chatId = chatId;
         this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+    public TelegramNotificationException(String chatId, NotificationFailureReason reason, Throwable cause) {
+        this(chatId, reason, null, cause);
     }
 
     public TelegramNotificationException(String chatId, NotificationFailureReason reason) {
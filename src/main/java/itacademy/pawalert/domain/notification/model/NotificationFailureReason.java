@@ -8,6 +8,7 @@ public enum NotificationFailureReason  {
     BOT_BLOCKED("Bot blocked"),
     INVALID_CHAT_ID("Invalid chat Id"),
     NETWORK_ERROR("Network error"),
+    RATE_LIMITED("Rate limited"),
     UNKNOWN("Unknown");
 
     private final String value;
@@ -0,0 +1,93 @@
+package itacademy.pawalert.infrastructure.alert;
+
+import itacademy.pawalert.application.alert.service.AlertOutboxRelay;
+import itacademy.pawalert.domain.alert.model.AlertCreatedEvent;
+import itacademy.pawalert.domain.alert.model.AlertStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the outbox relay on a background thread.
+ * <p>
+ * A commit on this node starts a run right away, so events normally reach the broker within
+ * milliseconds. The periodic poll covers what that misses: events committed on a node that died
+ * before relaying them, and events that failed and wait for a retry. Published events are purged
+ * on the same thread, so a purge never runs alongside a relay run of this node.
+ * <p>
+ * Configuration properties:
+ * - app.alerts.outbox.poll-interval-ms: Time between two polls of the outbox (default: 1000)
+ * - app.alerts.outbox.purge-interval-ms: Time between two purges of published events (default: 3600000)
+ */
+@Slf4j
+@Component
+public class AlertOutboxRelayScheduler {
+
+    private final AlertOutboxRelay relay;
+    private final long pollIntervalMs;
+    private final long purgeIntervalMs;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("outbox-relay").factory());
+    private final AtomicBoolean relayRequested = new AtomicBoolean();
+
+    public AlertOutboxRelayScheduler(AlertOutboxRelay relay,
+                                     @Value("${app.alerts.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+                                     @Value("${app.alerts.outbox.purge-interval-ms:3600000}") long purgeIntervalMs) {
+        this.relay = relay;
+        this.pollIntervalMs = pollIntervalMs;
+        this.purgeIntervalMs = purgeIntervalMs;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlertCreated(AlertCreatedEvent event) {
+        requestRelay();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAlertStatusChanged(AlertStatusChangedEvent event) {
+        requestRelay();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        executor.scheduleWithFixedDelay(this::requestRelay, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::purgePublished, purgeIntervalMs, purgeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Commits arriving while a run is queued are covered by it, so they do not queue another
+    private void requestRelay() {
+        if (relayRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                relayRequested.set(false);
+                try {
+                    relay.relayPending();
+                } catch (Exception e) {
+                    log.error("[OUTBOX] Relay run failed: {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    private void purgePublished() {
+        try {
+            relay.purgePublished();
+        } catch (Exception e) {
+            log.error("[OUTBOX] Purge of published events failed: {}", e.getMessage(), e);
+        }
+    }
+}
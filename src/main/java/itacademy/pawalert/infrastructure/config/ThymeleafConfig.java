@@ -4,18 +4,35 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.StringTemplateResolver;
 
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 public class ThymeleafConfig {
 
     @Bean
     public SpringTemplateEngine templateEngine() {
         SpringTemplateEngine engine = new SpringTemplateEngine();
+
+        // Named templates under templates/ are parsed once and kept in the engine's cache
+        ClassLoaderTemplateResolver fileResolver = new ClassLoaderTemplateResolver();
+        fileResolver.setPrefix("templates/");
+        fileResolver.setSuffix(".html");
+        fileResolver.setTemplateMode(TemplateMode.HTML);
+        fileResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        fileResolver.setCacheable(true);
+        fileResolver.setCheckExistence(true);
+        fileResolver.setOrder(1);
+
         StringTemplateResolver resolver = new StringTemplateResolver();
         resolver.setTemplateMode(TemplateMode.HTML);
         resolver.setCacheable(false);
-        engine.setTemplateResolver(resolver);
+        resolver.setOrder(2);
+
+        engine.addTemplateResolver(fileResolver);
+        engine.addTemplateResolver(resolver);
         return engine;
     }
 }
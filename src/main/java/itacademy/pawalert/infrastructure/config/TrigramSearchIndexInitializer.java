@@ -0,0 +1,120 @@
+package itacademy.pawalert.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the pg_trgm GIN indexes that back the alert text search filters.
+ * <p>
+ * The search specifications filter with {@code lower(column) LIKE '%term%'}, which a btree index
+ * can never serve. On PostgreSQL a GIN index over the same {@code lower(column)} expression with
+ * {@code gin_trgm_ops} answers those predicates directly, so the queries stay unchanged and
+ * other databases (H2 in tests) simply run them as plain LIKE scans.
+ * <p>
+ * The indexes are built with {@code CREATE INDEX CONCURRENTLY}, so a startup on a populated
+ * database does not block writes to alerts and pets. Each statement runs on its own auto-commit
+ * connection, since PostgreSQL refuses a concurrent build inside a transaction. A concurrent build
+ * that fails leaves an invalid index behind, which is dropped so the next startup can retry it.
+ * <p>
+ * Configuration properties:
+ * - app.search.trigram-indexes.enabled: Create the indexes on startup (default: true)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.search.trigram-indexes.enabled", havingValue = "true", matchIfMissing = true)
+public class TrigramSearchIndexInitializer implements CommandLineRunner {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("idx_alerts_title_trgm", "alerts USING gin (lower(title) gin_trgm_ops)");
+        INDEXES.put("idx_pets_official_name_trgm", "pets USING gin (lower(pet_offical_name) gin_trgm_ops)");
+        INDEXES.put("idx_pets_working_name_trgm", "pets USING gin (lower(pet_working_name) gin_trgm_ops)");
+        INDEXES.put("idx_pets_breed_trgm", "pets USING gin (lower(pet_breed) gin_trgm_ops)");
+        INDEXES.put("idx_pets_species_lower", "pets (lower(pet_species))");
+    }
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TrigramSearchIndexInitializer(DataSource dataSource) {
+        this(dataSource, new JdbcTemplate(dataSource));
+    }
+
+    TrigramSearchIndexInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!isPostgreSql()) {
+            log.info("[SEARCH-INDEX] Database is not PostgreSQL, text search falls back to LIKE scans");
+            return;
+        }
+
+        List<String> failed = createIndexes();
+        if (failed.isEmpty()) {
+            log.info("[SEARCH-INDEX] Trigram search indexes are in place");
+        } else {
+            log.warn("[SEARCH-INDEX] {} of {} search index statements failed, text search stays unindexed for: {}",
+                    failed.size(), INDEXES.size() + 1, failed);
+        }
+    }
+
+    /**
+     * Applies the extension and index statements, returning the ones that failed.
+     */
+    List<String> createIndexes() {
+        List<String> failed = new ArrayList<>();
+        if (!apply(EXTENSION)) {
+            // Without pg_trgm the GIN indexes cannot be built either
+            failed.add(EXTENSION);
+        }
+        for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+            String name = index.getKey();
+            if (!apply("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + index.getValue())) {
+                failed.add(name);
+                apply("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+            }
+        }
+        return failed;
+    }
+
+    private boolean apply(String statement) {
+        try {
+            jdbcTemplate.execute(statement);
+            return true;
+        } catch (Exception e) {
+            // Missing privileges for the extension must not prevent startup; search still works unindexed
+            log.warn("[SEARCH-INDEX] Could not apply '{}': {}", statement, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isPostgreSql() {
+        try (Connection connection = dataSource.getConnection()) {
+            return POSTGRESQL.equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("[SEARCH-INDEX] Could not detect database product: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package itacademy.pawalert.infrastructure.image.cache;
+
+import itacademy.pawalert.domain.image.model.ImageValidationResult;
+import itacademy.pawalert.domain.image.port.inbound.ImageValidator;
+import itacademy.pawalert.infrastructure.image.google.GoogleVisionImageValidator;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * Serves repeated validations of the same photo from {@link ImageAnalysisCache}.
+ */
+@Primary
+@Service
+public class CachingImageValidator implements ImageValidator {
+
+    private final GoogleVisionImageValidator delegate;
+    private final ImageAnalysisCache cache;
+
+    public CachingImageValidator(GoogleVisionImageValidator delegate, ImageAnalysisCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public ImageValidationResult validate(MultipartFile file) {
+        try {
+            return cache.get(file.getBytes(), ImageValidationResult.class, () -> delegate.validate(file));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to validate image", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package itacademy.pawalert.infrastructure.image.cache;
+
+import itacademy.pawalert.domain.image.model.PetAnalysisResult;
+import itacademy.pawalert.domain.image.model.SpeciesClassificationResult;
+import itacademy.pawalert.domain.image.port.inbound.PetImageAnalyzer;
+import itacademy.pawalert.infrastructure.image.google.GoogleVisionPetAnalyzer;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves repeated analyses of the same photo from {@link ImageAnalysisCache}.
+ */
+@Primary
+@Component
+public class CachingPetImageAnalyzer implements PetImageAnalyzer {
+
+    private final GoogleVisionPetAnalyzer delegate;
+    private final ImageAnalysisCache cache;
+
+    public CachingPetImageAnalyzer(GoogleVisionPetAnalyzer delegate, ImageAnalysisCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public PetAnalysisResult analyze(byte[] imageBytes) {
+        return cache.get(imageBytes, PetAnalysisResult.class, () -> delegate.analyze(imageBytes));
+    }
+
+    @Override
+    public boolean isPetImage(byte[] imageBytes) {
+        return delegate.isPetImage(imageBytes);
+    }
+
+    @Override
+    public SpeciesClassificationResult classifyAnimal(byte[] imageBytes) {
+        return delegate.classifyAnimal(imageBytes);
+    }
+}
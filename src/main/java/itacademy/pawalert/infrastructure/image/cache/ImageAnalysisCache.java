@@ -0,0 +1,157 @@
+package itacademy.pawalert.infrastructure.image.cache;
+
+import itacademy.pawalert.infrastructure.persistence.imagecache.ImageAnalysisCacheEntity;
+import itacademy.pawalert.infrastructure.persistence.imagecache.ImageAnalysisCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Analysis results keyed by the SHA-256 of the image bytes, so the same photo uploaded again
+ * costs a hash instead of another Google Vision call.
+ * <p>
+ * Results live in a size-bounded LRU map. When the persistent tier is enabled they are also
+ * stored in the image_analysis_cache table, which survives restarts and is shared by every node.
+ * A failing table never fails the analysis; the result is simply recomputed. Only results are
+ * cached: a loader that throws, e.g. on a Vision error, leaves nothing behind and the same image is
+ * analyzed again on its next upload. Stored rows past the TTL are deleted by
+ * {@link ImageAnalysisCachePurgeScheduler}.
+ * <p>
+ * Configuration properties:
+ * - app.images.analysis-cache.max-entries: Results kept in memory (default: 512)
+ * - app.images.analysis-cache.persistent: Also keep results in the database (default: false)
+ * - app.images.analysis-cache.ttl-days: Age after which a stored result is recomputed (default: 30)
+ */
+@Slf4j
+@Component
+public class ImageAnalysisCache {
+
+    private final ImageAnalysisCacheRepository repository;
+    private final JsonMapper jsonMapper;
+    private final boolean persistent;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Object> entries;
+
+    @Autowired
+    public ImageAnalysisCache(ImageAnalysisCacheRepository repository,
+                              JsonMapper jsonMapper,
+                              @Value("${app.images.analysis-cache.max-entries:512}") int maxEntries,
+                              @Value("${app.images.analysis-cache.persistent:false}") boolean persistent,
+                              @Value("${app.images.analysis-cache.ttl-days:30}") long ttlDays) {
+        this(repository, jsonMapper, maxEntries, persistent, Duration.ofDays(ttlDays), Clock.systemDefaultZone());
+    }
+
+    ImageAnalysisCache(ImageAnalysisCacheRepository repository, JsonMapper jsonMapper,
+                       int maxEntries, boolean persistent, Duration ttl, Clock clock) {
+        this.repository = repository;
+        this.jsonMapper = jsonMapper;
+        this.persistent = persistent;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // Concurrent misses for the same image may both compute; the results are identical
+    public <T> T get(byte[] imageBytes, Class<T> type, Supplier<T> loader) {
+        String key = type.getSimpleName() + ":" + sha256(imageBytes);
+
+        synchronized (entries) {
+            Object cached = entries.get(key);
+            if (cached != null) {
+                log.debug("[IMAGE-CACHE] Memory hit for {}", key);
+                return type.cast(cached);
+            }
+        }
+
+        Optional<T> stored = persistent ? readStored(key, type) : Optional.empty();
+        if (stored.isPresent()) {
+            log.debug("[IMAGE-CACHE] Database hit for {}", key);
+            remember(key, stored.get());
+            return stored.get();
+        }
+
+        T result = loader.get();
+        if (result == null) {
+            return null;
+        }
+        remember(key, result);
+        if (persistent) {
+            store(key, type, result);
+        }
+        return result;
+    }
+
+    // Returns how many stored results were past the TTL and deleted
+    public int purgeExpired() {
+        if (!persistent) {
+            return 0;
+        }
+        try {
+            int purged = repository.deleteCreatedBefore(LocalDateTime.now(clock).minus(ttl));
+            if (purged > 0) {
+                log.info("[IMAGE-CACHE] Purged {} expired results", purged);
+            }
+            return purged;
+        } catch (DataAccessException e) {
+            log.warn("[IMAGE-CACHE] Could not purge expired results: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void remember(String key, Object result) {
+        synchronized (entries) {
+            entries.put(key, result);
+        }
+    }
+
+    private <T> Optional<T> readStored(String key, Class<T> type) {
+        try {
+            LocalDateTime oldest = LocalDateTime.now(clock).minus(ttl);
+            return repository.findById(key)
+                    .filter(entity -> entity.getCreatedAt().isAfter(oldest))
+                    .map(entity -> jsonMapper.readValue(entity.getPayload(), type));
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("[IMAGE-CACHE] Could not read {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String key, Class<?> type, Object result) {
+        try {
+            repository.save(new ImageAnalysisCacheEntity(key, type.getSimpleName(),
+                    jsonMapper.writeValueAsString(result), LocalDateTime.now(clock)));
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("[IMAGE-CACHE] Could not store {}: {}", key, e.getMessage());
+        }
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JDK ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
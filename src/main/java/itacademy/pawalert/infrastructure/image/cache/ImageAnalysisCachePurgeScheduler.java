@@ -0,0 +1,53 @@
+package itacademy.pawalert.infrastructure.image.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes stored image analysis results once they are past the cache TTL, so the
+ * image_analysis_cache table does not grow with every photo ever uploaded.
+ * <p>
+ * Configuration properties:
+ * - app.images.analysis-cache.purge-interval-ms: Time between two purges (default: 3600000)
+ */
+@Slf4j
+@Component
+public class ImageAnalysisCachePurgeScheduler {
+
+    private final ImageAnalysisCache cache;
+    private final long purgeIntervalMs;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("image-cache-purge").factory());
+
+    public ImageAnalysisCachePurgeScheduler(ImageAnalysisCache cache,
+                                            @Value("${app.images.analysis-cache.purge-interval-ms:3600000}") long purgeIntervalMs) {
+        this.cache = cache;
+        this.purgeIntervalMs = purgeIntervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPurging() {
+        executor.scheduleWithFixedDelay(this::purge, 0, purgeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void purge() {
+        try {
+            cache.purgeExpired();
+        } catch (Exception e) {
+            log.error("[IMAGE-CACHE] Purge failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,33 +1,62 @@
 package itacademy.pawalert.infrastructure.image.cloudinary;
 
 import com.cloudinary.Cloudinary;
+import itacademy.pawalert.domain.image.exception.ImageUploadException;
 import itacademy.pawalert.domain.image.port.inbound.ImageUploader;
+import itacademy.pawalert.infrastructure.image.preprocessing.PreparedImageFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Uploads pet images to Cloudinary without staging them on disk.
+ * <p>
+ * Prepared images and small uploads are sent straight from their in-memory buffer. Anything larger
+ * is streamed from the request in chunks with Cloudinary's chunked upload, so it is never held in
+ * memory as a whole. A semaphore bounds how many uploads run at once; callers wait up to
+ * acquire-timeout-ms for a slot before the upload is refused.
+ * <p>
+ * Configuration properties:
+ * - app.images.upload.max-concurrent: Uploads in flight at once (default: 8)
+ * - app.images.upload.acquire-timeout-ms: Wait for a free upload slot (default: 10000)
+ * - app.images.upload.chunk-size-bytes: Chunk size for streamed uploads, at least 5 MB (default: 6291456)
+ */
+@Slf4j
 @Service
 public class CloudinaryUploadService implements ImageUploader {
 
+    // .../image/upload/[v<version>/]<public id>.<format>
+    private static final Pattern PUBLIC_ID = Pattern.compile("/image/upload/(?:v\\d+/)?(.+?)(?:\\.[^./]+)?$");
+
     private final Cloudinary cloudinary;
+    private final Semaphore uploadSlots;
+    private final long acquireTimeoutMs;
+    private final int chunkSize;
 
     // Inject Cloudinary by constructor
-    public CloudinaryUploadService(Cloudinary cloudinary) {
+    public CloudinaryUploadService(Cloudinary cloudinary,
+                                   @Value("${app.images.upload.max-concurrent:8}") int maxConcurrent,
+                                   @Value("${app.images.upload.acquire-timeout-ms:10000}") long acquireTimeoutMs,
+                                   @Value("${app.images.upload.chunk-size-bytes:6291456}") int chunkSize) {
         this.cloudinary = cloudinary;
+        this.uploadSlots = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.chunkSize = chunkSize;
     }
 
     public String upload(MultipartFile file, String folder) {
+        acquireSlot();
         try {
-            //Create the temporal file
-            byte[] imageBytes = file.getBytes();
-            File tempFile = File.createTempFile("upload", ".tmp");
-            Files.write(tempFile.toPath(), imageBytes);
-
             // Upload options
             Map<String, Object> options = new HashMap<>();
             options.put("folder", folder);  // Folder in Cloudinary
@@ -37,16 +66,49 @@ public class CloudinaryUploadService implements ImageUploader {
             options.put("expires", System.currentTimeMillis() + 31536000000L);
 
             // Upload
-            Map result = cloudinary.uploader().upload(tempFile, options);
-
-            // Delete the temporal file
-            tempFile.delete();
+            Map result;
+            if (file instanceof PreparedImageFile || file.getSize() <= chunkSize) {
+                // A prepared image hands over its buffer without copying
+                result = cloudinary.uploader().upload(file.getBytes(), options);
+            } else {
+                try (InputStream content = file.getInputStream()) {
+                    result = cloudinary.uploader().uploadLarge(content, options, chunkSize);
+                }
+            }
 
             // Returns the URL
             return (String) result.get("secure_url");
         } catch (IOException e) {
             throw new RuntimeException("Failed to upload to Cloudinary", e);
+        } finally {
+            uploadSlots.release();
         }
     }
-}
 
+    private void acquireSlot() {
+        try {
+            if (!uploadSlots.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("[CLOUDINARY] No upload slot free after {} ms", acquireTimeoutMs);
+                throw new ImageUploadException("Too many image uploads in progress, please try again");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageUploadException("Interrupted while waiting to upload the image");
+        }
+    }
+
+    // Best effort: a leftover image only costs storage, so failures are logged rather than thrown
+    public void delete(String imageUrl) {
+        Matcher matcher = PUBLIC_ID.matcher(imageUrl);
+        if (!matcher.find()) {
+            log.warn("[CLOUDINARY] Cannot derive public id from {}", imageUrl);
+            return;
+        }
+        try {
+            cloudinary.uploader().destroy(matcher.group(1), Map.of("resource_type", "image", "invalidate", true));
+            log.info("[CLOUDINARY] Deleted {}", matcher.group(1));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[CLOUDINARY] Could not delete {}: {}", imageUrl, e.getMessage());
+        }
+    }
+}
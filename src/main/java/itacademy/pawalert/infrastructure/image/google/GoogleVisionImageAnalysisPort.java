@@ -3,6 +3,7 @@ package itacademy.pawalert.infrastructure.image.google;
 import com.google.cloud.vision.v1.*;
 import com.google.protobuf.ByteString;
 import com.google.type.Color;
+import itacademy.pawalert.domain.image.exception.ImageProcessingException;
 import itacademy.pawalert.domain.image.model.*;
 import itacademy.pawalert.domain.image.port.outbound.ImageAnalysisPort;
 import itacademy.pawalert.domain.image.service.PetColorClassifier;
@@ -35,21 +36,52 @@ public class GoogleVisionImageAnalysisPort implements ImageAnalysisPort {
     public List<LabelResult> detectLabels(byte[] imageBytes) {
         log.debug("Detectando etiquetas en la imagen");
 
-        ByteString byteString = ByteString.copyFrom(imageBytes);
-        Image image = Image.newBuilder().setContent(byteString).build();
+        return toLabels(annotate(imageBytes, Feature.Type.LABEL_DETECTION));
+    }
 
-        Feature labelDetection = Feature.newBuilder()
-                .setType(Feature.Type.LABEL_DETECTION)
-                .build();
+    @Override
+    public String detectText(byte[] imageBytes) {
+        log.debug("Detecting test on the image");
 
-        AnnotateImageRequest request = AnnotateImageRequest.newBuilder()
-                .addFeatures(labelDetection)
-                .setImage(image)
-                .build();
+        return toText(annotate(imageBytes, Feature.Type.TEXT_DETECTION));
+    }
+
+    @Override
+    public ImageAnalysisResult analyzeAll(byte[] imageBytes) {
+        log.debug("Analyzing labels, text, colors and safety in a single request");
+
+        AnnotateImageResponse response = annotate(imageBytes,
+                Feature.Type.LABEL_DETECTION,
+                Feature.Type.TEXT_DETECTION,
+                Feature.Type.IMAGE_PROPERTIES,
+                Feature.Type.SAFE_SEARCH_DETECTION);
+
+        return new ImageAnalysisResult(
+                toLabels(response),
+                toText(response),
+                toColors(response),
+                toSafety(response)
+        );
+    }
 
-        var response = imageAnnotatorClient.batchAnnotateImages(List.of(request))
+    private AnnotateImageResponse annotate(byte[] imageBytes, Feature.Type... featureTypes) {
+        Image image = Image.newBuilder().setContent(ByteString.copyFrom(imageBytes)).build();
+
+        AnnotateImageRequest.Builder request = AnnotateImageRequest.newBuilder().setImage(image);
+        for (Feature.Type type : featureTypes) {
+            request.addFeatures(Feature.newBuilder().setType(type).build());
+        }
+
+        AnnotateImageResponse response = imageAnnotatorClient.batchAnnotateImages(List.of(request.build()))
                 .getResponsesList().get(0);
+        // An error response carries no annotations; reading it as "no labels" would reject the image
+        if (response.hasError()) {
+            throw new ImageProcessingException("Vision analysis failed: " + response.getError().getMessage(), null);
+        }
+        return response;
+    }
 
+    private List<LabelResult> toLabels(AnnotateImageResponse response) {
         return response.getLabelAnnotationsList().stream()
                 .map(annotation -> new LabelResult(
                         annotation.getDescription(),
@@ -57,26 +89,8 @@ public class GoogleVisionImageAnalysisPort implements ImageAnalysisPort {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public String detectText(byte[] imageBytes) {
-        log.debug("Detecting test on the image");
-
-        ByteString byteString = ByteString.copyFrom(imageBytes);
-        Image image = Image.newBuilder().setContent(byteString).build();
-
-        Feature textDetection = Feature.newBuilder()
-                .setType(Feature.Type.TEXT_DETECTION)
-                .build();
-
-        AnnotateImageRequest request = AnnotateImageRequest.newBuilder()
-                .addFeatures(textDetection)
-                .setImage(image)
-                .build();
-
-        var response = imageAnnotatorClient.batchAnnotateImages(List.of(request))
-                .getResponsesList().get(0);
-
-        if (response.hasError() || response.getTextAnnotationsList().isEmpty()) {
+    private String toText(AnnotateImageResponse response) {
+        if (response.getTextAnnotationsList().isEmpty()) {
             return "";
         }
 
@@ -148,21 +162,10 @@ public class GoogleVisionImageAnalysisPort implements ImageAnalysisPort {
                 detectedObject.name(), detectedObject.boundingBox()));
 
         // Obtaining the principal colors
-        ByteString byteString = ByteString.copyFrom(imageBytes);
-        Image image = Image.newBuilder().setContent(byteString).build();
-
-        Feature imageProperties = Feature.newBuilder()
-                .setType(Feature.Type.IMAGE_PROPERTIES)
-                .build();
-
-        AnnotateImageRequest request = AnnotateImageRequest.newBuilder()
-                .addFeatures(imageProperties)
-                .setImage(image)
-                .build();
-
-        var response = imageAnnotatorClient.batchAnnotateImages(List.of(request))
-                .getResponsesList().get(0);
+        return toColors(annotate(imageBytes, Feature.Type.IMAGE_PROPERTIES));
+    }
 
+    private ColorResult toColors(AnnotateImageResponse response) {
         var colors = response.getImagePropertiesAnnotation()
                 .getDominantColors().getColorsList();
 
@@ -216,21 +219,10 @@ public class GoogleVisionImageAnalysisPort implements ImageAnalysisPort {
 
     @Override
     public SafetyResult checkSafety(byte[] imageBytes) {
-        ByteString byteString = ByteString.copyFrom(imageBytes);
-        Image image = Image.newBuilder().setContent(byteString).build();
-
-        Feature safeSearch = Feature.newBuilder()
-                .setType(Feature.Type.SAFE_SEARCH_DETECTION)
-                .build();
-
-        AnnotateImageRequest request = AnnotateImageRequest.newBuilder()
-                .addFeatures(safeSearch)
-                .setImage(image)
-                .build();
-
-        var response = imageAnnotatorClient.batchAnnotateImages(List.of(request))
-                .getResponsesList().get(0);
+        return toSafety(annotate(imageBytes, Feature.Type.SAFE_SEARCH_DETECTION));
+    }
 
+    private SafetyResult toSafety(AnnotateImageResponse response) {
         SafeSearchAnnotation safeAnnotation = response.getSafeSearchAnnotation();
 
         boolean isSafe = !isLikelyOrHigher(safeAnnotation.getAdult()) &&
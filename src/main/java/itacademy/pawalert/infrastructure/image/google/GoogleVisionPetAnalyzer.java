@@ -59,7 +59,9 @@ public class GoogleVisionPetAnalyzer implements PetImageAnalyzer {
     public PetAnalysisResult analyze(byte[] imageBytes) {
         log.debug("Initializing pet image analysis");
 
-        List<LabelResult> labels = imageAnalysisPort.detectLabels(imageBytes);
+        // One Vision round trip for every feature; the results are split out below
+        ImageAnalysisResult analysis = imageAnalysisPort.analyzeAll(imageBytes);
+        List<LabelResult> labels = analysis.labels();
 
         ImageTypeResult imageType = imageTypeClassifier.classify(labels);
 
@@ -72,9 +74,9 @@ public class GoogleVisionPetAnalyzer implements PetImageAnalyzer {
             );
         }
 
-        String detectedText = imageAnalysisPort.detectText(imageBytes);
-        ColorResult colors = imageAnalysisPort.detectColors(imageBytes);
-        SafetyResult safety = imageAnalysisPort.checkSafety(imageBytes);
+        String detectedText = analysis.detectedText();
+        ColorResult colors = analysis.colors();
+        SafetyResult safety = analysis.safety();
 
         SpeciesClassificationResult animalResult = classifyAnimalFromLabels(labels);
 
@@ -3,6 +3,7 @@ package itacademy.pawalert.infrastructure.image.google;
 import com.google.cloud.vision.v1.*;
 import com.google.protobuf.ByteString;
 import com.google.type.Color;
+import itacademy.pawalert.domain.image.exception.ImageProcessingException;
 import itacademy.pawalert.domain.image.model.ContentSafetyStatus;
 import itacademy.pawalert.domain.image.model.ImageValidationResult;
 import itacademy.pawalert.domain.image.model.SpeciesClassificationResult;
@@ -48,6 +49,10 @@ public class GoogleVisionService {
         var batchResponse = imageAnnotatorClient.batchAnnotateImages(requests);
 
         var response = batchResponse.getResponsesList().get(0);
+        // An error response has no labels and no SafeSearch verdict, which would read as a safe empty image
+        if (response.hasError()) {
+            throw new ImageProcessingException("Vision analysis failed: " + response.getError().getMessage(), null);
+        }
 
         //Process labels
         List<String> labels = response.getLabelAnnotationsList().stream()
@@ -3,6 +3,7 @@ package itacademy.pawalert.infrastructure.image.google;
 import itacademy.pawalert.domain.image.exception.ImageValidationException;
 import itacademy.pawalert.domain.image.model.ContentSafetyStatus;
 import itacademy.pawalert.domain.image.model.ImageValidationResult;
+import itacademy.pawalert.domain.image.port.inbound.ImagePreprocessor;
 import itacademy.pawalert.domain.image.port.inbound.ImageValidator;
 import itacademy.pawalert.infrastructure.image.cloudinary.CloudinaryUploadService;
 import org.springframework.stereotype.Service;
@@ -13,14 +14,20 @@ public class ImageAnalysisService {
 
     private final ImageValidator imageValidator;
     private final CloudinaryUploadService uploadService;
+    private final ImagePreprocessor imagePreprocessor;
 
     public ImageAnalysisService(ImageValidator imageValidator,
-                                CloudinaryUploadService uploadService) {
+                                CloudinaryUploadService uploadService,
+                                ImagePreprocessor imagePreprocessor) {
         this.imageValidator = imageValidator;
         this.uploadService = uploadService;
+        this.imagePreprocessor = imagePreprocessor;
     }
 
-    public String uploadAndValidate(MultipartFile imageBytes, String folder) {
+    public String uploadAndValidate(MultipartFile file, String folder) {
+        // Prepared once; validation and upload share the same downscaled bytes
+        MultipartFile imageBytes = imagePreprocessor.prepare(file);
+
         // 1. Validate with Google Vision
         ImageValidationResult result = imageValidator.validate(imageBytes);
 
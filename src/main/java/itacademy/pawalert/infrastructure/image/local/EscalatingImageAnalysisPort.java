@@ -0,0 +1,87 @@
+package itacademy.pawalert.infrastructure.image.local;
+
+import itacademy.pawalert.domain.image.model.ColorResult;
+import itacademy.pawalert.domain.image.model.DetectedObject;
+import itacademy.pawalert.domain.image.model.ImageAnalysisResult;
+import itacademy.pawalert.domain.image.model.LabelResult;
+import itacademy.pawalert.domain.image.model.SafetyResult;
+import itacademy.pawalert.domain.image.port.outbound.ImageAnalysisPort;
+import itacademy.pawalert.domain.image.port.outbound.LocalImageClassifier;
+import itacademy.pawalert.infrastructure.image.google.GoogleVisionImageAnalysisPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Image analysis that asks the in-process {@link LocalImageClassifier} first and only calls
+ * Google Vision for the images it is not confident about.
+ * <p>
+ * Label and full analyses can be answered locally; text, colors, safety and objects always come
+ * from Vision. A full analysis answered locally reports its safety as not checked, which is never
+ * safe, so consumers must not pass such an image on without a Vision safety check.
+ * <p>
+ * Configuration properties:
+ * - app.images.local-classifier.enabled: Consult the local classifier before Vision (default: true)
+ */
+@Slf4j
+@Primary
+@Component
+public class EscalatingImageAnalysisPort implements ImageAnalysisPort {
+
+    private final LocalImageClassifier localClassifier;
+    private final ImageAnalysisPort remote;
+    private final boolean enabled;
+
+    public EscalatingImageAnalysisPort(LocalImageClassifier localClassifier,
+                                       GoogleVisionImageAnalysisPort remote,
+                                       @Value("${app.images.local-classifier.enabled:true}") boolean enabled) {
+        this.localClassifier = localClassifier;
+        this.remote = remote;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public List<LabelResult> detectLabels(byte[] imageBytes) {
+        return classifyLocally(imageBytes)
+                .map(ImageAnalysisResult::labels)
+                .orElseGet(() -> remote.detectLabels(imageBytes));
+    }
+
+    @Override
+    public String detectText(byte[] imageBytes) {
+        return remote.detectText(imageBytes);
+    }
+
+    @Override
+    public ColorResult detectColors(byte[] imageBytes) {
+        return remote.detectColors(imageBytes);
+    }
+
+    @Override
+    public SafetyResult checkSafety(byte[] imageBytes) {
+        return remote.checkSafety(imageBytes);
+    }
+
+    @Override
+    public List<DetectedObject> detectObjects(byte[] imageBytes) {
+        return remote.detectObjects(imageBytes);
+    }
+
+    @Override
+    public ImageAnalysisResult analyzeAll(byte[] imageBytes) {
+        return classifyLocally(imageBytes).orElseGet(() -> remote.analyzeAll(imageBytes));
+    }
+
+    private Optional<ImageAnalysisResult> classifyLocally(byte[] imageBytes) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<ImageAnalysisResult> local = localClassifier.classify(imageBytes);
+        log.debug("[LOCAL-CLASSIFIER] {}", local.isPresent() ? "Answered locally" : "Escalating to Vision");
+        return local;
+    }
+}
@@ -0,0 +1,147 @@
+package itacademy.pawalert.infrastructure.image.local;
+
+import itacademy.pawalert.domain.image.model.ColorResult;
+import itacademy.pawalert.domain.image.model.ImageAnalysisResult;
+import itacademy.pawalert.domain.image.model.LabelResult;
+import itacademy.pawalert.domain.image.model.SafetyResult;
+import itacademy.pawalert.domain.image.port.outbound.LocalImageClassifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Recognizes drawings, screenshots and other flat graphics from pixel statistics, without a model.
+ * <p>
+ * Camera photos are noisy: neighbouring pixels almost never match exactly and even a small sample
+ * holds thousands of distinct colors. Graphics are the opposite, with large flat areas and a short
+ * palette. Only images that are clearly graphics are answered, labelled so that
+ * {@link itacademy.pawalert.domain.image.service.ImageTypeClassifier} rejects them; every photo,
+ * including ones that do not show an animal, is left to the remote analysis.
+ * <p>
+ * Clipped areas are the exception among photos: a night shot crushes large areas to exactly black
+ * and an overexposed one (a white dog on snow, a bright sky) blows them out to exactly white,
+ * which looks as flat as a drawing. Near-black and near-white pixels are therefore left out of
+ * the statistics, so only the rest of the image has to look like a graphic, and an image with
+ * too little left to judge is escalated.
+ * <p>
+ * Safety is not judged locally, so answered results carry {@link SafetyResult#notChecked()}.
+ */
+@Slf4j
+@Component
+public class HeuristicImageClassifier implements LocalImageClassifier {
+
+    private static final int SAMPLE_EDGE = 256;
+    private static final int MIN_EDGE = 32;
+    // Share of horizontally adjacent sample pixels with exactly the same color
+    private static final double MIN_FLAT_SHARE = 0.6;
+    // Distinct colors at 4 bits per channel
+    private static final int MAX_PALETTE = 512;
+    // Brightest channel at or below this counts as crushed black
+    private static final int BLACK_LEVEL = 24;
+    // Darkest channel at or above this counts as blown-out white
+    private static final int WHITE_LEVEL = 231;
+    // Share of the sample that must be neither clipped black nor clipped white to judge it
+    private static final double MIN_UNCLIPPED_SHARE = 0.1;
+
+    @Override
+    public Optional<ImageAnalysisResult> classify(byte[] imageBytes) {
+        BufferedImage sample = decodeSample(imageBytes);
+        if (sample == null || sample.getWidth() < 2) {
+            return Optional.empty();
+        }
+
+        int width = sample.getWidth();
+        int height = sample.getHeight();
+        int[] pixels = sample.getRGB(0, 0, width, height, null, 0, width);
+
+        boolean[] palette = new boolean[4096];
+        int paletteSize = 0;
+        int unclippedPixels = 0;
+        long pairs = 0;
+        long flatPairs = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = pixels[y * width + x] & 0xFFFFFF;
+                if (isClipped(rgb)) {
+                    continue;
+                }
+                unclippedPixels++;
+                int bin = (rgb >> 12 & 0xF00) | (rgb >> 8 & 0xF0) | (rgb >> 4 & 0xF);
+                if (!palette[bin]) {
+                    palette[bin] = true;
+                    paletteSize++;
+                }
+                if (x > 0) {
+                    int left = pixels[y * width + x - 1] & 0xFFFFFF;
+                    if (!isClipped(left)) {
+                        pairs++;
+                        if (rgb == left) {
+                            flatPairs++;
+                        }
+                    }
+                }
+            }
+        }
+        if (unclippedPixels < MIN_UNCLIPPED_SHARE * width * height || pairs == 0) {
+            log.debug("[LOCAL-CLASSIFIER] Too clipped to judge: {} of {} pixels unclipped", unclippedPixels, width * height);
+            return Optional.empty();
+        }
+        double flatShare = (double) flatPairs / pairs;
+
+        if (flatShare < MIN_FLAT_SHARE || paletteSize > MAX_PALETTE) {
+            return Optional.empty();
+        }
+
+        double confidence = Math.min(0.95, flatShare);
+        log.debug("[LOCAL-CLASSIFIER] Graphic detected: flatShare={}, palette={}", flatShare, paletteSize);
+        return Optional.of(new ImageAnalysisResult(
+                List.of(new LabelResult("Illustration", confidence)),
+                "",
+                new ColorResult("Unknown", "#000000", 0.0),
+                SafetyResult.notChecked()));
+    }
+
+    private static boolean isClipped(int rgb) {
+        int r = rgb >> 16 & 0xFF;
+        int g = rgb >> 8 & 0xFF;
+        int b = rgb & 0xFF;
+        return Math.max(r, Math.max(g, b)) <= BLACK_LEVEL || Math.min(r, Math.min(g, b)) >= WHITE_LEVEL;
+    }
+
+    // Decodes every n-th pixel so the sample's long edge is about SAMPLE_EDGE; null when undecodable
+    private BufferedImage decodeSample(byte[] imageBytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                if (Math.min(reader.getWidth(0), reader.getHeight(0)) < MIN_EDGE) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longEdge / SAMPLE_EDGE);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("[LOCAL-CLASSIFIER] Could not decode image: {}", e.getMessage());
+            return null;
+        }
+    }
+}
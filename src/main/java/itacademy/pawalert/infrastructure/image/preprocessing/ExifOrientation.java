@@ -0,0 +1,117 @@
+package itacademy.pawalert.infrastructure.image.preprocessing;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * EXIF orientation of a JPEG (tag 0x0112 in IFD0) and the transform that makes the image upright.
+ * Phones store photos sideways and rely on this tag, which ImageIO ignores when decoding.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    // Any malformed or missing segment reads as NORMAL; a wrong guess only leaves the photo as uploaded
+    static int read(byte[] jpeg) {
+        if (jpeg.length < 4 || u8(jpeg, 0) != 0xFF || u8(jpeg, 1) != 0xD8) {
+            return NORMAL;
+        }
+        int pos = 2;
+        while (pos + 4 <= jpeg.length && u8(jpeg, pos) == 0xFF) {
+            int marker = u8(jpeg, pos + 1);
+            if (marker == 0xDA || marker == 0xD9) {
+                // Start of scan: metadata segments are over
+                return NORMAL;
+            }
+            int length = u16(jpeg, pos + 2, false);
+            int end = Math.min(jpeg.length, pos + 2 + length);
+            if (marker == 0xE1 && isExifHeader(jpeg, pos + 4)) {
+                return readTiffOrientation(jpeg, pos + 10, end);
+            }
+            pos += 2 + length;
+        }
+        return NORMAL;
+    }
+
+    private static boolean isExifHeader(byte[] b, int pos) {
+        return pos + 6 <= b.length
+                && b[pos] == 'E' && b[pos + 1] == 'x' && b[pos + 2] == 'i' && b[pos + 3] == 'f'
+                && b[pos + 4] == 0 && b[pos + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] b, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return NORMAL;
+        }
+        boolean littleEndian = b[tiff] == 'I' && b[tiff + 1] == 'I';
+        long ifdOffset = u32(b, tiff + 4, littleEndian);
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return NORMAL;
+        }
+        int ifd = tiff + (int) ifdOffset;
+        int entries = u16(b, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return NORMAL;
+            }
+            if (u16(b, entry, littleEndian) == TAG_ORIENTATION) {
+                int value = u16(b, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    // Orientations 5-8 swap width and height
+    static BufferedImage apply(BufferedImage source, int orientation) {
+        if (orientation == NORMAL) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swap = orientation >= 5;
+        int targetWidth = swap ? h : w;
+        BufferedImage target = new BufferedImage(targetWidth, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+
+        int[] pixels = source.getRGB(0, 0, w, h, null, 0, w);
+        int[] rotated = new int[pixels.length];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int tx, ty;
+                switch (orientation) {
+                    case 2 -> { tx = w - 1 - x; ty = y; }
+                    case 3 -> { tx = w - 1 - x; ty = h - 1 - y; }
+                    case 4 -> { tx = x; ty = h - 1 - y; }
+                    case 5 -> { tx = y; ty = x; }
+                    case 6 -> { tx = h - 1 - y; ty = x; }
+                    case 7 -> { tx = h - 1 - y; ty = w - 1 - x; }
+                    default -> { tx = y; ty = w - 1 - x; }
+                }
+                rotated[ty * targetWidth + tx] = pixels[y * w + x];
+            }
+        }
+        target.setRGB(0, 0, targetWidth, swap ? w : h, rotated, 0, targetWidth);
+        return target;
+    }
+
+    private static int u8(byte[] b, int pos) {
+        return b[pos] & 0xFF;
+    }
+
+    private static int u16(byte[] b, int pos, boolean littleEndian) {
+        return littleEndian
+                ? u8(b, pos) | u8(b, pos + 1) << 8
+                : u8(b, pos) << 8 | u8(b, pos + 1);
+    }
+
+    private static long u32(byte[] b, int pos, boolean littleEndian) {
+        return littleEndian
+                ? (long) u16(b, pos + 2, true) << 16 | u16(b, pos, true)
+                : (long) u16(b, pos, false) << 16 | u16(b, pos + 2, false);
+    }
+}
@@ -0,0 +1,158 @@
+package itacademy.pawalert.infrastructure.image.preprocessing;
+
+import itacademy.pawalert.domain.image.exception.ImageProcessingException;
+import itacademy.pawalert.domain.image.port.inbound.ImagePreprocessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Normalizes uploaded photos once, before they reach Google Vision or Cloudinary.
+ * <p>
+ * The image is decoded with source subsampling, so a 12 MP phone photo is never held at full size,
+ * turned upright from its EXIF orientation, scaled so its longest edge fits max-edge and re-encoded
+ * as JPEG. A JPEG that is already upright and small enough is passed through untouched, and a format
+ * ImageIO cannot decode (HEIC, WebP) is passed through for the downstream services to judge.
+ * <p>
+ * Configuration properties:
+ * - app.images.preprocessing.enabled: Normalize uploads before analysis and upload (default: true)
+ * - app.images.preprocessing.max-edge: Longest edge in pixels after downscaling (default: 1600)
+ * - app.images.preprocessing.jpeg-quality: JPEG quality between 0 and 1 (default: 0.85)
+ */
+@Slf4j
+@Component
+public class ImageIoPreprocessor implements ImagePreprocessor {
+
+    private static final String JPEG = "image/jpeg";
+
+    private final boolean enabled;
+    private final int maxEdge;
+    private final float jpegQuality;
+
+    public ImageIoPreprocessor(@Value("${app.images.preprocessing.enabled:true}") boolean enabled,
+                               @Value("${app.images.preprocessing.max-edge:1600}") int maxEdge,
+                               @Value("${app.images.preprocessing.jpeg-quality:0.85}") float jpegQuality) {
+        this.enabled = enabled;
+        this.maxEdge = maxEdge;
+        this.jpegQuality = jpegQuality;
+    }
+
+    @Override
+    public MultipartFile prepare(MultipartFile file) {
+        if (!enabled || file instanceof PreparedImageFile || file.isEmpty()) {
+            return file;
+        }
+        byte[] original;
+        try {
+            original = file.getBytes();
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to read uploaded image", e);
+        }
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.debug("[IMAGE-PREP] No decoder for {}, passing it through", file.getOriginalFilename());
+                return prepared(file, file.getContentType(), original);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                boolean jpeg = "jpeg".equalsIgnoreCase(reader.getFormatName());
+                int orientation = jpeg ? ExifOrientation.read(original) : ExifOrientation.NORMAL;
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int longEdge = Math.max(width, height);
+
+                if (jpeg && orientation == ExifOrientation.NORMAL && longEdge <= maxEdge) {
+                    return prepared(file, JPEG, original);
+                }
+
+                // Decode at no less than max-edge; the exact size comes from the smooth rescale below
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longEdge / maxEdge);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                BufferedImage upright = ExifOrientation.apply(scaleToFit(decoded), orientation);
+                byte[] encoded = encodeJpeg(upright);
+
+                if (longEdge <= maxEdge && orientation == ExifOrientation.NORMAL && encoded.length >= original.length) {
+                    return prepared(file, file.getContentType(), original);
+                }
+                log.debug("[IMAGE-PREP] {}: {}x{} {} bytes -> {}x{} {} bytes", file.getOriginalFilename(),
+                        width, height, original.length, upright.getWidth(), upright.getHeight(), encoded.length);
+                return prepared(file, JPEG, encoded);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[IMAGE-PREP] Could not preprocess {}, passing it through: {}",
+                    file.getOriginalFilename(), e.getMessage());
+            return prepared(file, file.getContentType(), original);
+        }
+    }
+
+    // Always draws into an opaque RGB image: JPEG has no alpha, and transparent areas become white
+    private BufferedImage scaleToFit(BufferedImage image) {
+        int longEdge = Math.max(image.getWidth(), image.getHeight());
+        double scale = longEdge > maxEdge ? (double) maxEdge / longEdge : 1.0;
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private PreparedImageFile prepared(MultipartFile file, String contentType, byte[] content) {
+        String filename = file.getOriginalFilename();
+        if (JPEG.equals(contentType) && filename != null && !filename.matches("(?i).*\\.jpe?g")) {
+            int dot = filename.lastIndexOf('.');
+            filename = (dot > 0 ? filename.substring(0, dot) : filename) + ".jpg";
+        }
+        return new PreparedImageFile(file.getName(), filename, contentType, content);
+    }
+}
@@ -0,0 +1,55 @@
+package itacademy.pawalert.infrastructure.location;
+
+import itacademy.pawalert.application.alert.port.outbound.AlertLocationIndexPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically rebuilds this node's alert location index from the alert_latest_state projection,
+ * picking up the alerts created, moved, closed or deleted through other nodes.
+ * <p>
+ * Configuration properties:
+ * - app.alerts.location-index.reconcile-interval-ms: Time between two rebuilds (default: 60000)
+ */
+@Slf4j
+@Component
+public class AlertLocationIndexReconcileScheduler {
+
+    private final AlertLocationIndexPort locationIndex;
+    private final long reconcileIntervalMs;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("location-index-reconcile").factory());
+
+    public AlertLocationIndexReconcileScheduler(AlertLocationIndexPort locationIndex,
+                                                @Value("${app.alerts.location-index.reconcile-interval-ms:60000}") long reconcileIntervalMs) {
+        this.locationIndex = locationIndex;
+        this.reconcileIntervalMs = reconcileIntervalMs;
+    }
+
+    // The index rebuilds itself once on startup, so the first run waits a full interval
+    @EventListener(ApplicationReadyEvent.class)
+    public void startReconciling() {
+        executor.scheduleWithFixedDelay(this::reconcile, reconcileIntervalMs, reconcileIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void reconcile() {
+        try {
+            locationIndex.rebuild();
+        } catch (Exception e) {
+            log.error("[LOCATION-INDEX] Reconcile failed: {}", e.getMessage(), e);
+        }
+    }
+}
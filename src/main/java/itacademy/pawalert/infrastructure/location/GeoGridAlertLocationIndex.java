@@ -0,0 +1,174 @@
+package itacademy.pawalert.infrastructure.location;
+
+import itacademy.pawalert.application.alert.port.outbound.AlertLocationIndexPort;
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.infrastructure.persistence.alert.AlertLatestStateEntity;
+import itacademy.pawalert.infrastructure.persistence.alert.AlertLatestStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory fixed-size lat/lon grid holding the last known location of every non-closed alert.
+ * Radius queries only visit the cells overlapping the search box and then refine
+ * the candidates with {@link GeographicLocation#isWithinRadius}.
+ * <p>
+ * Each node keeps its own grid and only applies the alert changes it commits itself. The grid is
+ * rebuilt from the alert_latest_state projection on startup and again by
+ * {@link AlertLocationIndexReconcileScheduler}, so changes committed on other nodes show up
+ * within one reconcile interval.
+ */
+@Slf4j
+@Component
+public class GeoGridAlertLocationIndex implements AlertLocationIndexPort {
+
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+    private static final double MAX_LATITUDE = 90.0;
+
+    private final AlertLatestStateRepository latestStateRepository;
+    private final double cellSizeDegrees;
+    private final int columns;
+
+    private final Map<UUID, GeographicLocation> locations = new ConcurrentHashMap<>();
+    private final Map<Long, Set<UUID>> cells = new ConcurrentHashMap<>();
+
+    public GeoGridAlertLocationIndex(AlertLatestStateRepository latestStateRepository,
+                                     @Value("${app.alerts.location-index.cell-size-degrees:0.1}") double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0 || cellSizeDegrees > 180) {
+            throw new IllegalArgumentException("Cell size must be between 0 and 180 degrees: " + cellSizeDegrees);
+        }
+        this.latestStateRepository = latestStateRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.columns = (int) Math.ceil(360.0 / cellSizeDegrees);
+    }
+
+    @Override
+    public synchronized void index(UUID alertId, GeographicLocation location) {
+        GeographicLocation previous = locations.put(alertId, location);
+        long cell = cellOf(location);
+        if (previous != null) {
+            long previousCell = cellOf(previous);
+            if (previousCell == cell) {
+                return;
+            }
+            removeFromCell(previousCell, alertId);
+        }
+        cells.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet()).add(alertId);
+    }
+
+    @Override
+    public synchronized void remove(UUID alertId) {
+        GeographicLocation previous = locations.remove(alertId);
+        if (previous != null) {
+            removeFromCell(cellOf(previous), alertId);
+        }
+    }
+
+    @Override
+    public Set<UUID> findAlertIdsWithinRadius(GeographicLocation center, double radiusKm) {
+        if (radiusKm < 0) {
+            throw new IllegalArgumentException("Radius must not be negative: " + radiusKm);
+        }
+
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        int minRow = row(Math.max(-MAX_LATITUDE, center.latitude() - latDelta));
+        int maxRow = row(Math.min(MAX_LATITUDE, center.latitude() + latDelta));
+
+        // The box is widest in longitude at its most poleward edge
+        double poleward = Math.min(MAX_LATITUDE, Math.abs(center.latitude()) + latDelta);
+        double cosLat = Math.cos(Math.toRadians(poleward));
+        double lonDelta = cosLat > 1e-9 ? radiusKm / (KM_PER_DEGREE_LATITUDE * cosLat) : 360.0;
+        int minCol = rawColumn(center.longitude() - lonDelta);
+        int maxCol = rawColumn(center.longitude() + lonDelta);
+        if (maxCol - minCol + 1 >= columns) {
+            minCol = 0;
+            maxCol = columns - 1;
+        }
+
+        long cellsInBox = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        Set<UUID> result = new HashSet<>();
+
+        if (cellsInBox > cells.size()) {
+            // Very large radius: cheaper to refine every indexed alert than to walk empty cells
+            locations.forEach((alertId, location) -> {
+                if (location.isWithinRadius(center, radiusKm)) {
+                    result.add(alertId);
+                }
+            });
+            return result;
+        }
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                Set<UUID> ids = cells.get(key(r, Math.floorMod(c, columns)));
+                if (ids == null) {
+                    continue;
+                }
+                for (UUID alertId : ids) {
+                    GeographicLocation location = locations.get(alertId);
+                    if (location != null && location.isWithinRadius(center, radiusKm)) {
+                        result.add(alertId);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<GeographicLocation> findLocation(UUID alertId) {
+        return Optional.ofNullable(locations.get(alertId));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Queried outside the lock so local updates do not wait on the database. An update committed
+        // in between can be overwritten by the older snapshot until the next reconcile.
+        List<AlertLatestStateEntity> latestStates = latestStateRepository.findLocatedOfActiveAlerts();
+
+        synchronized (this) {
+            locations.clear();
+            cells.clear();
+            latestStates.forEach(state -> index(
+                    UUID.fromString(state.getAlertId()),
+                    GeographicLocation.of(state.getLastLatitude(), state.getLastLongitude())));
+        }
+
+        log.debug("[LOCATION-INDEX] Rebuilt alert location index with {} alerts in {} cells",
+                locations.size(), cells.size());
+    }
+
+    private void removeFromCell(long cell, UUID alertId) {
+        cells.computeIfPresent(cell, (key, ids) -> {
+            ids.remove(alertId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private long cellOf(GeographicLocation location) {
+        return key(row(location.latitude()), Math.floorMod(rawColumn(location.longitude()), columns));
+    }
+
+    private long key(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + MAX_LATITUDE) / cellSizeDegrees);
+    }
+
+    private int rawColumn(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / cellSizeDegrees);
+    }
+}
@@ -0,0 +1,213 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+import itacademy.pawalert.domain.notification.model.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers notification events and sends them to one queue in size- or time-bounded batches.
+ * <p>
+ * {@link #submit} only enqueues, so a mass status change no longer pays a broker round trip per event
+ * on the request thread. Buffered events live in memory until the broker confirms them and are lost
+ * if the process dies first; callers that must not lose events use {@link #publishConfirmed}, which
+ * sends on the caller's thread and returns only once the broker has confirmed every event.
+ * <p>
+ * Each batch goes out over a single channel and, when the connection factory has simple publisher
+ * confirms enabled, waits for the broker to confirm the whole batch at once. A batch that fails or is
+ * not confirmed is held aside and retried first, with exponential backoff between attempts. When the
+ * buffer is full, the caller sends its event directly and gets the failure if that send fails too.
+ */
+@Slf4j
+public class BatchingRabbitPublisher<T extends NotificationEvent> implements AutoCloseable {
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final String queue;
+    private final RabbitTemplate rabbitTemplate;
+    private final int maxBatchSize;
+    private final long confirmTimeoutMs;
+    private final boolean confirmsEnabled;
+    private final BlockingQueue<T> buffer;
+    private final ScheduledExecutorService flusher;
+    private final long baseBackoffMs;
+
+    // Written only by flush(), which is synchronized
+    private volatile List<T> retryBatch = List.of();
+    private long backoffMs;
+    private long nextAttemptAt;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong lastConfirmLatencyMs = new AtomicLong();
+    private final AtomicLong maxConfirmLatencyMs = new AtomicLong();
+
+    public BatchingRabbitPublisher(String queue, RabbitTemplate rabbitTemplate, int maxBatchSize,
+                                   Duration maxDelay, Duration confirmTimeout, int bufferCapacity) {
+        if (maxBatchSize <= 0 || bufferCapacity < maxBatchSize) {
+            throw new IllegalArgumentException("Batch size must be positive and not exceed the buffer capacity");
+        }
+        this.queue = queue;
+        this.rabbitTemplate = rabbitTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.confirmTimeoutMs = confirmTimeout.toMillis();
+        this.confirmsEnabled = rabbitTemplate.getConnectionFactory() instanceof CachingConnectionFactory factory
+                && factory.isSimplePublisherConfirms();
+        this.buffer = new LinkedBlockingQueue<>(bufferCapacity);
+        this.baseBackoffMs = Math.max(1, maxDelay.toMillis());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rabbit-batch-" + queue);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, maxDelay.toMillis(), maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+
+        if (!confirmsEnabled) {
+            log.warn("[RABBIT-BATCH] Publisher confirms are disabled, batches to {} are sent without waiting for the broker", queue);
+        }
+    }
+
+    public void submit(T event) {
+        if (!buffer.offer(event)) {
+            // Back-pressure: the caller pays for its own send rather than losing the event
+            publishConfirmed(List.of(event));
+            return;
+        }
+        if (buffer.size() >= maxBatchSize) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    public void submitAll(List<T> events) {
+        events.forEach(this::submit);
+    }
+
+    /**
+     * Sends the events on the caller's thread, bypassing the buffer, and returns once the broker has
+     * confirmed all of them. Throws {@link AmqpException} when a send fails, is nacked or times out;
+     * the caller still owns the events then.
+     */
+    public void publishConfirmed(List<T> events) {
+        for (int from = 0; from < events.size(); from += maxBatchSize) {
+            List<T> batch = events.subList(from, Math.min(from + maxBatchSize, events.size()));
+            try {
+                sendOrThrow(batch);
+            } catch (AmqpException e) {
+                failed.addAndGet(batch.size());
+                throw e;
+            }
+            published.addAndGet(batch.size());
+        }
+    }
+
+    public synchronized void flush() {
+        if (backoffMs > 0 && System.nanoTime() - nextAttemptAt < 0) {
+            return;
+        }
+        if (!retryBatch.isEmpty()) {
+            if (!send(retryBatch)) {
+                backOff();
+                return;
+            }
+            retryBatch = List.of();
+        }
+        List<T> batch = new ArrayList<>(maxBatchSize);
+        while (buffer.drainTo(batch, maxBatchSize) > 0) {
+            if (!send(batch)) {
+                retryBatch = batch;
+                backOff();
+                return;
+            }
+            batch = new ArrayList<>(maxBatchSize);
+        }
+        backoffMs = 0;
+    }
+
+    private void backOff() {
+        backoffMs = backoffMs == 0 ? baseBackoffMs : Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        nextAttemptAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs);
+        log.warn("[RABBIT-BATCH] Next attempt for {} in {} ms", queue, backoffMs);
+    }
+
+    public PublisherStats stats() {
+        long batchCount = batches.get();
+        long publishedCount = published.get();
+        return new PublisherStats(
+                publishedCount,
+                failed.get(),
+                retryBatch.size(),
+                batchCount,
+                batchCount == 0 ? 0.0 : (double) publishedCount / batchCount,
+                lastConfirmLatencyMs.get(),
+                maxConfirmLatencyMs.get(),
+                buffer.size());
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            // Last chance: ignore any backoff in progress
+            backoffMs = 0;
+        }
+        flushQuietly();
+        int unsent = buffer.size() + retryBatch.size();
+        if (unsent > 0) {
+            log.error("[RABBIT-BATCH] {} events for {} could not be published before shutdown", unsent, queue);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("[RABBIT-BATCH] Unexpected error flushing batch to {}: {}", queue, e.getMessage(), e);
+        }
+    }
+
+    private boolean send(List<T> batch) {
+        try {
+            sendOrThrow(batch);
+        } catch (AmqpException e) {
+            failed.addAndGet(batch.size());
+            log.error("[RABBIT-BATCH] Batch of {} events to {} failed, will retry: {}", batch.size(), queue, e.getMessage());
+            return false;
+        }
+        published.addAndGet(batch.size());
+        return true;
+    }
+
+    private void sendOrThrow(List<T> batch) {
+        long start = System.nanoTime();
+        rabbitTemplate.invoke(operations -> {
+            batch.forEach(event -> operations.convertAndSend(queue, event));
+            if (confirmsEnabled) {
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            }
+            return null;
+        });
+
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastConfirmLatencyMs.set(latencyMs);
+        maxConfirmLatencyMs.accumulateAndGet(latencyMs, Math::max);
+        batches.incrementAndGet();
+        log.debug("[RABBIT-BATCH] Published {} events to {} in {} ms", batch.size(), queue, latencyMs);
+    }
+}
@@ -0,0 +1,17 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+/**
+ * Point-in-time view of a notification queue and the listener container draining it.
+ * {@code messagesReady} and {@code consumers} are -1 when the broker could not be queried.
+ */
+public record ListenerStats(
+        String queue,
+        long messagesReady,
+        int consumers,
+        int maxConsumers,
+        int inFlight,
+        long processed,
+        long failed,
+        double utilization
+) {
+}
@@ -0,0 +1,86 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+import itacademy.pawalert.domain.alert.model.NotificationChannel;
+import lombok.Getter;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener advice measuring how busy the consumers of one notification queue are.
+ * Utilization is the share of consumer time spent inside the listener since the previous reading:
+ * close to 1.0 means the container is saturated and {@code max-concurrency} is the limit.
+ */
+public class ListenerUtilizationTracker implements MethodInterceptor {
+
+    @Getter
+    private final NotificationChannel channel;
+    @Getter
+    private final String queue;
+    @Getter
+    private final int maxConsumers;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+
+    private long lastReadingAt = System.nanoTime();
+    private long lastBusyNanos;
+
+    public ListenerUtilizationTracker(NotificationChannel channel, String queue, int maxConsumers) {
+        this.channel = channel;
+        this.queue = queue;
+        this.maxConsumers = maxConsumers;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        int messages = messageCount(invocation);
+        try {
+            Object result = invocation.proceed();
+            processed.addAndGet(messages);
+            return result;
+        } catch (Throwable e) {
+            failed.addAndGet(messages);
+            throw e;
+        } finally {
+            busyNanos.addAndGet(System.nanoTime() - start);
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // Batch listeners receive (channel, List<Message>); count the messages, not the invocation
+    private static int messageCount(MethodInvocation invocation) {
+        Object[] arguments = invocation.getArguments();
+        return arguments != null && arguments.length > 1 && arguments[1] instanceof List<?> batch ? batch.size() : 1;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long processed() {
+        return processed.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    // Each call starts a new measurement window
+    public synchronized double utilizationSinceLastReading() {
+        long now = System.nanoTime();
+        long busy = busyNanos.get();
+        long window = (now - lastReadingAt) * maxConsumers;
+        double utilization = window > 0 ? Math.min(1.0, (double) (busy - lastBusyNanos) / window) : 0.0;
+        lastReadingAt = now;
+        lastBusyNanos = busy;
+        return utilization;
+    }
+}
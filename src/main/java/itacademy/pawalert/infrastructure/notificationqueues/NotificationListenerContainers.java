@@ -0,0 +1,50 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.amqp.autoconfigure.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Builds the per-channel listener container factories declared in the queue configs.
+ */
+public final class NotificationListenerContainers {
+
+    private NotificationListenerContainers() {
+    } // Utility class
+
+    // 0 means "size from the machine": consumers spend most of their time waiting on SMTP/HTTP
+    public static int resolveMaxConsumers(int configured) {
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    public static SimpleRabbitListenerContainerFactory create(SimpleRabbitListenerContainerFactoryConfigurer configurer,
+                                                              ConnectionFactory connectionFactory,
+                                                              String threadNamePrefix,
+                                                              int concurrency,
+                                                              int prefetch,
+                                                              ListenerUtilizationTracker tracker) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        // Keep Boot's converter, retry and acknowledge settings, then override sizing
+        configurer.configure(factory, connectionFactory);
+
+        int maxConsumers = tracker.getMaxConsumers();
+        factory.setConcurrentConsumers(Math.min(Math.max(1, concurrency), maxConsumers));
+        factory.setMaxConcurrentConsumers(maxConsumers);
+        factory.setPrefetchCount(prefetch);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        factory.setTaskExecutor(executor);
+
+        Advice[] existing = factory.getAdviceChain();
+        Advice[] chain = new Advice[existing == null ? 1 : existing.length + 1];
+        chain[0] = tracker;
+        if (existing != null) {
+            System.arraycopy(existing, 0, chain, 1, existing.length);
+        }
+        factory.setAdviceChain(chain);
+        return factory;
+    }
+}
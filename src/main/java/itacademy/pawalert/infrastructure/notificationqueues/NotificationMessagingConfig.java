@@ -0,0 +1,50 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Wire format and delivery guarantees shared by the notification queues.
+ */
+@Configuration
+public class NotificationMessagingConfig {
+
+    private static final String TRUSTED_PACKAGE = "itacademy.pawalert";
+
+    // JSON is a fraction of the size of Java serialization; serialized messages still queued
+    // from before the switch are read with the old converter based on their content type
+    @Bean
+    public MessageConverter notificationMessageConverter(JsonMapper jsonMapper) {
+        SimpleMessageConverter legacyConverter = new SimpleMessageConverter();
+        legacyConverter.setAllowedListPatterns(List.of(TRUSTED_PACKAGE + ".*", "java.util.*", "java.time.*", "java.lang.*"));
+
+        ContentTypeDelegatingMessageConverter converter =
+                new ContentTypeDelegatingMessageConverter(new JacksonJsonMessageConverter(jsonMapper, TRUSTED_PACKAGE));
+        converter.addDelegate("application/x-java-serialized-object", legacyConverter);
+        return converter;
+    }
+
+    // Batched publishing waits for broker confirms; keep an explicit spring.rabbitmq.publisher-confirm-type if set
+    @Bean
+    public static BeanPostProcessor publisherConfirmsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CachingConnectionFactory factory
+                        && !factory.isPublisherConfirms() && !factory.isSimplePublisherConfirms()) {
+                    factory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+import itacademy.pawalert.domain.alert.model.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Combines broker-side queue depth with the listener utilization of each notification channel.
+ */
+@Slf4j
+@Component
+public class NotificationQueueMetrics {
+
+    private final AmqpAdmin amqpAdmin;
+    private final List<ListenerUtilizationTracker> trackers;
+
+    public NotificationQueueMetrics(AmqpAdmin amqpAdmin, List<ListenerUtilizationTracker> trackers) {
+        this.amqpAdmin = amqpAdmin;
+        this.trackers = trackers;
+    }
+
+    public Map<NotificationChannel, ListenerStats> listenerStats() {
+        Map<NotificationChannel, ListenerStats> stats = new EnumMap<>(NotificationChannel.class);
+        for (ListenerUtilizationTracker tracker : trackers) {
+            QueueInformation queueInfo = queueInfo(tracker.getQueue());
+            stats.put(tracker.getChannel(), new ListenerStats(
+                    tracker.getQueue(),
+                    queueInfo != null ? queueInfo.getMessageCount() : -1,
+                    queueInfo != null ? queueInfo.getConsumerCount() : -1,
+                    tracker.getMaxConsumers(),
+                    tracker.inFlight(),
+                    tracker.processed(),
+                    tracker.failed(),
+                    tracker.utilizationSinceLastReading()));
+        }
+        return stats;
+    }
+
+    private QueueInformation queueInfo(String queue) {
+        try {
+            return amqpAdmin.getQueueInfo(queue);
+        } catch (Exception e) {
+            log.warn("[QUEUE-METRICS] Could not read depth of queue {}: {}", queue, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+/**
+ * Point-in-time counters of a {@link BatchingRabbitPublisher}.
+ */
+public record PublisherStats(
+        long published,
+        long failed,
+        int awaitingRetry,
+        long batches,
+        double averageBatchSize,
+        long lastConfirmLatencyMs,
+        long maxConfirmLatencyMs,
+        int buffered
+) {
+}
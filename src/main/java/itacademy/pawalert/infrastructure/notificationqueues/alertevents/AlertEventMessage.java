@@ -0,0 +1,48 @@
+package itacademy.pawalert.infrastructure.notificationqueues.alertevents;
+
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+import itacademy.pawalert.domain.alert.model.AlertCreatedEvent;
+import itacademy.pawalert.domain.alert.model.AlertStatusChangedEvent;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An alert domain event as carried on the alert-events exchange.
+ *
+ * @param eventId    outbox id; the same for every redelivery of the event
+ * @param creatorId  set for {@code AlertCreatedEvent}
+ * @param oldStatus  set for {@code AlertStatusChangedEvent}
+ * @param newStatus  set for {@code AlertStatusChangedEvent}
+ * @param occurredAt when the event was committed to the outbox
+ */
+public record AlertEventMessage(
+        UUID eventId,
+        String eventType,
+        UUID alertId,
+        UUID creatorId,
+        StatusNames oldStatus,
+        StatusNames newStatus,
+        LocalDateTime occurredAt
+) {
+    public static final String ALERT_CREATED = "ALERT_CREATED";
+    public static final String ALERT_STATUS_CHANGED = "ALERT_STATUS_CHANGED";
+
+    public static AlertEventMessage from(OutboxEvent outboxEvent) {
+        return switch (outboxEvent.event()) {
+            case AlertCreatedEvent event -> new AlertEventMessage(outboxEvent.id(), ALERT_CREATED,
+                    event.alertId(), event.creatorId(), null, null, outboxEvent.createdAt());
+            case AlertStatusChangedEvent event -> new AlertEventMessage(outboxEvent.id(), ALERT_STATUS_CHANGED,
+                    event.alertId(), null, event.oldStatus(), event.newStatus(), outboxEvent.createdAt());
+            default -> throw new IllegalArgumentException(
+                    "Unsupported alert event: " + outboxEvent.event().getClass().getSimpleName());
+        };
+    }
+
+    public String routingKey() {
+        return ALERT_CREATED.equals(eventType)
+                ? AlertEventQueueConfig.ALERT_CREATED_ROUTING_KEY
+                : AlertEventQueueConfig.ALERT_STATUS_CHANGED_ROUTING_KEY;
+    }
+}
@@ -0,0 +1,74 @@
+package itacademy.pawalert.infrastructure.notificationqueues.alertevents;
+
+import itacademy.pawalert.application.notification.service.SubscriptionNotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Turns alert status-change events into subscriber notifications.
+ * <p>
+ * The message is acknowledged only after every email and Telegram event has been confirmed by the
+ * broker, so together with the outbox relay a status change reaches its subscribers at least once.
+ * A fan-out that failed halfway is redone in full on redelivery, and the subscribers already
+ * reached then get the notification twice.
+ * <p>
+ * Broker and transient database failures requeue the event after a short pause; anything else,
+ * such as an alert that no longer exists, is dead-lettered for inspection.
+ * <p>
+ * Configuration properties:
+ * - app.alerts.events.requeue-delay-ms: Pause before a failed event is requeued (default: 1000)
+ */
+@Slf4j
+@Component
+public class AlertEventNotificationListener {
+
+    private final SubscriptionNotificationService subscriptionNotificationService;
+    private final Duration requeueDelay;
+
+    @Autowired
+    public AlertEventNotificationListener(SubscriptionNotificationService subscriptionNotificationService,
+                                          @Value("${app.alerts.events.requeue-delay-ms:1000}") long requeueDelayMs) {
+        this.subscriptionNotificationService = subscriptionNotificationService;
+        this.requeueDelay = Duration.ofMillis(requeueDelayMs);
+    }
+
+    @RabbitListener(queues = AlertEventQueueConfig.ALERT_NOTIFICATIONS_QUEUE)
+    public void handleAlertEvent(AlertEventMessage message) {
+        if (!AlertEventMessage.ALERT_STATUS_CHANGED.equals(message.eventType())) {
+            return;
+        }
+        log.info("[FAN-OUT] Alert {} changed from {} to {}, event {}",
+                message.alertId(), message.oldStatus(), message.newStatus(), message.eventId());
+
+        try {
+            subscriptionNotificationService.notifySubscribers(message.alertId(), message.oldStatus(), message.newStatus());
+        } catch (AmqpException | TransientDataAccessException e) {
+            log.warn("[FAN-OUT] Fan-out for event {} failed, requeueing in {} ms: {}",
+                    message.eventId(), requeueDelay.toMillis(), e.getMessage());
+            pauseBeforeRequeue();
+            throw new ImmediateRequeueAmqpException("Fan-out failed for event " + message.eventId(), e);
+        } catch (Exception e) {
+            // Dead-lettered for inspection instead of being redelivered in a loop
+            log.error("[FAN-OUT] Could not queue notifications for event {}: {}", message.eventId(), e.getMessage(), e);
+            throw new AmqpRejectAndDontRequeueException("Fan-out failed for event " + message.eventId(), e);
+        }
+    }
+
+    // Keeps a broker outage from turning into a tight redelivery loop
+    private void pauseBeforeRequeue() {
+        try {
+            Thread.sleep(requeueDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
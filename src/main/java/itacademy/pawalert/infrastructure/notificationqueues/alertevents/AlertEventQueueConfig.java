@@ -0,0 +1,66 @@
+package itacademy.pawalert.infrastructure.notificationqueues.alertevents;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exchange the outbox relay publishes alert domain events to, and the queue feeding the
+ * subscriber notification fan-out from it.
+ * <p>
+ * Routing keys are {@code alert.created} and {@code alert.status-changed}; other consumers can
+ * bind their own queues to the exchange without touching the relay.
+ */
+@Configuration
+public class AlertEventQueueConfig {
+
+    public static final String ALERT_EVENTS_EXCHANGE = "alert-events";
+    public static final String ALERT_CREATED_ROUTING_KEY = "alert.created";
+    public static final String ALERT_STATUS_CHANGED_ROUTING_KEY = "alert.status-changed";
+    public static final String ALERT_NOTIFICATIONS_QUEUE = "alert-events-notifications";
+    public static final String ALERT_NOTIFICATIONS_DLQ = "alert-events-notifications-dlq";
+    public static final String ALERT_EVENTS_DLX = "alert-events-dlx";
+
+    @Bean
+    public TopicExchange alertEventsExchange() {
+        return new TopicExchange(ALERT_EVENTS_EXCHANGE);
+    }
+
+    @Bean
+    public Queue alertNotificationsQueue() {
+        return QueueBuilder.durable(ALERT_NOTIFICATIONS_QUEUE)
+                .withArgument("x-dead-letter-exchange", ALERT_EVENTS_DLX)
+                .withArgument("x-dead-letter-routing-key", ALERT_NOTIFICATIONS_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Binding alertNotificationsBinding(Queue alertNotificationsQueue, TopicExchange alertEventsExchange) {
+        return BindingBuilder.bind(alertNotificationsQueue)
+                .to(alertEventsExchange)
+                .with(ALERT_STATUS_CHANGED_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue alertNotificationsDeadLetterQueue() {
+        return QueueBuilder.durable(ALERT_NOTIFICATIONS_DLQ).build();
+    }
+
+    @Bean
+    public DirectExchange alertEventsDeadLetterExchange() {
+        return new DirectExchange(ALERT_EVENTS_DLX);
+    }
+
+    @Bean
+    public Binding alertNotificationsDlqBinding(Queue alertNotificationsDeadLetterQueue,
+                                                DirectExchange alertEventsDeadLetterExchange) {
+        return BindingBuilder.bind(alertNotificationsDeadLetterQueue)
+                .to(alertEventsDeadLetterExchange)
+                .with(ALERT_NOTIFICATIONS_DLQ);
+    }
+}
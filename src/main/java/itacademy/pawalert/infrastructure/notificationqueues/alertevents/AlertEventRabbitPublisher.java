@@ -0,0 +1,70 @@
+package itacademy.pawalert.infrastructure.notificationqueues.alertevents;
+
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+import itacademy.pawalert.application.alert.port.outbound.AlertEventPublisherPort;
+import itacademy.pawalert.application.exception.EventBrokerUnavailableException;
+import itacademy.pawalert.application.exception.UnpublishableEventException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpResourceNotAvailableException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes an outbox event and waits for the broker to confirm it.
+ * <p>
+ * Each event is confirmed on its own, so a refused event does not fail the events published
+ * next to it. Connection failures and confirm timeouts are reported as the broker being
+ * unavailable; an event that has no message form is reported as unpublishable.
+ * <p>
+ * Configuration properties:
+ * - app.alerts.outbox.confirm-timeout-ms: Time to wait for the broker's confirm of an event (default: 5000)
+ */
+@Slf4j
+@Component
+public class AlertEventRabbitPublisher implements AlertEventPublisherPort {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+    private final boolean confirmsEnabled;
+
+    public AlertEventRabbitPublisher(RabbitTemplate rabbitTemplate,
+                                     @Value("${app.alerts.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.confirmsEnabled = rabbitTemplate.getConnectionFactory() instanceof CachingConnectionFactory factory
+                && factory.isSimplePublisherConfirms();
+    }
+
+    @Override
+    public void publish(OutboxEvent event) {
+        AlertEventMessage message;
+        try {
+            message = AlertEventMessage.from(event);
+        } catch (RuntimeException e) {
+            throw new UnpublishableEventException("Event " + event.id() + " has no message form: " + e.getMessage(), e);
+        }
+
+        try {
+            rabbitTemplate.invoke(operations -> {
+                operations.convertAndSend(AlertEventQueueConfig.ALERT_EVENTS_EXCHANGE, message.routingKey(), message, amqpMessage -> {
+                    // Lets consumers recognise a redelivered event
+                    amqpMessage.getMessageProperties().setMessageId(message.eventId().toString());
+                    amqpMessage.getMessageProperties().setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+                    return amqpMessage;
+                });
+                if (confirmsEnabled) {
+                    operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                }
+                return null;
+            });
+        } catch (AmqpConnectException | AmqpTimeoutException | AmqpResourceNotAvailableException e) {
+            throw new EventBrokerUnavailableException("Broker unavailable: " + e.getMessage(), e);
+        }
+        log.debug("[OUTBOX] Broker accepted alert event {}", event.id());
+    }
+}
@@ -1,38 +1,48 @@
 package itacademy.pawalert.infrastructure.notificationqueues.email;
 
+import itacademy.pawalert.application.notification.model.EmailDeliveryFailure;
+import itacademy.pawalert.application.notification.model.OutgoingEmail;
 import itacademy.pawalert.application.notification.port.outbound.EmailServicePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class EmailNotificationListener {
 
+    private static final int MAX_REDELIVERIES = 3;
+
     private final EmailServicePort emailService;
     private final EmailFailedNotificationRepository failedRepository;
+    private final EmailNotificationPublisher publisher;
 
-    @RabbitListener(queues = EmailQueueConfig.EMAIL_QUEUE)
-    public void handleEmailNotification(EmailNotificationEvent event) {
-        log.info("Processing Email notification: eventId={}, to={}",
-                event.eventId(), maskEmail(event.email()));
+    // Consumer batches arrive as one list and go out over a single SMTP connection
+    @RabbitListener(queues = EmailQueueConfig.EMAIL_QUEUE, containerFactory = "emailListenerContainerFactory")
+    public void handleEmailNotifications(List<EmailNotificationEvent> events) {
+        log.info("Processing {} Email notifications", events.size());
 
+        List<EmailDeliveryFailure> failures;
         try {
-            emailService.sendToUser(event.email(), event.subject(), event.body());
-            log.info("Email sent successfully: eventId={}", event.eventId());
-
+            failures = emailService.sendAll(events.stream()
+                    .map(event -> new OutgoingEmail(event.email(), event.subject(), event.body()))
+                    .toList());
         } catch (Exception e) {
-            log.error("Failed to send email: eventId={}, error={}",
-                    event.eventId(), e.getMessage());
+            log.error("Failed to send email batch of {}: error={}", events.size(), e.getMessage());
             // Re-throw to trigger retry/DLQ
             throw new EmailNotificationException(
-                    event.email(),
+                    events.size() == 1 ? events.get(0).email() : null,
                     "Failed to send email: " + e.getMessage(),
                     e
             );
         }
+
+        failures.forEach(failure -> handleFailedRecipient(events.get(failure.index()), failure));
+        log.info("Email batch processed: sent={}, failed={}", events.size() - failures.size(), failures.size());
     }
 
     @RabbitListener(queues = EmailQueueConfig.EMAIL_DLQ)
@@ -42,6 +52,30 @@ public class EmailNotificationListener {
         failedRepository.save(event);
     }
 
+    // Only the recipients that failed are sent again; the rest of the batch is acknowledged.
+    // Nothing here may throw: a nack would redeliver the whole batch and resend the emails that went out.
+    private void handleFailedRecipient(EmailNotificationEvent event, EmailDeliveryFailure failure) {
+        log.warn("Email not delivered: eventId={}, to={}, reason={}",
+                event.eventId(), maskEmail(event.email()), failure.reason());
+
+        if (failure.retryable() && event.retryCount() < MAX_REDELIVERIES) {
+            try {
+                publisher.republish(event.withIncrementedRetry());
+                return;
+            } catch (RuntimeException e) {
+                log.error("Could not requeue email, storing it for review: eventId={}, error={}",
+                        event.eventId(), e.getMessage());
+            }
+        } else {
+            log.error("Email permanently failed after {} redeliveries: eventId={}", event.retryCount(), event.eventId());
+        }
+        try {
+            failedRepository.save(event);
+        } catch (RuntimeException e) {
+            log.error("Could not store failed email, it is lost: eventId={}, error={}", event.eventId(), e.getMessage());
+        }
+    }
+
     private String maskEmail(String email) {
         if (email == null || !email.contains("@")) {
             return "***";
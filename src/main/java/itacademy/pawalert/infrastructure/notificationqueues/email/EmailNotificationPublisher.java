@@ -2,32 +2,65 @@ package itacademy.pawalert.infrastructure.notificationqueues.email;
 
 import itacademy.pawalert.application.notification.port.outbound.NotificationPublisherPort;
 import itacademy.pawalert.domain.alert.model.NotificationChannel;
+import itacademy.pawalert.infrastructure.notificationqueues.BatchingRabbitPublisher;
+import itacademy.pawalert.infrastructure.notificationqueues.PublisherStats;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * Queues email notification events, sent to RabbitMQ in confirmed batches.
+ * <p>
+ * Configuration properties:
+ * - app.notifications.publisher.batch-size: Maximum events per batch (default: 100)
+ * - app.notifications.publisher.max-delay-ms: Maximum time an event waits for its batch (default: 50)
+ * - app.notifications.publisher.confirm-timeout-ms: Time to wait for broker confirms (default: 5000)
+ * - app.notifications.publisher.buffer-capacity: Events buffered before callers send directly (default: 10000)
+ */
 @Slf4j
 @Component
 public class EmailNotificationPublisher implements NotificationPublisherPort<EmailNotificationEvent> {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final BatchingRabbitPublisher<EmailNotificationEvent> batchingPublisher;
 
-    public EmailNotificationPublisher(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public EmailNotificationPublisher(RabbitTemplate rabbitTemplate,
+                                      @Value("${app.notifications.publisher.batch-size:100}") int batchSize,
+                                      @Value("${app.notifications.publisher.max-delay-ms:50}") long maxDelayMs,
+                                      @Value("${app.notifications.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                                      @Value("${app.notifications.publisher.buffer-capacity:10000}") int bufferCapacity) {
+        this.batchingPublisher = new BatchingRabbitPublisher<>(EmailQueueConfig.EMAIL_QUEUE, rabbitTemplate, batchSize,
+                Duration.ofMillis(maxDelayMs), Duration.ofMillis(confirmTimeoutMs), bufferCapacity);
     }
 
     @Override
     public void publish(EmailNotificationEvent event) {
-        log.info("Publishing Email notification: eventId={}, email={}",
+        log.debug("Queueing Email notification: eventId={}, email={}",
                 event.eventId(), maskEmail(event.email()));
 
-        rabbitTemplate.convertAndSend(
-                EmailQueueConfig.EMAIL_QUEUE,
-                event
-        );
+        batchingPublisher.submit(event);
+    }
 
-        log.debug("Event published to queue: {}", EmailQueueConfig.EMAIL_QUEUE);
+    @Override
+    public void publishAll(List<EmailNotificationEvent> events) {
+        batchingPublisher.submitAll(events);
+        log.info("Queued {} Email notification events for {}", events.size(), EmailQueueConfig.EMAIL_QUEUE);
+    }
+
+    @Override
+    public void publishAllConfirmed(List<EmailNotificationEvent> events) {
+        batchingPublisher.publishConfirmed(events);
+        log.info("Published {} Email notification events to {}", events.size(), EmailQueueConfig.EMAIL_QUEUE);
+    }
+
+    // Sent straight away and confirmed rather than buffered: the caller acknowledges the original message right after
+    public void republish(EmailNotificationEvent event) {
+        batchingPublisher.publishConfirmed(List.of(event));
+        log.info("Email notification requeued: eventId={}, retryCount={}", event.eventId(), event.retryCount());
     }
 
     @Override
@@ -35,6 +68,15 @@ public class EmailNotificationPublisher implements NotificationPublisherPort<Ema
         return NotificationChannel.EMAIL;
     }
 
+    public PublisherStats stats() {
+        return batchingPublisher.stats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchingPublisher.close();
+    }
+
     private String maskEmail(String email) {
         if (email == null || !email.contains("@")) {
             return "***";
@@ -1,10 +1,27 @@
 package itacademy.pawalert.infrastructure.notificationqueues.email;
 
+import itacademy.pawalert.domain.alert.model.NotificationChannel;
+import itacademy.pawalert.infrastructure.notificationqueues.ListenerUtilizationTracker;
+import itacademy.pawalert.infrastructure.notificationqueues.NotificationListenerContainers;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.amqp.autoconfigure.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 
+/**
+ * Email notification queue, its dead-letter queue and the listener container draining it.
+ * <p>
+ * Configuration properties:
+ * - app.notifications.email.listener.concurrency: Consumers started with the container (default: 1)
+ * - app.notifications.email.listener.max-concurrency: Consumers the container may scale up to (default: 0 = 2 x CPU cores)
+ * - app.notifications.email.listener.prefetch: Unacknowledged messages per consumer (default: 10)
+ * - app.notifications.email.listener.batch-size: Messages handed to the listener per SMTP connection (default: 10)
+ * - app.notifications.email.listener.batch-timeout-ms: Time to wait for a batch to fill up (default: 200)
+ */
 @Configuration
 public class EmailQueueConfig {
 
@@ -38,4 +55,30 @@ public class EmailQueueConfig {
                 .to(emailDeadLetterExchange)
                 .with(EMAIL_DLX_ROUTING_KEY);
     }
+
+    @Bean
+    public ListenerUtilizationTracker emailListenerTracker(
+            @Value("${app.notifications.email.listener.max-concurrency:0}") int maxConcurrency) {
+        return new ListenerUtilizationTracker(NotificationChannel.EMAIL, EmailQueueConfig.EMAIL_QUEUE,
+                NotificationListenerContainers.resolveMaxConsumers(maxConcurrency));
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory emailListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerUtilizationTracker emailListenerTracker,
+            @Value("${app.notifications.email.listener.concurrency:1}") int concurrency,
+            @Value("${app.notifications.email.listener.prefetch:10}") int prefetch,
+            @Value("${app.notifications.email.listener.batch-size:10}") int batchSize,
+            @Value("${app.notifications.email.listener.batch-timeout-ms:200}") long batchTimeoutMs) {
+        // A batch can only fill up if the broker lets the consumer hold that many unacknowledged messages
+        SimpleRabbitListenerContainerFactory factory = NotificationListenerContainers.create(configurer, connectionFactory,
+                "email-listener-", concurrency, Math.max(prefetch, batchSize), emailListenerTracker);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchTimeoutMs);
+        return factory;
+    }
 }
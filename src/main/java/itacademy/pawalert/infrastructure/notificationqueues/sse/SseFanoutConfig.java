@@ -0,0 +1,39 @@
+package itacademy.pawalert.infrastructure.notificationqueues.sse;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Fanout exchange that carries SSE notifications to every backend replica.
+ * <p>
+ * Each node binds its own server-named queue, which is exclusive and deleted when the node
+ * disconnects, so a notification published once is delivered to all nodes currently running.
+ */
+@Configuration
+public class SseFanoutConfig {
+
+    public static final String SSE_FANOUT_EXCHANGE = "sse-notifications";
+    public static final String SSE_NODE_QUEUE_PREFIX = "sse-notifications.";
+
+    @Bean
+    public FanoutExchange sseFanoutExchange() {
+        // Durable so a node starting alone still finds it; the messages themselves are transient
+        return new FanoutExchange(SSE_FANOUT_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue sseNodeQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(SSE_NODE_QUEUE_PREFIX));
+    }
+
+    @Bean
+    public Binding sseNodeBinding(Queue sseNodeQueue, FanoutExchange sseFanoutExchange) {
+        return BindingBuilder.bind(sseNodeQueue).to(sseFanoutExchange);
+    }
+}
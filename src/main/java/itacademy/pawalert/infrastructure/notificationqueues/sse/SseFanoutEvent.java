@@ -0,0 +1,18 @@
+package itacademy.pawalert.infrastructure.notificationqueues.sse;
+
+import itacademy.pawalert.infrastructure.notificationsenders.sse.SseTopic;
+import itacademy.pawalert.infrastructure.rest.notification.dto.NotificationMessage;
+
+import java.util.Set;
+
+/**
+ * A notification published on one node for the SSE clients of every node.
+ *
+ * @param originNodeId node that already delivered it to its own clients
+ */
+public record SseFanoutEvent(
+        String originNodeId,
+        NotificationMessage notification,
+        Set<SseTopic> topics
+) {
+}
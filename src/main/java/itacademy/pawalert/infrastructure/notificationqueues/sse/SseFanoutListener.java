@@ -0,0 +1,25 @@
+package itacademy.pawalert.infrastructure.notificationqueues.sse;
+
+import itacademy.pawalert.infrastructure.notificationsenders.sse.SseNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseFanoutListener {
+
+    private final SseNotificationService sseNotificationService;
+
+    @RabbitListener(queues = "#{sseNodeQueue.name}")
+    public void handleNotification(SseFanoutEvent event) {
+        // The publishing node delivered to its own clients without waiting for the broker
+        if (sseNotificationService.getNodeId().equals(event.originNodeId())) {
+            return;
+        }
+        log.debug("[SSE] Delivering notification {} from node {}", event.notification().id(), event.originNodeId());
+        sseNotificationService.deliverLocally(event.notification(), event.topics());
+    }
+}
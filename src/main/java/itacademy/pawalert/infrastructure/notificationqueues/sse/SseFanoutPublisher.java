@@ -0,0 +1,81 @@
+package itacademy.pawalert.infrastructure.notificationqueues.sse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends SSE notifications to the other nodes through the fanout exchange.
+ * <p>
+ * {@link #publish} only queues the event, so the request or after-commit thread never waits for the
+ * broker. A single sender drains the queue in order; when the queue is full or the broker send
+ * fails, the event is dropped. Dropped events are lost for clients on the other nodes: nothing
+ * replays them, so each drop is counted in {@link #dropped()} and logged.
+ * <p>
+ * Configuration properties:
+ * - app.sse.fanout.queue-capacity: Events waiting to be fanned out before new ones are dropped (default: 1024)
+ */
+@Slf4j
+@Component
+public class SseFanoutPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Executor sender;
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Autowired
+    public SseFanoutPublisher(RabbitTemplate rabbitTemplate,
+                              @Value("${app.sse.fanout.queue-capacity:1024}") int queueCapacity) {
+        this(rabbitTemplate, new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofVirtual().name("sse-fanout").factory()));
+    }
+
+    SseFanoutPublisher(RabbitTemplate rabbitTemplate, Executor sender) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.sender = sender;
+    }
+
+    // Best effort: clients of this node already have the notification, clients of the other
+    // nodes never get it if the event is dropped
+    public void publish(SseFanoutEvent event) {
+        try {
+            sender.execute(() -> send(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("[SSE] Fanout queue full, notification {} lost for other nodes ({} dropped so far)",
+                    event.notification().id(), dropped.incrementAndGet());
+        }
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void send(SseFanoutEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(SseFanoutConfig.SSE_FANOUT_EXCHANGE, "", event);
+            log.debug("[SSE] Fanned out notification {} to other nodes", event.notification().id());
+        } catch (AmqpException e) {
+            log.warn("[SSE] Could not fan out notification {}, lost for other nodes ({} dropped so far): {}",
+                    event.notification().id(), dropped.incrementAndGet(), e.getMessage());
+        }
+    }
+}
@@ -5,42 +5,73 @@ import itacademy.pawalert.domain.notification.model.NotificationFailureReason;
 import itacademy.pawalert.infrastructure.notificationsenders.telegram.TelegramNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+
+/**
+ * Drains the Telegram queue without blocking on the Bot API.
+ * <p>
+ * Each message starts an async send and returns its future; the container acknowledges the message
+ * once the future completes, so one consumer keeps up to {@code prefetch} sends in flight. Failures are
+ * settled before completing: rate limits and transient errors are republished with a delay, permanent
+ * errors are stored for review, and a message that exhausted its retries fails the future, which
+ * rejects it without requeue so it dead-letters to the DLQ.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TelegramNotificationListener {
 
+    private static final int MAX_RATE_LIMITED_REDELIVERIES = 10;
+    private static final Duration DEFAULT_RATE_LIMIT_DELAY = Duration.ofSeconds(1);
+    private static final int MAX_TRANSIENT_RETRIES = 3;
+    private static final Duration TRANSIENT_RETRY_BASE_DELAY = Duration.ofSeconds(2);
+
     private final TelegramNotificationService telegramService;
     private final TelegramFailedNotificationRepository failedNotificationRepository;
+    private final TelegramNotificationPublisher publisher;
 
-    @RabbitListener(queues = TelegramQueueConfig.TELEGRAM_QUEUE)
-    public void handleNotification(TelegramNotificationEvent event) {
+    @RabbitListener(queues = TelegramQueueConfig.TELEGRAM_QUEUE, containerFactory = "telegramListenerContainerFactory")
+    public CompletableFuture<Void> handleNotification(TelegramNotificationEvent event) {
         log.info("Processing Telegram notification: eventId={}, chatId={}",
                 event.eventId(), maskChatId(event.chatId()));
 
-        try {
-            // Send notification
-            if (event.photoUrl() != null && !event.photoUrl().isEmpty()) {
-                telegramService.sendPhotoWithCaption(
-                        event.chatId(),
-                        event.photoUrl(),
-                        event.message()
-                );
-            } else {
-                telegramService.sendToUser(event.chatId(), event.message());
-            }
-
-            log.info("Telegram notification sent successfully: eventId={}", event.eventId());
-
-        } catch (TelegramNotificationException e) {
-            handleNotificationException(event, e);
-        }
+        // Starting the send inside the chain turns a synchronous throw into a failed future, so the
+        // message is always settled through the future and never left unacknowledged
+        return CompletableFuture.completedFuture(event)
+                .thenCompose(this::send)
+                .handle((ignored, error) -> {
+                    if (error == null) {
+                        log.info("Telegram notification sent successfully: eventId={}", event.eventId());
+                        return null;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TelegramNotificationException e) {
+                        handleNotificationException(event, e);
+                        return null;
+                    }
+                    log.error("Unexpected error sending Telegram notification: eventId={}", event.eventId(), cause);
+                    throw new AmqpRejectAndDontRequeueException("Unexpected Telegram send failure", cause);
+                });
     }
 
+    private CompletableFuture<Void> send(TelegramNotificationEvent event) {
+        if (event.photoUrl() != null && !event.photoUrl().isEmpty()) {
+            return telegramService.sendPhotoWithCaptionAsync(
+                    event.chatId(),
+                    event.photoUrl(),
+                    event.message()
+            );
+        }
+        return telegramService.sendToUserAsync(event.chatId(), event.message());
+    }
 
     @RabbitListener(queues = TelegramQueueConfig.TELEGRAM_DLQ)
     public void handleFailedNotification(TelegramNotificationEvent event) {
@@ -58,13 +89,18 @@ public class TelegramNotificationListener {
                                              TelegramNotificationException e) {
         NotificationFailureReason reason = e.getReason();
 
+        if (reason == NotificationFailureReason.RATE_LIMITED) {
+            retryLater(event, e);
+            return;
+        }
+
         log.warn("Telegram notification failed: eventId={}, reason={}, chatId={}",
                 event.eventId(), reason, maskChatId(event.chatId()));
 
         // Check if this is a retryable error
         if (isRetryableError(reason)) {
-            log.info("Retryable error detected, re-throwing to trigger retry: {}", reason);
-            throw e; // This triggers retry and eventually DLQ
+            retryTransient(event, e);
+            return;
         }
 
         // For permanent errors, log and don't retry
@@ -75,6 +111,28 @@ public class TelegramNotificationListener {
         failedNotificationRepository.save(event);
     }
 
+    private void retryLater(TelegramNotificationEvent event, TelegramNotificationException e) {
+        if (event.retryCount() >= MAX_RATE_LIMITED_REDELIVERIES) {
+            log.error("Telegram notification still rate limited after {} redeliveries: eventId={}",
+                    event.retryCount(), event.eventId());
+            failedNotificationRepository.save(event);
+            return;
+        }
+        Duration delay = e.getRetryAfter() != null ? e.getRetryAfter() : DEFAULT_RATE_LIMIT_DELAY;
+        publisher.publishDelayed(event.withIncrementedRetry(), delay);
+    }
+
+    // Backs off 2s, 4s, 8s; past that the message is rejected and dead-letters to the DLQ
+    private void retryTransient(TelegramNotificationEvent event, TelegramNotificationException e) {
+        if (event.retryCount() >= MAX_TRANSIENT_RETRIES) {
+            throw new AmqpRejectAndDontRequeueException(
+                    "Telegram notification failed after " + event.retryCount() + " retries", e);
+        }
+        Duration delay = TRANSIENT_RETRY_BASE_DELAY.multipliedBy(1L << event.retryCount());
+        log.info("Retryable error detected, retrying in {}: {}", delay, e.getReason());
+        publisher.publishDelayed(event.withIncrementedRetry(), delay);
+    }
+
     /**
      * Determine if an error is retryable.
      * Network errors might be temporary, so we should retry.
@@ -2,37 +2,80 @@ package itacademy.pawalert.infrastructure.notificationqueues.telegram;
 
 import itacademy.pawalert.application.notification.port.outbound.NotificationPublisherPort;
 import itacademy.pawalert.domain.alert.model.NotificationChannel;
-import lombok.RequiredArgsConstructor;
+import itacademy.pawalert.infrastructure.notificationqueues.BatchingRabbitPublisher;
+import itacademy.pawalert.infrastructure.notificationqueues.PublisherStats;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TelegramNotificationPublisher implements NotificationPublisherPort<TelegramNotificationEvent>{
 
     private final RabbitTemplate rabbitTemplate;
+    private final BatchingRabbitPublisher<TelegramNotificationEvent> batchingPublisher;
+
+    // Batching settings are shared with EmailNotificationPublisher (app.notifications.publisher.*)
+    public TelegramNotificationPublisher(RabbitTemplate rabbitTemplate,
+                                         @Value("${app.notifications.publisher.batch-size:100}") int batchSize,
+                                         @Value("${app.notifications.publisher.max-delay-ms:50}") long maxDelayMs,
+                                         @Value("${app.notifications.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                                         @Value("${app.notifications.publisher.buffer-capacity:10000}") int bufferCapacity) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.batchingPublisher = new BatchingRabbitPublisher<>(TelegramQueueConfig.TELEGRAM_QUEUE, rabbitTemplate, batchSize,
+                Duration.ofMillis(maxDelayMs), Duration.ofMillis(confirmTimeoutMs), bufferCapacity);
+    }
 
-    // Publish a notification event to the queue.
-    // This is non-blocking - the message will be processed asynchronously.
+    // Queue a notification event for publishing.
+    // This is non-blocking - the event is sent with the next batch and processed asynchronously.
     @Override
     public void publish(TelegramNotificationEvent event) {
-        log.info("Publishing Telegram notification event: eventId={}, userId={}, alertId={}",
+        log.debug("Queueing Telegram notification event: eventId={}, userId={}, alertId={}",
                 event.eventId(), event.userId(), event.alertId());
 
-        rabbitTemplate.convertAndSend(
-                TelegramQueueConfig.TELEGRAM_QUEUE,
-                event
-        );
+        batchingPublisher.submit(event);
+    }
+
+    @Override
+    public void publishAll(List<TelegramNotificationEvent> events) {
+        batchingPublisher.submitAll(events);
+        log.info("Queued {} Telegram notification events for {}", events.size(), TelegramQueueConfig.TELEGRAM_QUEUE);
+    }
+
+    @Override
+    public void publishAllConfirmed(List<TelegramNotificationEvent> events) {
+        batchingPublisher.publishConfirmed(events);
+        log.info("Published {} Telegram notification events to {}", events.size(), TelegramQueueConfig.TELEGRAM_QUEUE);
+    }
 
-        log.debug("Event published successfully to queue: {}",
-                TelegramQueueConfig.TELEGRAM_QUEUE);
+    // Redeliver after the given delay via the retry queue, instead of an immediate retry that hits the limit again
+    public void publishDelayed(TelegramNotificationEvent event, Duration delay) {
+        long delayMs = Math.max(1, delay.toMillis());
+        rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_RETRY_QUEUE, event, message -> {
+            message.getMessageProperties().setExpiration(String.valueOf(delayMs));
+            return message;
+        });
+        log.info("Telegram notification delayed {} ms: eventId={}, retryCount={}",
+                delayMs, event.eventId(), event.retryCount());
     }
 
     @Override
     public NotificationChannel getChannel() {
         return NotificationChannel.TELEGRAM;
     }
+
+    public PublisherStats stats() {
+        return batchingPublisher.stats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchingPublisher.close();
+    }
 }
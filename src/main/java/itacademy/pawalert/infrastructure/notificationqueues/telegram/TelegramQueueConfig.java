@@ -1,9 +1,28 @@
 package itacademy.pawalert.infrastructure.notificationqueues.telegram;
 
+import itacademy.pawalert.domain.alert.model.NotificationChannel;
+import itacademy.pawalert.infrastructure.notificationqueues.ListenerUtilizationTracker;
+import itacademy.pawalert.infrastructure.notificationqueues.NotificationListenerContainers;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.amqp.autoconfigure.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Telegram notification queue, its dead-letter queue and the listener container draining it.
+ * <p>
+ * Configuration properties:
+ * - app.notifications.telegram.listener.concurrency: Consumers started with the container (default: 1)
+ * - app.notifications.telegram.listener.max-concurrency: Consumers the container may scale up to (default: 0 = 2 x CPU cores)
+ * - app.notifications.telegram.listener.prefetch: Unacknowledged messages per consumer (default: 20)
+ * <p>
+ * The listener returns a future per message and the container acknowledges it manually once the
+ * send completes, so prefetch is the number of Telegram sends each consumer keeps in flight. The
+ * utilization tracker therefore measures dispatch time on the consumer thread, not the HTTP round trip.
+ */
 @Configuration
 public class TelegramQueueConfig {
 
@@ -11,6 +30,7 @@ public class TelegramQueueConfig {
     public static final String TELEGRAM_DLQ = "telegram-notifications-dlq";
     public static final String TELEGRAM_DLX = "telegram-dlx";
     public static final String TELEGRAM_DLX_ROUTING_KEY = "telegram-notifications-dlq";
+    public static final String TELEGRAM_RETRY_QUEUE = "telegram-notifications-retry";
 
     @Bean
     public Queue telegramNotificationQueue() {
@@ -25,6 +45,15 @@ public class TelegramQueueConfig {
         return QueueBuilder.durable(TELEGRAM_DLQ).build();
     }
 
+    // No consumers: messages wait here for their per-message TTL, then dead-letter back to the main queue
+    @Bean
+    public Queue telegramRetryQueue() {
+        return QueueBuilder.durable(TELEGRAM_RETRY_QUEUE)
+                .withArgument("x-dead-letter-exchange", "")
+                .withArgument("x-dead-letter-routing-key", TELEGRAM_QUEUE)
+                .build();
+    }
+
     @Bean
     public DirectExchange telegramDeadLetterExchange() {
         return new DirectExchange(TELEGRAM_DLX);
@@ -37,4 +66,24 @@ public class TelegramQueueConfig {
                 .to(telegramDeadLetterExchange)
                 .with(TELEGRAM_DLX_ROUTING_KEY);
     }
+
+    @Bean
+    public ListenerUtilizationTracker telegramListenerTracker(
+            @Value("${app.notifications.telegram.listener.max-concurrency:0}") int maxConcurrency) {
+        return new ListenerUtilizationTracker(NotificationChannel.TELEGRAM, TelegramQueueConfig.TELEGRAM_QUEUE,
+                NotificationListenerContainers.resolveMaxConsumers(maxConcurrency));
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory telegramListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerUtilizationTracker telegramListenerTracker,
+            @Value("${app.notifications.telegram.listener.concurrency:1}") int concurrency,
+            @Value("${app.notifications.telegram.listener.prefetch:20}") int prefetch) {
+        SimpleRabbitListenerContainerFactory factory = NotificationListenerContainers.create(configurer,
+                connectionFactory, "telegram-listener-", concurrency, prefetch, telegramListenerTracker);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
 }
@@ -0,0 +1,41 @@
+package itacademy.pawalert.infrastructure.notificationsenders.email;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the bulk email path, recorded by {@link EmailServiceImpl} and read by the admin endpoints.
+ */
+@Component
+public class EmailDeliveryMetrics {
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong sendNanos = new AtomicLong();
+    private final AtomicLong lastBatchMs = new AtomicLong();
+
+    public void recordBatch(long elapsedNanos, int total, int failed) {
+        sendNanos.addAndGet(elapsedNanos);
+        lastBatchMs.set(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        batchCount.incrementAndGet();
+        sentCount.addAndGet(total - failed);
+        failedCount.addAndGet(failed);
+    }
+
+    public EmailDeliveryStats stats() {
+        long sent = sentCount.get();
+        long failed = failedCount.get();
+        long batches = batchCount.get();
+        double seconds = sendNanos.get() / 1_000_000_000.0;
+        return new EmailDeliveryStats(
+                sent,
+                failed,
+                batches,
+                batches == 0 ? 0.0 : (double) (sent + failed) / batches,
+                seconds == 0 ? 0.0 : sent / seconds,
+                lastBatchMs.get());
+    }
+}
@@ -0,0 +1,15 @@
+package itacademy.pawalert.infrastructure.notificationsenders.email;
+
+/**
+ * Point-in-time counters of the bulk email path, taken from {@link EmailDeliveryMetrics}.
+ * {@code messagesPerSecond} is measured over the time spent inside SMTP sends, not wall-clock time.
+ */
+public record EmailDeliveryStats(
+        long sent,
+        long failed,
+        long batches,
+        double averageBatchSize,
+        double messagesPerSecond,
+        long lastBatchMs
+) {
+}
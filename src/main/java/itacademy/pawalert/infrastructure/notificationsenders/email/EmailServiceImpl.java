@@ -1,19 +1,39 @@
 package itacademy.pawalert.infrastructure.notificationsenders.email;
 
+import itacademy.pawalert.application.notification.model.EmailDeliveryFailure;
+import itacademy.pawalert.application.notification.model.OutgoingEmail;
 import itacademy.pawalert.application.notification.port.outbound.EmailServicePort;
 import itacademy.pawalert.infrastructure.persistence.alert.AlertSubscriptionRepository;
 import itacademy.pawalert.infrastructure.persistence.user.UserRepository;
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+
+/**
+ * Sends notification emails through the configured {@link JavaMailSender}.
+ * <p>
+ * {@link #sendAll} hands a whole batch to {@code send(MimeMessage...)}, which delivers every message over one
+ * SMTP connection instead of opening a transaction per recipient, and reports which recipients failed.
+ */
 @Service
 public class EmailServiceImpl implements EmailServicePort {
 
@@ -25,26 +45,25 @@ public class EmailServiceImpl implements EmailServicePort {
     @Value("${spring.mail.username}")
     private String fromEmail;
 
+    private final EmailDeliveryMetrics deliveryMetrics;
+
     public EmailServiceImpl(SpringTemplateEngine templateEngine,
                             JavaMailSender mailSender,
                             UserRepository userRepository,
-                            AlertSubscriptionRepository subscriptionRepository) {
+                            AlertSubscriptionRepository subscriptionRepository,
+                            EmailDeliveryMetrics deliveryMetrics) {
         this.templateEngine = templateEngine;
         this.mailSender = mailSender;
         this.userRepository = userRepository;
         this.subscriptionRepository = subscriptionRepository;
+        this.deliveryMetrics = deliveryMetrics;
     }
 
     @Override
     public void sendToUser(String to, String subject, String htmlBody) {
         LOGGER.info("[EMAIL-SERVICE] Attempting to send email to: {}, subject: {}, from: {}", to, subject, fromEmail);
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlBody, true);
+            MimeMessage message = createMessage(to, subject, htmlBody);
 
             LOGGER.info("[EMAIL-SERVICE] Calling mailSender.send()...");
             mailSender.send(message);
@@ -57,5 +76,79 @@ public class EmailServiceImpl implements EmailServicePort {
 
     }
 
-}
+    @Override
+    public List<EmailDeliveryFailure> sendAll(List<OutgoingEmail> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        List<EmailDeliveryFailure> failures = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        Map<MimeMessage, Integer> indexByMessage = new IdentityHashMap<>();
+        for (int i = 0; i < emails.size(); i++) {
+            OutgoingEmail email = emails.get(i);
+            try {
+                MimeMessage message = createMessage(email.to(), email.subject(), email.htmlBody());
+                messages.add(message);
+                indexByMessage.put(message, i);
+            } catch (MessagingException | MailException e) {
+                // The message cannot be built for this address, sending it again will not help
+                failures.add(new EmailDeliveryFailure(i, email.to(), e.getMessage(), false));
+            }
+        }
 
+        long start = System.nanoTime();
+        try {
+            if (!messages.isEmpty()) {
+                mailSender.send(messages.toArray(MimeMessage[]::new));
+            }
+        } catch (MailSendException e) {
+            // Connection or transport failure (no per-message causes, or every message failed for a
+            // reason that may pass next time): let the caller retry the batch
+            if (isTransportFailure(e, messages.size())) {
+                deliveryMetrics.recordBatch(System.nanoTime() - start, emails.size(), emails.size());
+                throw e;
+            }
+            e.getFailedMessages().forEach((message, cause) -> {
+                int index = indexByMessage.get((MimeMessage) message);
+                failures.add(new EmailDeliveryFailure(index, emails.get(index).to(), cause.getMessage(), isRetryable(cause)));
+            });
+        } catch (MailException e) {
+            deliveryMetrics.recordBatch(System.nanoTime() - start, emails.size(), emails.size());
+            throw e;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        deliveryMetrics.recordBatch(elapsedNanos, emails.size(), failures.size());
+
+        LOGGER.info("[EMAIL-SERVICE] Bulk send: {} of {} emails delivered in {} ms",
+                emails.size() - failures.size(), emails.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return failures;
+    }
+
+    private MimeMessage createMessage(String to, String subject, String htmlBody) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setFrom(fromEmail);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlBody, true);
+        return message;
+    }
+
+    private boolean isTransportFailure(MailSendException e, int sent) {
+        Map<Object, Exception> failedMessages = e.getFailedMessages();
+        if (failedMessages.isEmpty()) {
+            return true;
+        }
+        return failedMessages.size() >= sent && failedMessages.values().stream().allMatch(this::isRetryable);
+    }
+
+    // Addresses the server refused or that do not parse fail the same way on every attempt
+    private boolean isRetryable(Exception cause) {
+        if (cause instanceof SendFailedException sendFailed) {
+            return sendFailed.getInvalidAddresses() == null || sendFailed.getInvalidAddresses().length == 0;
+        }
+        return !(cause instanceof AddressException
+                || cause instanceof MailParseException
+                || cause instanceof MailPreparationException);
+    }
+}
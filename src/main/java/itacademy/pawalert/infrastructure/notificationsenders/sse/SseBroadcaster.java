@@ -0,0 +1,367 @@
+package itacademy.pawalert.infrastructure.notificationsenders.sse;
+
+import itacademy.pawalert.infrastructure.rest.notification.dto.NotificationMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes notifications to SSE clients off the publishing thread.
+ * <p>
+ * {@link #publish} numbers the event, keeps it in a bounded replay buffer, hands it to a background
+ * task and returns. Events are dispatched one after another in number order: the notification is
+ * serialized once and the same frame is queued for every interested client. Each client has its own
+ * backlog, drained by at most one writer at a time, so a slow connection only delays itself.
+ * A client whose backlog goes past the limit is disconnected; browsers reconnect on their own.
+ * <p>
+ * Event ids are {@code <node id>-<number>}, the node id being picked at startup. A reconnecting
+ * client sends the id of the last event it saw as {@code Last-Event-ID} and {@link #attach} queues
+ * only the buffered events after it. If that event has already left the buffer, or was numbered by
+ * another replica or before a restart, the client gets a {@code resync} event first so it knows to
+ * reload its state.
+ * <p>
+ * Configuration properties:
+ * - app.sse.max-concurrent-writes: Clients written to at the same time (default: 64)
+ * - app.sse.max-backlog: Notifications queued per client before it is disconnected (default: 64)
+ * - app.sse.replay-buffer-size: Recent notifications kept for reconnecting clients (default: 1024)
+ */
+@Component
+@Slf4j
+public class SseBroadcaster {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> RESYNC_FRAME = SseEmitter.event()
+            .name("resync")
+            .data("{\"status\":\"resync\",\"message\":\"Some notifications were missed, reload the current state\"}")
+            .build();
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final SseSubscriptionRegistry registry;
+    private final JsonMapper jsonMapper;
+    private final Executor executor;
+    private final Semaphore writers;
+    private final int maxBacklog;
+    private final int replayBufferSize;
+    private final Map<SseEmitter, ClientBacklog> backlogs = new ConcurrentHashMap<>();
+
+    // Guarded by itself: numbering, buffering and dispatch order of events and client joins
+    private final Deque<SequencedEvent> replayBuffer = new ArrayDeque<>();
+    private long lastEventId;
+    private final Queue<Runnable> dispatchQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    private final AtomicLong framesDelivered = new AtomicLong();
+    private final AtomicLong framesReplayed = new AtomicLong();
+    private final AtomicLong slowClientsDisconnected = new AtomicLong();
+
+    @Autowired
+    public SseBroadcaster(SseSubscriptionRegistry registry,
+                          JsonMapper jsonMapper,
+                          @Value("${app.sse.max-concurrent-writes:64}") int maxConcurrentWrites,
+                          @Value("${app.sse.max-backlog:64}") int maxBacklog,
+                          @Value("${app.sse.replay-buffer-size:1024}") int replayBufferSize) {
+        this(registry, jsonMapper, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-", 0).factory()),
+                maxConcurrentWrites, maxBacklog, replayBufferSize);
+    }
+
+    SseBroadcaster(SseSubscriptionRegistry registry, JsonMapper jsonMapper, Executor executor,
+                   int maxConcurrentWrites, int maxBacklog, int replayBufferSize) {
+        this.registry = registry;
+        this.jsonMapper = jsonMapper;
+        this.executor = executor;
+        this.writers = new Semaphore(maxConcurrentWrites);
+        this.maxBacklog = maxBacklog;
+        this.replayBufferSize = replayBufferSize;
+    }
+
+    public long publish(NotificationMessage notification, Collection<SseTopic> topics) {
+        Set<SseTopic> targets = new LinkedHashSet<>(topics);
+        targets.add(SseTopic.all());
+
+        SequencedEvent event;
+        synchronized (replayBuffer) {
+            event = new SequencedEvent(++lastEventId, notification, Set.copyOf(targets));
+            replayBuffer.addLast(event);
+            if (replayBuffer.size() > replayBufferSize) {
+                replayBuffer.removeFirst();
+            }
+            dispatch(() -> fanOut(event));
+        }
+        return event.id;
+    }
+
+    /**
+     * Adds a client to the registry and starts delivering to it. Events up to now that the client
+     * has not seen are queued ahead of anything published later.
+     * <p>
+     * Registering happens under the same lock that numbers events, so every event is either covered
+     * by the replay or numbered after the client is registered and delivered live.
+     *
+     * @param lastSeenEventId the client's {@code Last-Event-ID}, or null on a first connection
+     */
+    public void attach(SseEmitter emitter, Set<SseTopic> topics, String lastSeenEventId) {
+        synchronized (replayBuffer) {
+            long joinedAt = lastEventId;
+            backlogs.put(emitter, new ClientBacklog(emitter, joinedAt));
+            registry.register(emitter, topics);
+            if (lastSeenEventId != null) {
+                // An id this node did not hand out cannot be placed in its sequence: resync only
+                long lastSeen = sequenceOf(lastSeenEventId);
+                dispatch(() -> replay(emitter, topics, lastSeen, joinedAt));
+            }
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    // Drops the client's pending frames once its connection has closed
+    public void forget(SseEmitter emitter) {
+        ClientBacklog backlog = backlogs.remove(emitter);
+        if (backlog != null) {
+            backlog.close();
+        }
+    }
+
+    String eventId(long sequence) {
+        return nodeId + "-" + sequence;
+    }
+
+    private long sequenceOf(String eventId) {
+        String prefix = nodeId + "-";
+        if (eventId.startsWith(prefix)) {
+            try {
+                return Long.parseLong(eventId.substring(prefix.length()));
+            } catch (NumberFormatException e) {
+                // Falls through to a resync
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public long lastEventId() {
+        synchronized (replayBuffer) {
+            return lastEventId;
+        }
+    }
+
+    public long framesDelivered() {
+        return framesDelivered.get();
+    }
+
+    public long framesReplayed() {
+        return framesReplayed.get();
+    }
+
+    public long slowClientsDisconnected() {
+        return slowClientsDisconnected.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // Tasks run one at a time in submission order, so a client's frames are queued by event number
+    private void dispatch(Runnable task) {
+        dispatchQueue.add(task);
+        if (dispatching.compareAndSet(false, true)) {
+            executor.execute(this::drainDispatchQueue);
+        }
+    }
+
+    private void drainDispatchQueue() {
+        try {
+            Runnable task;
+            while ((task = dispatchQueue.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("[SSE] Dispatch task failed: {}", e.getMessage(), e);
+                }
+            }
+        } finally {
+            dispatching.set(false);
+        }
+        if (!dispatchQueue.isEmpty() && dispatching.compareAndSet(false, true)) {
+            executor.execute(this::drainDispatchQueue);
+        }
+    }
+
+    private void fanOut(SequencedEvent event) {
+        try {
+            event.frame = SseEmitter.event()
+                    .id(eventId(event.id))
+                    .name("notification")
+                    .data(jsonMapper.writeValueAsBytes(event.notification), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (Exception e) {
+            log.error("[SSE] Could not serialize notification {}: {}", event.notification.id(), e.getMessage());
+            return;
+        }
+
+        Set<SseEmitter> subscribers = registry.subscribersOf(event.topics);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        log.info("[SSE] Publishing notification {} to {} of {} clients: {}",
+                event.id, subscribers.size(), registry.connectedCount(), event.notification.title());
+        for (SseEmitter emitter : subscribers) {
+            // A client registered without attach() has nothing to catch up on
+            ClientBacklog backlog = backlogs.computeIfAbsent(emitter, key -> new ClientBacklog(key, 0));
+            // Events up to the moment the client joined are covered by its replay
+            if (event.id > backlog.joinedAt && !backlog.offer(event.frame)) {
+                disconnectSlowClient(emitter);
+            }
+        }
+    }
+
+    private void replay(SseEmitter emitter, Set<SseTopic> topics, long lastSeenEventId, long joinedAt) {
+        ClientBacklog backlog = backlogs.get(emitter);
+        if (backlog == null) {
+            return;
+        }
+
+        List<SequencedEvent> missed;
+        boolean complete;
+        synchronized (replayBuffer) {
+            long oldestId = replayBuffer.isEmpty() ? lastEventId + 1 : replayBuffer.peekFirst().id;
+            complete = lastSeenEventId <= joinedAt && lastSeenEventId >= oldestId - 1;
+            missed = replayBuffer.stream()
+                    .filter(event -> event.id > lastSeenEventId && event.id <= joinedAt)
+                    .filter(event -> event.frame != null && !Collections.disjoint(event.topics, topics))
+                    .toList();
+        }
+
+        if (!complete && !backlog.offer(RESYNC_FRAME)) {
+            disconnectSlowClient(emitter);
+            return;
+        }
+        for (SequencedEvent event : missed) {
+            if (!backlog.offer(event.frame)) {
+                disconnectSlowClient(emitter);
+                return;
+            }
+        }
+        framesReplayed.addAndGet(missed.size());
+        log.debug("[SSE] Replayed {} notifications after event {}", missed.size(), lastSeenEventId);
+    }
+
+    private void disconnectSlowClient(SseEmitter emitter) {
+        slowClientsDisconnected.incrementAndGet();
+        log.warn("[SSE] Disconnecting client with more than {} pending notifications", maxBacklog);
+        registry.unregister(emitter);
+        forget(emitter);
+        // complete() waits for a write in progress, so it must not hold up the dispatch
+        executor.execute(emitter::complete);
+    }
+
+    private static final class SequencedEvent {
+
+        private final long id;
+        private final NotificationMessage notification;
+        private final Set<SseTopic> topics;
+        // Set by the dispatch task, which runs before any replay that reads it
+        private volatile Set<ResponseBodyEmitter.DataWithMediaType> frame;
+
+        SequencedEvent(long id, NotificationMessage notification, Set<SseTopic> topics) {
+            this.id = id;
+            this.notification = notification;
+            this.topics = topics;
+        }
+    }
+
+    private final class ClientBacklog {
+
+        private final SseEmitter emitter;
+        private final long joinedAt;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        ClientBacklog(SseEmitter emitter, long joinedAt) {
+            this.emitter = emitter;
+            this.joinedAt = joinedAt;
+        }
+
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (size.incrementAndGet() > maxBacklog) {
+                size.decrementAndGet();
+                return false;
+            }
+            frames.add(frame);
+            scheduleDrain();
+            return true;
+        }
+
+        void close() {
+            closed = true;
+            frames.clear();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                writers.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                draining.set(false);
+                return;
+            }
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while (!closed && (frame = frames.poll()) != null) {
+                    size.decrementAndGet();
+                    emitter.send(frame);
+                    framesDelivered.incrementAndGet();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("[SSE] Removing dead emitter: {}", e.getMessage());
+                registry.unregister(emitter);
+                forget(emitter);
+            } finally {
+                writers.release();
+                draining.set(false);
+            }
+            // A frame queued after the loop ended but before the flag was cleared still gets written
+            if (!closed && !frames.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
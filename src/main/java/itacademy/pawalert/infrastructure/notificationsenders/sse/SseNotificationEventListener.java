@@ -1,5 +1,6 @@
 package itacademy.pawalert.infrastructure.notificationsenders.sse;
 
+import itacademy.pawalert.application.alert.port.outbound.AlertLocationIndexPort;
 import itacademy.pawalert.application.alert.port.outbound.AlertRepositoryPort;
 import itacademy.pawalert.application.exception.AlertNotFoundException;
 import itacademy.pawalert.application.pet.service.PetService;
@@ -10,9 +11,15 @@ import itacademy.pawalert.domain.pet.model.Pet;
 import itacademy.pawalert.infrastructure.rest.notification.dto.NotificationMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+// After commit: clients only hear about changes that were saved, and the write path does not wait for them
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -21,9 +28,10 @@ public class SseNotificationEventListener {
     private final SseNotificationService sseNotificationService;
     private final AlertRepositoryPort alertRepository;
     private final PetService petService;
+    private final AlertLocationIndexPort locationIndex;
 
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleAlertStatusChanged(AlertStatusChangedEvent event) {
         log.info("Broadcasting alert status change: {}", event.alertId());
 
@@ -39,18 +47,18 @@ public class SseNotificationEventListener {
                     event.newStatus().toString()
             );
 
-            sseNotificationService.broadcast(notification);
+            sseNotificationService.publish(notification, topicsOf(alert, alert.getUserId()));
 
         } catch (AlertNotFoundException e) {
             log.error("Alert not found for status change notification: {}", event.alertId());
         } catch (Exception e) {
-            // Client disconnection is handled by SseNotificationService.broadcast()
+            // Client disconnection is handled by SseBroadcaster
             // Log at DEBUG level to avoid noise from normal disconnection events
             log.debug("Error broadcasting alert status change: {}", e.getMessage());
         }
     }
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleAlertCreated(AlertCreatedEvent event) {
         log.info("Broadcasting new alert: {}", event.alertId());
 
@@ -64,15 +72,26 @@ public class SseNotificationEventListener {
                     pet.getOfficialPetName().toString()
             );
 
-            sseNotificationService.broadcast(notification);
+            sseNotificationService.publish(notification, topicsOf(alert, event.creatorId()));
 
         } catch (AlertNotFoundException e) {
             log.error("Alert not found for new alert notification: {}", event.alertId());
         } catch (Exception e) {
-            // Client disconnection is handled by SseNotificationService.broadcast()
+            // Client disconnection is handled by SseBroadcaster
             log.debug("\"Error broadcasting new alert: {}", e.getMessage());
 
 
         }
     }
+
+    // The alert itself, its owner and the map area it was last seen in
+    private Set<SseTopic> topicsOf(Alert alert, UUID ownerId) {
+        Set<SseTopic> topics = new HashSet<>();
+        topics.add(SseTopic.alert(alert.getId()));
+        if (ownerId != null) {
+            topics.add(SseTopic.user(ownerId));
+        }
+        locationIndex.findLocation(alert.getId()).ifPresent(location -> topics.add(SseTopic.area(location)));
+        return topics;
+    }
 }
@@ -1,44 +1,70 @@
 package itacademy.pawalert.infrastructure.notificationsenders.sse;
 
+import itacademy.pawalert.infrastructure.notificationqueues.sse.SseFanoutEvent;
+import itacademy.pawalert.infrastructure.notificationqueues.sse.SseFanoutPublisher;
 import itacademy.pawalert.infrastructure.rest.notification.dto.NotificationMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Collection;
+import java.util.Set;
 
 
+/**
+ * Server-sent event connections and topic-filtered delivery to them.
+ * <p>
+ * Each client follows a set of {@link SseTopic}s; a client that asks for nothing specific follows
+ * {@link SseTopic#all()}. An event is only written to the clients following one of its topics.
+ * Writing happens in {@link SseBroadcaster}, so publishing returns without waiting for any client.
+ * A published event is also sent through the SSE fanout exchange, from which every other replica
+ * delivers it to its own clients.
+ */
 @Service
 @Slf4j
 public class SseNotificationService {
 
     // Timeout: 30 minutes
     private static final long SSE_TIMEOUT = 30 * 60 * 1000L;
-    // List of ALL connected clients - thread-safe
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final SseSubscriptionRegistry registry;
+    private final SseBroadcaster broadcaster;
+    private final SseFanoutPublisher fanoutPublisher;
+
+    public SseNotificationService(SseSubscriptionRegistry registry, SseBroadcaster broadcaster,
+                                  SseFanoutPublisher fanoutPublisher) {
+        this.registry = registry;
+        this.broadcaster = broadcaster;
+        this.fanoutPublisher = fanoutPublisher;
+    }
 
     public SseEmitter subscribe() {
+        return subscribe(Set.of(), null);
+    }
+
+    /**
+     * @param lastEventId the {@code Last-Event-ID} sent by a reconnecting client; the notifications
+     *                    it missed are sent before new ones. Null on a first connection.
+     */
+    public SseEmitter subscribe(Set<SseTopic> topics, String lastEventId) {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+        Set<SseTopic> followed = topics.isEmpty() ? Set.of(SseTopic.all()) : topics;
 
         emitter.onCompletion(() -> {
             log.debug("SSE connection completed");
-            emitters.remove(emitter);
+            disconnect(emitter);
         });
 
         emitter.onTimeout(() -> {
             log.debug("SSE connection timed out");
-            emitters.remove(emitter);
+            disconnect(emitter);
         });
 
         emitter.onError(e -> {
             log.debug("SSE connection error: {}", e.getMessage());
-            emitters.remove(emitter);
+            disconnect(emitter);
         });
 
-        emitters.add(emitter);
-        log.info("New SSE connection. Total connected: {}", emitters.size());
-
         // Send initial connection confirmation
         try {
             emitter.send(SseEmitter.event()
@@ -46,31 +72,41 @@ public class SseNotificationService {
                     .data("{\"status\":\"connected\",\"message\":\"Connected to PawAlert notifications\"}"));
         } catch (Exception e) {
             log.error("Error sending initial SSE message", e);
-            emitters.remove(emitter);
+            return emitter;
         }
 
+        broadcaster.attach(emitter, followed, lastEventId);
+        log.info("New SSE connection following {} topics{}. Total connected: {}", followed.size(),
+                lastEventId != null ? " resuming after event " + lastEventId : "", registry.connectedCount());
+
         return emitter;
     }
 
-
+    // Without more context an event still reaches the clients following its alert
     public void broadcast(NotificationMessage notification) {
-        log.info("Broadcasting notification to {} clients: {}", emitters.size(), notification.title());
-
-        // Remove dead emitters while broadcasting
-        emitters.removeIf(emitter -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(notification));
-                return false; // Keep this emitter
-            } catch (Exception e) {
-                log.debug("Removing dead emitter");
-                return true; // Remove this emitter
-            }
-        });
+        publish(notification, notification.alertId() != null ? Set.of(SseTopic.alert(notification.alertId())) : Set.of());
+    }
+
+    public void publish(NotificationMessage notification, Collection<SseTopic> topics) {
+        broadcaster.publish(notification, topics);
+        fanoutPublisher.publish(new SseFanoutEvent(broadcaster.nodeId(), notification, Set.copyOf(topics)));
+    }
+
+    // For events fanned out by another node: they reach this node's clients only
+    public void deliverLocally(NotificationMessage notification, Collection<SseTopic> topics) {
+        broadcaster.publish(notification, topics);
+    }
+
+    public String getNodeId() {
+        return broadcaster.nodeId();
     }
 
     public int getConnectedCount() {
-        return emitters.size();
+        return registry.connectedCount();
+    }
+
+    private void disconnect(SseEmitter emitter) {
+        registry.unregister(emitter);
+        broadcaster.forget(emitter);
     }
 }
@@ -0,0 +1,64 @@
+package itacademy.pawalert.infrastructure.notificationsenders.sse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connected SSE clients indexed by the topics they follow.
+ * Publishing looks up only the topics of the event, so its cost grows with the interested clients
+ * rather than with every open connection; adding or removing a client never copies the whole set.
+ */
+@Component
+public class SseSubscriptionRegistry {
+
+    private final Map<SseTopic, Set<SseEmitter>> emittersByTopic = new ConcurrentHashMap<>();
+    private final Map<SseEmitter, Set<SseTopic>> topicsByEmitter = new ConcurrentHashMap<>();
+
+    public void register(SseEmitter emitter, Set<SseTopic> topics) {
+        topicsByEmitter.put(emitter, Set.copyOf(topics));
+        // Add inside compute so it cannot race with unregister dropping an emptied topic
+        topics.forEach(topic -> emittersByTopic.compute(topic, (key, emitters) -> {
+            Set<SseEmitter> updated = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            updated.add(emitter);
+            return updated;
+        }));
+    }
+
+    public void unregister(SseEmitter emitter) {
+        Set<SseTopic> topics = topicsByEmitter.remove(emitter);
+        if (topics == null) {
+            return;
+        }
+        topics.forEach(topic -> emittersByTopic.computeIfPresent(topic, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        }));
+    }
+
+    // A client following several of the topics is returned once
+    public Set<SseEmitter> subscribersOf(Collection<SseTopic> topics) {
+        Set<SseEmitter> subscribers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (SseTopic topic : topics) {
+            Set<SseEmitter> emitters = emittersByTopic.get(topic);
+            if (emitters != null) {
+                subscribers.addAll(emitters);
+            }
+        }
+        return subscribers;
+    }
+
+    public int connectedCount() {
+        return topicsByEmitter.size();
+    }
+
+    public int topicCount() {
+        return emittersByTopic.size();
+    }
+}
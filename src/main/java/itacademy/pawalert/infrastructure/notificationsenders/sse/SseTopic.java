@@ -0,0 +1,64 @@
+package itacademy.pawalert.infrastructure.notificationsenders.sse;
+
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Something an SSE client can follow: every event, one alert, one map area or one user's alerts.
+ * <p>
+ * Areas are cells of a fixed {@value #AREA_CELL_DEGREES}-degree grid. An alert is published to the cell
+ * it was last seen in; a client watching a point follows that cell and its eight neighbours,
+ * so alerts just across a cell border still reach it.
+ */
+public record SseTopic(Kind kind, String key) {
+
+    public enum Kind { ALL, ALERT, AREA, USER }
+
+    public static final double AREA_CELL_DEGREES = 0.5;
+
+    private static final SseTopic ALL = new SseTopic(Kind.ALL, "*");
+
+    public static SseTopic all() {
+        return ALL;
+    }
+
+    public static SseTopic alert(UUID alertId) {
+        return new SseTopic(Kind.ALERT, alertId.toString());
+    }
+
+    public static SseTopic user(UUID userId) {
+        return new SseTopic(Kind.USER, userId.toString());
+    }
+
+    public static SseTopic area(GeographicLocation location) {
+        return area(row(location.latitude()), column(location.longitude()));
+    }
+
+    public static Set<SseTopic> areasAround(GeographicLocation location) {
+        int row = row(location.latitude());
+        int column = column(location.longitude());
+        int columns = (int) Math.ceil(360.0 / AREA_CELL_DEGREES);
+        Set<SseTopic> topics = new LinkedHashSet<>();
+        for (int r = row - 1; r <= row + 1; r++) {
+            for (int c = column - 1; c <= column + 1; c++) {
+                topics.add(area(r, Math.floorMod(c, columns)));
+            }
+        }
+        return topics;
+    }
+
+    private static SseTopic area(int row, int column) {
+        return new SseTopic(Kind.AREA, row + ":" + column);
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / AREA_CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / AREA_CELL_DEGREES);
+    }
+}
@@ -0,0 +1,54 @@
+package itacademy.pawalert.infrastructure.notificationsenders.telegram;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP client shared by every Telegram Bot API call.
+ * <p>
+ * One JDK {@link HttpClient} keeps its connections to api.telegram.org alive and reuses them
+ * (multiplexed over HTTP/2 when the server negotiates it, pooled HTTP/1.1 keep-alive otherwise),
+ * so a send no longer pays a TCP and TLS handshake. The blocking {@link RestTemplate} and the
+ * asynchronous path in {@link TelegramRequest} both go through this client. Its executor is a bean
+ * of its own so it is shut down with the context.
+ * <p>
+ * Configuration properties:
+ * - app.telegram.http.connect-timeout-ms: Timeout to open a connection (default: 5000)
+ * - app.telegram.http.read-timeout-ms: Timeout waiting for a response (default: 10000)
+ */
+@Configuration
+public class TelegramHttpClientConfig {
+
+    // Response handling is short; virtual threads keep many sends in flight without a sized pool
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService telegramExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean(destroyMethod = "close")
+    public HttpClient telegramHttpClient(@Qualifier("telegramExecutor") ExecutorService telegramExecutor,
+                                         @Value("${app.telegram.http.connect-timeout-ms:5000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(telegramExecutor)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate telegramRestTemplate(@Qualifier("telegramHttpClient") HttpClient telegramHttpClient,
+                                             @Value("${app.telegram.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(telegramHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+}
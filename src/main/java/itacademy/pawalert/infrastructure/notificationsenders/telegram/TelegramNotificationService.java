@@ -4,17 +4,42 @@ import itacademy.pawalert.domain.notification.exception.TelegramNotificationExce
 import itacademy.pawalert.domain.notification.model.NotificationFailureReason;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+/**
+ * Sends messages and photos through the Telegram Bot API.
+ * <p>
+ * The blocking methods return once Telegram answered; the {@code Async} variants return a future
+ * instead, so one listener thread keeps many sends in flight and acknowledges each message when its
+ * future completes. Both honour the {@link TelegramRateLimiter} before a request leaves; the async
+ * variants wait for their slot on the Telegram executor, never on the caller's thread.
+ * <p>
+ * Configuration properties:
+ * - telegram.api.base-url: Bot API endpoint, overridable to point at a stub server (default: https://api.telegram.org)
+ * - app.telegram.http.read-timeout-ms: Timeout waiting for a response (default: 10000)
+ */
 @Service
 public class TelegramNotificationService {
     private static final Logger LOGGER = LoggerFactory.getLogger(TelegramNotificationService.class);
     
     private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper;
+    private final Executor executor;
+    private final TelegramRateLimiter rateLimiter;
+    private final String apiBaseUrl;
+    private final Duration readTimeout;
     
     @Value("${telegram.bot.token}")
     private String botToken;
@@ -22,22 +47,61 @@ public class TelegramNotificationService {
     @Value("${telegram.bot.chat_id}")
     private String chatId;
 
-    public TelegramNotificationService() {
-        this.restTemplate = new RestTemplate();
+    public TelegramNotificationService(@Qualifier("telegramRestTemplate") RestTemplate restTemplate,
+                                       @Qualifier("telegramHttpClient") HttpClient httpClient,
+                                       JsonMapper jsonMapper,
+                                       @Qualifier("telegramExecutor") Executor executor,
+                                       TelegramRateLimiter rateLimiter,
+                                       @Value("${telegram.api.base-url:" + TelegramRequest.DEFAULT_API_BASE_URL + "}") String apiBaseUrl,
+                                       @Value("${app.telegram.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.jsonMapper = jsonMapper;
+        this.executor = executor;
+        this.rateLimiter = rateLimiter;
+        this.apiBaseUrl = apiBaseUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
     }
 
     public void sendToUser(String chatId, String message) {
-        TelegramRequest.builder()
+        execute(chatId, TelegramRequest.builder()
                 .endpoint("sendMessage")
                 .chatId(chatId)
                 .message(message)
-                .build()
-                .execute(restTemplate, botToken);
+                .build());
         
         LOGGER.info("Mensaje enviado a Telegram exitosamente para chat ID: {}", maskChatId(chatId));
     }
 
+    public CompletableFuture<Void> sendToUserAsync(String chatId, String message) {
+        return executeAsync(chatId, TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId(chatId)
+                .message(message)
+                .build());
+    }
+
     public void sendPhotoWithCaption(String chatId, String photoUrl, String caption) {
+        execute(chatId, photoRequest(chatId, photoUrl, caption));
+        
+        LOGGER.info("Foto enviada a Telegram exitosamente para chat ID: {}", maskChatId(chatId));
+    }
+
+    public CompletableFuture<Void> sendPhotoWithCaptionAsync(String chatId, String photoUrl, String caption) {
+        try {
+            return executeAsync(chatId, photoRequest(chatId, photoUrl, caption));
+        } catch (TelegramNotificationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public void sendToAll(List<String> chatIds, String message) {
+        chatIds.stream()
+                .filter(chatId -> chatId != null && !chatId.isBlank())
+                .forEach(chatId -> sendToUser(chatId, message));
+    }
+
+    private TelegramRequest photoRequest(String chatId, String photoUrl, String caption) {
         if (photoUrl != null && photoUrl.startsWith("data:")) {
             LOGGER.warn("Cannot send base64 images directly via Telegram API. Image size would be too large.");
             throw new TelegramNotificationException(chatId, NotificationFailureReason.INVALID_CHAT_ID);
@@ -51,21 +115,39 @@ public class TelegramNotificationService {
 
         LOGGER.debug("Sending photo with caption: '{}' to chat {}", caption, maskChatId(chatId));
 
-        TelegramRequest.builder()
+        return TelegramRequest.builder()
                 .endpoint("sendPhoto")
                 .chatId(chatId)
                 .message(caption)
                 .photo(photoUrl)
-                .build()
-                .execute(restTemplate, botToken);
-        
-        LOGGER.info("Foto enviada a Telegram exitosamente para chat ID: {}", maskChatId(chatId));
+                .build();
     }
 
-    public void sendToAll(List<String> chatIds, String message) {
-        chatIds.stream()
-                .filter(chatId -> chatId != null && !chatId.isBlank())
-                .forEach(chatId -> sendToUser(chatId, message));
+    private void execute(String chatId, TelegramRequest request) {
+        rateLimiter.acquire(chatId);
+        try {
+            request.execute(restTemplate, apiBaseUrl, botToken);
+        } catch (TelegramNotificationException e) {
+            pauseIfRateLimited(e);
+            throw e;
+        }
+    }
+
+    // The limiter may block for a slot, so it is acquired on the executor and the caller returns at once
+    private CompletableFuture<Void> executeAsync(String chatId, TelegramRequest request) {
+        return CompletableFuture.runAsync(() -> rateLimiter.acquire(chatId), executor)
+                .thenCompose(ignored -> request.executeAsync(httpClient, jsonMapper, apiBaseUrl, botToken, readTimeout))
+                .whenComplete((ignored, error) -> {
+                    if (error instanceof CompletionException && error.getCause() instanceof TelegramNotificationException e) {
+                        pauseIfRateLimited(e);
+                    }
+                });
+    }
+
+    private void pauseIfRateLimited(TelegramNotificationException e) {
+        if (e.getReason() == NotificationFailureReason.RATE_LIMITED && e.getRetryAfter() != null) {
+            rateLimiter.pauseFor(e.getRetryAfter());
+        }
     }
 
     private String maskChatId(String chatId) {
@@ -0,0 +1,159 @@
+package itacademy.pawalert.infrastructure.notificationsenders.telegram;
+
+import itacademy.pawalert.domain.notification.exception.TelegramNotificationException;
+import itacademy.pawalert.domain.notification.model.NotificationFailureReason;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps Telegram sends within the Bot API limits: a global token bucket (about 30 messages per second)
+ * and one bucket per chat (1 message per second).
+ * <p>
+ * Callers wait for their slot when it is close; when the wait would be longer than {@code max-wait-ms},
+ * a RATE_LIMITED exception carrying the wait is thrown so the message can be redelivered later instead
+ * of holding a listener thread. A 429 from Telegram pauses every send for the {@code retry_after} it returned.
+ * <p>
+ * Configuration properties:
+ * - app.telegram.rate-limit.global-per-second: Messages per second across all chats (default: 30)
+ * - app.telegram.rate-limit.per-chat-per-second: Messages per second to a single chat (default: 1)
+ * - app.telegram.rate-limit.max-wait-ms: Longest a caller blocks for a slot (default: 5000)
+ */
+@Slf4j
+@Component
+public class TelegramRateLimiter {
+
+    private static final int MAX_IDLE_CHAT_BUCKETS = 10_000;
+
+    private final TokenBucket globalBucket;
+    private final double perChatPerSecond;
+    private final long maxWaitNanos;
+    private final Map<String, TokenBucket> chatBuckets = new ConcurrentHashMap<>();
+
+    private volatile long pausedUntil = System.nanoTime();
+
+    public TelegramRateLimiter(@Value("${app.telegram.rate-limit.global-per-second:30}") double globalPerSecond,
+                               @Value("${app.telegram.rate-limit.per-chat-per-second:1}") double perChatPerSecond,
+                               @Value("${app.telegram.rate-limit.max-wait-ms:5000}") long maxWaitMs) {
+        if (globalPerSecond <= 0 || perChatPerSecond <= 0) {
+            throw new IllegalArgumentException("Telegram rate limits must be positive");
+        }
+        this.globalBucket = new TokenBucket(globalPerSecond, Math.max(1, globalPerSecond));
+        this.perChatPerSecond = perChatPerSecond;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    }
+
+    // Blocks until both the chat and the global bucket allow one more message
+    public void acquire(String chatId) {
+        long now = System.nanoTime();
+        long pause = Math.max(0, pausedUntil - now);
+        if (pause > maxWaitNanos) {
+            throw rateLimited(chatId, pause);
+        }
+
+        TokenBucket chatBucket = chatBuckets.computeIfAbsent(chatId, id -> new TokenBucket(perChatPerSecond, 1));
+        long chatWait = chatBucket.reserve(now, maxWaitNanos);
+        if (chatWait < 0) {
+            throw rateLimited(chatId, chatBucket.timeUntilNextPermit(now));
+        }
+        long globalWait = globalBucket.reserve(now, maxWaitNanos);
+        if (globalWait < 0) {
+            chatBucket.refund();
+            throw rateLimited(chatId, globalBucket.timeUntilNextPermit(now));
+        }
+
+        long wait = Math.max(pause, Math.max(chatWait, globalWait));
+        if (wait > 0) {
+            sleep(chatId, wait);
+        }
+        evictIdleChats(now);
+    }
+
+    // Telegram answered 429: nobody sends until retry_after has passed
+    public void pauseFor(Duration retryAfter) {
+        long until = System.nanoTime() + retryAfter.toNanos();
+        if (until - pausedUntil > 0) {
+            pausedUntil = until;
+        }
+        log.warn("[TELEGRAM-RATE] Telegram asked to slow down, pausing sends for {} ms", retryAfter.toMillis());
+    }
+
+    private void sleep(String chatId, long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rateLimited(chatId, nanos);
+        }
+    }
+
+    private void evictIdleChats(long now) {
+        if (chatBuckets.size() > MAX_IDLE_CHAT_BUCKETS) {
+            chatBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    private TelegramNotificationException rateLimited(String chatId, long waitNanos) {
+        return new TelegramNotificationException(chatId, NotificationFailureReason.RATE_LIMITED,
+                Duration.ofNanos(waitNanos), null);
+    }
+
+    /**
+     * Reservation-style token bucket: a caller takes a token immediately and is told how long to
+     * wait for it, so concurrent callers queue up fairly without polling.
+     */
+    private static final class TokenBucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(double permitsPerSecond, double capacity) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        // Returns the wait in nanos, or -1 (taking nothing) when it would exceed maxWaitNanos
+        synchronized long reserve(long now, long maxWaitNanos) {
+            refill(now);
+            long wait = waitFor(tokens);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return wait;
+        }
+
+        synchronized long timeUntilNextPermit(long now) {
+            refill(now);
+            return waitFor(tokens);
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private long waitFor(double available) {
+            return available >= 1 ? 0 : (long) Math.ceil((1 - available) / permitsPerNano);
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -6,21 +6,47 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Fluent builder for Telegram API requests.
  * Handles request construction, execution, and exception translation.
+ * Requests run either blocking through a {@link RestTemplate} or asynchronously on a JDK {@link HttpClient};
+ * both paths report failures as the same {@link TelegramNotificationException}.
  */
 public class TelegramRequest {
     private static final Logger LOGGER = LoggerFactory.getLogger(TelegramRequest.class);
-    private static final String TELEGRAM_API_BASE = "https://api.telegram.org/bot";
+    public static final String DEFAULT_API_BASE_URL = "https://api.telegram.org";
+    private static final HttpHeaders JSON_HEADERS = jsonHeaders();
+    private static final int BAD_REQUEST = 400;
+    private static final int FORBIDDEN = 403;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final Pattern RETRY_AFTER_PATTERN = Pattern.compile("\"retry_after\"\\s*:\\s*(\\d+)");
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
     
     private final String endpoint;
     private final String chatId;
@@ -37,34 +63,149 @@ public class TelegramRequest {
     }
 
     public void execute(RestTemplate restTemplate, String botToken) {
-        String url = TELEGRAM_API_BASE + botToken + "/" + endpoint;
+        execute(restTemplate, DEFAULT_API_BASE_URL, botToken);
+    }
+
+    public void execute(RestTemplate restTemplate, String apiBaseUrl, String botToken) {
+        String url = url(apiBaseUrl, botToken);
         
-        LOGGER.debug("Telegram request - URL: {}", url);
+        LOGGER.debug("Telegram request - URL: {}", redactedUrl(apiBaseUrl));
         LOGGER.debug("Telegram request - Body: {}", body);
         
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, JSON_HEADERS);
         
         try {
             ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
             LOGGER.debug("Telegram request successful - Response: {}", response.getBody());
         } catch (RestClientException e) {
-            LOGGER.error("Telegram request failed - URL: {}, Body: {}, Error: {}", url, body, e.getMessage(), e);
-            throw translateException(chatId, e);
+            throw toNotificationException(apiBaseUrl, botToken, e);
         }
     }
 
+    /**
+     * Sends the request without blocking the caller.
+     * The returned future completes exceptionally with a {@link TelegramNotificationException}
+     * classified exactly like the blocking {@link #execute} path.
+     */
+    public CompletableFuture<Void> executeAsync(HttpClient httpClient, JsonMapper jsonMapper,
+                                                String apiBaseUrl, String botToken, Duration timeout) {
+        String url = url(apiBaseUrl, botToken);
+        LOGGER.debug("Telegram async request - URL: {}", redactedUrl(apiBaseUrl));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        throw toNotificationException(apiBaseUrl, botToken, new ResourceAccessException(
+                                "I/O error on POST request for Telegram: " + cause,
+                                cause instanceof IOException io ? io : new IOException(cause)));
+                    }
+                    if (response.statusCode() >= 400) {
+                        throw toNotificationException(apiBaseUrl, botToken, toStatusCodeException(response));
+                    }
+                    LOGGER.debug("Telegram async request successful for chat {}", maskChatId(chatId));
+                    return null;
+                });
+    }
+
+    private String url(String apiBaseUrl, String botToken) {
+        return apiBaseUrl + "/bot" + botToken + "/" + endpoint;
+    }
+
+    // Only logged form of the URL: the real one carries the bot token
+    private String redactedUrl(String apiBaseUrl) {
+        return apiBaseUrl + "/bot***/" + endpoint;
+    }
+
+    private TelegramNotificationException toNotificationException(String apiBaseUrl, String botToken, RestClientException e) {
+        if (e instanceof HttpStatusCodeException statusException
+                && statusException.getStatusCode().value() == TOO_MANY_REQUESTS) {
+            Duration retryAfter = parseRetryAfter(statusException);
+            LOGGER.warn("Telegram rate limit hit for chat {}, retry after {} s", maskChatId(chatId), retryAfter.toSeconds());
+            return new TelegramNotificationException(chatId, NotificationFailureReason.RATE_LIMITED, retryAfter, e);
+        }
+        // I/O errors from RestTemplate quote the full URL; keep the token out of logs and of the cause chain
+        RestClientException redacted = e instanceof HttpStatusCodeException ? e : redact(e, botToken);
+        LOGGER.error("Telegram request failed - URL: {}, Body: {}, Error: {}",
+                redactedUrl(apiBaseUrl), body, redacted.getMessage(), redacted);
+        return translateException(chatId, redacted);
+    }
+
+    private static RestClientException redact(RestClientException e, String botToken) {
+        String message = e.getMessage();
+        if (message == null || botToken == null || botToken.isEmpty() || !message.contains(botToken)) {
+            return e;
+        }
+        RestClientException redacted = new RestClientException(message.replace(botToken, "***"), e.getCause());
+        redacted.setStackTrace(e.getStackTrace());
+        return redacted;
+    }
+
+    // Same exception types RestTemplate raises, so both paths share the failure classification
+    private static HttpStatusCodeException toStatusCodeException(HttpResponse<byte[]> response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        HttpStatus knownStatus = HttpStatus.resolve(response.statusCode());
+        String statusText = knownStatus != null ? knownStatus.getReasonPhrase() : "";
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        return status.is4xxClientError()
+                ? HttpClientErrorException.create(status, statusText, headers, response.body(), StandardCharsets.UTF_8)
+                : HttpServerErrorException.create(status, statusText, headers, response.body(), StandardCharsets.UTF_8);
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    // Telegram puts the wait in parameters.retry_after of the body; the Retry-After header is the fallback
+    private Duration parseRetryAfter(HttpStatusCodeException e) {
+        Matcher matcher = RETRY_AFTER_PATTERN.matcher(e.getResponseBodyAsString());
+        if (matcher.find()) {
+            return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+        }
+        String header = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (header != null && header.trim().matches("\\d+")) {
+            return Duration.ofSeconds(Long.parseLong(header.trim()));
+        }
+        return DEFAULT_RETRY_AFTER;
+    }
+
     private TelegramNotificationException translateException(String chatId, RestClientException e) {
         String message = e.getMessage();
-        NotificationFailureReason reason = determineFailureReason(message);
+        NotificationFailureReason reason = e instanceof HttpStatusCodeException statusException
+                ? determineFailureReason(statusException)
+                : determineFailureReason(message);
         
         LOGGER.warn("Telegram API error for chat {}: {} - {}", maskChatId(chatId), reason, message);
         
         return new TelegramNotificationException(chatId, reason, e);
     }
 
+    // Telegram answers 400 for unknown and malformed chats and 403 when the user blocked the bot
+    private NotificationFailureReason determineFailureReason(HttpStatusCodeException e) {
+        int status = e.getStatusCode().value();
+        if (status == FORBIDDEN) {
+            return NotificationFailureReason.BOT_BLOCKED;
+        }
+        if (status == BAD_REQUEST) {
+            return e.getResponseBodyAsString().contains("chat not found")
+                    ? NotificationFailureReason.CHAT_NOT_FOUND
+                    : NotificationFailureReason.INVALID_CHAT_ID;
+        }
+        if (e.getStatusCode().is5xxServerError()) {
+            return NotificationFailureReason.NETWORK_ERROR;
+        }
+        return NotificationFailureReason.UNKNOWN;
+    }
+
     private NotificationFailureReason determineFailureReason(String message) {
         if (message == null) {
             return NotificationFailureReason.UNKNOWN;
@@ -32,7 +32,7 @@ public class AlertEntity {
     @Column(name = "status")
     private String status;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
     @OneToMany(mappedBy = "alert", cascade = CascadeType.ALL)
@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AlertEventRepository extends JpaRepository<AlertEventEntity, String> {
 
@@ -22,6 +23,9 @@ public interface AlertEventRepository extends JpaRepository<AlertEventEntity, St
     @Query("SELECT e FROM AlertEventEntity e JOIN FETCH e.alert WHERE e.alert.id = :alertId ORDER BY e.changedAt DESC LIMIT 1")
     Optional<AlertEventEntity> findFirstByAlertIdWithAlertOrderByChangedAtDesc(String alertId);
 
+    @Query("SELECT e FROM AlertEventEntity e JOIN FETCH e.alert ORDER BY e.changedAt ASC")
+    Stream<AlertEventEntity> streamAllWithAlertOrderByChangedAtAsc();
+
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END " +
             "FROM AlertEntity a WHERE a.petId = :petId " +
             "AND a.status IN ('OPENED', 'SEEN', 'SAFE')")
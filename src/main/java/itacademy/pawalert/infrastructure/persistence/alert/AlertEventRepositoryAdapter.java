@@ -1,26 +1,51 @@
 package itacademy.pawalert.infrastructure.persistence.alert;
 
+import itacademy.pawalert.application.alert.model.AlertLatestState;
 import itacademy.pawalert.application.alert.port.outbound.AlertEventRepositoryPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertLocationIndexPort;
 import itacademy.pawalert.domain.alert.model.AlertEvent;
+import itacademy.pawalert.domain.alert.model.StatusNames;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class AlertEventRepositoryAdapter implements AlertEventRepositoryPort {
+    // Keeps IN lists well below the bind parameter limits of the database drivers
+    private static final int LATEST_STATE_BATCH_SIZE = 1000;
+
     private final AlertEventRepository eventRepository;
     private final AlertRepository alertRepository;
+    private final AlertLatestStateRepository latestStateRepository;
+    private final AlertLocationIndexPort locationIndex;
 
-    public AlertEventRepositoryAdapter(AlertEventRepository eventRepository, AlertRepository alertRepository) {
+    public AlertEventRepositoryAdapter(AlertEventRepository eventRepository, AlertRepository alertRepository,
+                                       AlertLatestStateRepository latestStateRepository,
+                                       AlertLocationIndexPort locationIndex) {
         this.eventRepository = eventRepository;
         this.alertRepository = alertRepository;
+        this.latestStateRepository = latestStateRepository;
+        this.locationIndex = locationIndex;
     }
 
     @Override
+    @Transactional
     public AlertEvent save(AlertEvent event) {
         // Debug logging
         log.debug("[ALERT-EVENT-SAVE] Saving event for alertId={}, eventId={}, eventType={}",
@@ -31,7 +56,16 @@ public class AlertEventRepositoryAdapter implements AlertEventRepositoryPort {
         AlertEventEntity entity = AlertEventEntity.fromDomain(event, alertEntity);
         AlertEventEntity saved = eventRepository.save(entity);
 
+        // Keep the latest-state projection in the same transaction as the event. The row is locked
+        // until commit so a concurrent event for the same alert cannot overwrite it with a stale copy.
+        // It is missing only for the alert's first event, written by the transaction creating the alert.
+        AlertLatestStateEntity latestState = latestStateRepository.findByIdForUpdate(alertEntity.getId())
+                .orElseGet(() -> new AlertLatestStateEntity(alertEntity.getId()));
+        latestState.apply(saved);
+        latestStateRepository.save(latestState);
+
         log.debug("[ALERT-EVENT-SAVE] Event saved successfully: id={}", saved.getId());
+        updateLocationIndex(event);
         return saved.toDomain();
     }
 
@@ -52,4 +86,78 @@ public class AlertEventRepositoryAdapter implements AlertEventRepositoryPort {
                 .map(AlertEventEntity::toDomain);
     }
 
+    @Override
+    public Optional<AlertLatestState> findLatestStateByAlertId(UUID alertId) {
+        return latestStateRepository.findById(alertId.toString())
+                .map(AlertLatestStateEntity::toDomain);
+    }
+
+    @Override
+    public Map<UUID, AlertLatestState> findLatestStatesByAlertIds(Collection<UUID> alertIds) {
+        List<String> ids = alertIds.stream().map(UUID::toString).distinct().toList();
+        Map<UUID, AlertLatestState> states = new HashMap<>();
+
+        for (int from = 0; from < ids.size(); from += LATEST_STATE_BATCH_SIZE) {
+            List<String> batch = new ArrayList<>(ids.subList(from, Math.min(from + LATEST_STATE_BATCH_SIZE, ids.size())));
+            latestStateRepository.findAllById(batch).forEach(entity -> {
+                AlertLatestState state = entity.toDomain();
+                states.put(state.alertId(), state);
+            });
+        }
+        return states;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildLatestStates() {
+        log.info("[LATEST-STATE] Rebuilding alert_latest_state from alert_events");
+        Map<String, AlertLatestStateEntity> states = new HashMap<>();
+
+        try (Stream<AlertEventEntity> events = eventRepository.streamAllWithAlertOrderByChangedAtAsc()) {
+            events.forEach(event -> states
+                    .computeIfAbsent(event.getAlert().getId(), AlertLatestStateEntity::new)
+                    .apply(event));
+        }
+
+        latestStateRepository.deleteAllInBatch();
+        latestStateRepository.saveAll(states.values());
+        log.info("[LATEST-STATE] Rebuilt latest state for {} alerts", states.size());
+        return states.size();
+    }
+
+    // Runs before the other startup listeners: the location index is rebuilt from this projection
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfillLatestStatesIfEmpty() {
+        // Databases created before the projection existed need one replay
+        if (latestStateRepository.count() == 0 && eventRepository.count() > 0) {
+            rebuildLatestStates();
+        }
+    }
+
+    private void updateLocationIndex(AlertEvent event) {
+        UUID alertId = event.getAlertId();
+        Runnable update;
+        if (event.getNewStatus() == StatusNames.CLOSED) {
+            update = () -> locationIndex.remove(alertId);
+        } else if (event.getLocation() != null) {
+            update = () -> locationIndex.index(alertId, event.getLocation());
+        } else {
+            return;
+        }
+
+        // Only expose the new location once the event is actually committed
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
 }
@@ -0,0 +1,79 @@
+package itacademy.pawalert.infrastructure.persistence.alert;
+
+import itacademy.pawalert.application.alert.model.AlertLatestState;
+import itacademy.pawalert.domain.alert.model.ClosureReason;
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the alert_latest_state projection.
+ * One row per alert, kept in sync with alert_events on every event save.
+ */
+@Getter
+@Entity
+@Table(name = "alert_latest_state")
+public class AlertLatestStateEntity {
+
+    @Id
+    @Column(name = "alert_id")
+    private String alertId;
+    @Column(name = "last_event_at")
+    private LocalDateTime lastEventAt;
+    @Column(name = "last_status")
+    private String lastStatus;
+    @Column(name = "last_latitude")
+    private Double lastLatitude;
+    @Column(name = "last_longitude")
+    private Double lastLongitude;
+    @Column(name = "closure_reason")
+    private String closureReason;
+
+    public AlertLatestStateEntity() {
+    }
+
+    public AlertLatestStateEntity(String alertId) {
+        this.alertId = alertId;
+    }
+
+    // Events must be applied in changedAt order; older events are ignored
+    public void apply(AlertEventEntity event) {
+        if (lastEventAt != null && event.getChangedAt().isBefore(lastEventAt)) {
+            return;
+        }
+        lastEventAt = event.getChangedAt();
+
+        if (event.getLatitude() != null && event.getLongitude() != null) {
+            lastLatitude = event.getLatitude();
+            lastLongitude = event.getLongitude();
+        }
+
+        // Title and description events don't carry a status
+        if (event.getNewStatus() != null) {
+            lastStatus = event.getNewStatus();
+            closureReason = StatusNames.CLOSED.name().equals(lastStatus) ? event.getClosureReason() : null;
+        }
+    }
+
+    public AlertLatestState toDomain() {
+        GeographicLocation location = null;
+        if (lastLatitude != null && lastLongitude != null) {
+            location = GeographicLocation.of(lastLatitude, lastLongitude);
+        }
+
+        return new AlertLatestState(
+                UUID.fromString(alertId),
+                lastEventAt,
+                location,
+                lastStatus != null ? StatusNames.valueOf(lastStatus) : null,
+                closureReason != null ? ClosureReason.fromString(closureReason) : null
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package itacademy.pawalert.infrastructure.persistence.alert;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AlertLatestStateRepository extends JpaRepository<AlertLatestStateEntity, String> {
+
+    // FOR UPDATE: concurrent events for the same alert apply one after the other on the committed row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AlertLatestStateEntity s WHERE s.alertId = :alertId")
+    Optional<AlertLatestStateEntity> findByIdForUpdate(@Param("alertId") String alertId);
+
+    @Query("SELECT s FROM AlertLatestStateEntity s JOIN AlertEntity a ON a.id = s.alertId " +
+            "WHERE a.deletedAt IS NULL AND a.status <> 'CLOSED' " +
+            "AND s.lastLatitude IS NOT NULL AND s.lastLongitude IS NOT NULL")
+    List<AlertLatestStateEntity> findLocatedOfActiveAlerts();
+}
@@ -1,6 +1,5 @@
 package itacademy.pawalert.infrastructure.persistence.alert;
 
-import itacademy.pawalert.domain.alert.model.StatusNames;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
@@ -13,8 +12,6 @@ public interface AlertRepository extends JpaRepository<AlertEntity, String>,
 
     List<AlertEntity> findAllByPetId(String petID);
 
-    StatusNames findLastStatusById(String alertId);
-
     boolean existsByPetIdAndStatusIn(String petId, List<String> statuses);
 
     Optional<AlertEntity> findTopByPetIdAndStatusInOrderByCreatedAtDesc(String petId, List<String> statuses);
@@ -1,23 +1,49 @@
 package itacademy.pawalert.infrastructure.persistence.alert;
 
+import itacademy.pawalert.application.alert.model.AlertCursor;
+import itacademy.pawalert.application.alert.model.AlertPage;
+import itacademy.pawalert.application.alert.model.AlertPetSummary;
 import itacademy.pawalert.application.alert.model.AlertSearchCriteria;
+import itacademy.pawalert.application.alert.model.AlertWithPet;
 import itacademy.pawalert.application.alert.port.outbound.AlertRepositoryPort;
 import itacademy.pawalert.domain.alert.model.Alert;
 import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.infrastructure.persistence.pet.PetEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class AlertRepositoryAdapter implements AlertRepositoryPort {
 
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final AlertRepository alertRepository;
+    private final AlertLatestStateRepository latestStateRepository;
+    private final EntityManager entityManager;
 
-    public AlertRepositoryAdapter(AlertRepository alertRepository) {
+    public AlertRepositoryAdapter(AlertRepository alertRepository, AlertLatestStateRepository latestStateRepository,
+                                  EntityManager entityManager) {
         this.alertRepository = alertRepository;
+        this.latestStateRepository = latestStateRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -54,6 +80,7 @@ public class AlertRepositoryAdapter implements AlertRepositoryPort {
 
     @Override
     public void deleteById(UUID alertId) {
+        latestStateRepository.deleteById(alertId.toString());
         alertRepository.deleteById(alertId.toString());
     }
 
@@ -66,24 +93,115 @@ public class AlertRepositoryAdapter implements AlertRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Alert> findAllById(Collection<UUID> alertIds) {
+        if (alertIds.isEmpty()) {
+            return List.of();
+        }
+        Specification<AlertEntity> spec = AlertSpecifications.notDeleted()
+                .and(AlertSpecifications.withIdIn(alertIds));
+        return alertRepository.findAll(spec)
+                .stream()
+                .map(AlertEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Alert> search(AlertSearchCriteria criteria) {
+        return alertRepository.findAll(toSpecification(criteria))
+                .stream()
+                .map(AlertEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AlertWithPet> searchWithPets(AlertSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<AlertEntity> root = query.from(AlertEntity.class);
+        // Pet filters reuse this join, so alert and pet columns come back from one statement
+        Join<AlertEntity, PetEntity> pet = AlertSpecifications.petJoin(root, cb);
+        query.multiselect(root.alias("alert"), pet.alias("pet"));
+
+        Specification<AlertEntity> spec = toSpecification(criteria)
+                .and(AlertSpecifications.after(criteria.after()));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (criteria.limit() != null) {
+            typedQuery.setMaxResults(criteria.limit());
+        }
+
+        return typedQuery.getResultList().stream()
+                .map(row -> new AlertWithPet(
+                        row.get("alert", AlertEntity.class).toDomain(),
+                        toPetSummary(row.get("pet", PetEntity.class))))
+                .toList();
+    }
+
+    @Override
+    public AlertPage searchPage(AlertSearchCriteria criteria) {
+        int limit = criteria.limit() != null ? criteria.limit() : AlertSearchCriteria.MAX_PAGE_SIZE;
+        Specification<AlertEntity> spec = toSpecification(criteria)
+                .and(AlertSpecifications.after(criteria.after()));
+
+        // Fetch one extra row to know whether there is a next page, without a count query
+        List<AlertEntity> rows = alertRepository.findBy(spec, query -> query
+                .sortBy(KEYSET_ORDER)
+                .limit(limit + 1)
+                .all());
+
+        List<AlertEntity> pageRows = rows.size() > limit ? rows.subList(0, limit) : rows;
+        AlertCursor nextCursor = null;
+        if (rows.size() > limit) {
+            AlertEntity last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new AlertCursor(last.getCreatedAt(), UUID.fromString(last.getId()));
+        }
+
+        return new AlertPage(pageRows.stream().map(AlertEntity::toDomain).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamSearch(AlertSearchCriteria criteria, Consumer<Alert> consumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AlertEntity> query = cb.createQuery(AlertEntity.class);
+        Root<AlertEntity> root = query.from(AlertEntity.class);
+        query.where(toSpecification(criteria).toPredicate(root, query, cb));
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        // Server-side cursor: rows are fetched in chunks and dropped from the persistence context as we go
+        try (Stream<AlertEntity> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            int[] count = {0};
+            rows.forEach(entity -> {
+                consumer.accept(entity.toDomain());
+                if (++count[0] % STREAM_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+
+    private Specification<AlertEntity> toSpecification(AlertSearchCriteria criteria) {
         Specification<AlertEntity> spec = AlertSpecifications.notDeleted();
 
+        if (criteria.activeOnly()) {
+            spec = spec.and(AlertSpecifications.active());
+        }
         if (criteria.status() != null) {
             spec = spec.and(AlertSpecifications.withStatus(criteria.status()));
         }
         if (criteria.title() != null && !criteria.title().isBlank()) {
             spec = spec.and(AlertSpecifications.titleContains(criteria.title()));
         }
-        if (criteria.petName() != null && !criteria.petName().isBlank()) {
-            spec = spec.and(AlertSpecifications.petNameContains(criteria.petName()));
-        }
-        if (criteria.species() != null && !criteria.species().isBlank()) {
-            spec = spec.and(AlertSpecifications.withPetSpecies(criteria.species()));
-        }
-        if (criteria.breed() != null && !criteria.breed().isBlank()) {
-            spec = spec.and(AlertSpecifications.petBreedContains(criteria.breed()));
+        if (hasText(criteria.petName()) || hasText(criteria.species()) || hasText(criteria.breed())) {
+            spec = spec.and(AlertSpecifications.petMatches(criteria.petName(), criteria.species(), criteria.breed()));
         }
         if (criteria.createdFrom() != null) {
             spec = spec.and(AlertSpecifications.createdAfter(criteria.createdFrom()));
@@ -100,16 +218,31 @@ public class AlertRepositoryAdapter implements AlertRepositoryPort {
         if (criteria.userId() != null) {
             spec = spec.and(AlertSpecifications.createdBy(criteria.userId()));
         }
+        return spec;
+    }
 
-        return alertRepository.findAll(spec)
-                .stream()
-                .map(AlertEntity::toDomain)
-                .toList();
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static AlertPetSummary toPetSummary(PetEntity pet) {
+        if (pet == null) {
+            return null;
+        }
+        return new AlertPetSummary(
+                pet.getOfficialPetName(),
+                pet.getWorkingPetName(),
+                pet.getSpecies(),
+                pet.getBreed(),
+                pet.getPetImage());
     }
 
     @Override
     public StatusNames getLastStatusById(UUID alertId) {
-        return alertRepository.findLastStatusById(alertId.toString());
+        return latestStateRepository.findById(alertId.toString())
+                .map(AlertLatestStateEntity::getLastStatus)
+                .map(StatusNames::valueOf)
+                .orElse(null);
     }
 
     @Override
@@ -1,12 +1,20 @@
 package itacademy.pawalert.infrastructure.persistence.alert;
 
+import itacademy.pawalert.application.alert.model.AlertCursor;
 import itacademy.pawalert.domain.alert.model.StatusNames;
 import itacademy.pawalert.infrastructure.persistence.pet.PetEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public final class AlertSpecifications {
@@ -18,6 +26,10 @@ public final class AlertSpecifications {
         return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
     }
 
+    public static Specification<AlertEntity> withIdIn(Collection<UUID> alertIds) {
+        return (root, query, cb) -> root.get("id").in(alertIds.stream().map(UUID::toString).toList());
+    }
+
     public static Specification<AlertEntity> withStatus(StatusNames status) {
         return (root, query, cb) -> {
             if (status == null) return cb.conjunction();
@@ -25,6 +37,24 @@ public final class AlertSpecifications {
         };
     }
 
+    public static Specification<AlertEntity> active() {
+        return (root, query, cb) -> root.get("status").in(StatusNames.getActiveStatusNames());
+    }
+
+    // Keyset condition for the (createdAt DESC, id DESC) ordering
+    public static Specification<AlertEntity> after(AlertCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return cb.conjunction();
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id().toString())
+                    )
+            );
+        };
+    }
+
     public static Specification<AlertEntity> titleContains(String title) {
         return (root, query, cb) -> {
             if (title == null || title.isBlank()) return cb.conjunction();
@@ -57,14 +87,13 @@ public final class AlertSpecifications {
         return (root, query, cb) -> {
             if (date == null) return cb.conjunction();
 
-            Subquery<LocalDateTime> subquery = query.subquery(LocalDateTime.class);
-            Root<AlertEventEntity> eventRoot = subquery.from(AlertEventEntity.class);
-
-            jakarta.persistence.criteria.Path<LocalDateTime> changedAtPath = eventRoot.get("changedAt");
-            subquery.select(cb.greatest(changedAtPath));
-            subquery.where(cb.equal(eventRoot.get("alert").get("id"), root.get("id")));
+            // Read last_event_at from the projection instead of aggregating alert_events per row
+            Subquery<String> subquery = query.subquery(String.class);
+            Root<AlertLatestStateEntity> stateRoot = subquery.from(AlertLatestStateEntity.class);
+            subquery.select(stateRoot.get("alertId"));
+            subquery.where(cb.greaterThanOrEqualTo(stateRoot.get("lastEventAt"), date));
 
-            return cb.greaterThanOrEqualTo(subquery, date);
+            return root.get("id").in(subquery);
         };
     }
 
@@ -72,38 +101,16 @@ public final class AlertSpecifications {
         return (root, query, cb) -> {
             if (date == null) return cb.conjunction();
 
-            Subquery<LocalDateTime> subquery = query.subquery(LocalDateTime.class);
-            Root<AlertEventEntity> eventRoot = subquery.from(AlertEventEntity.class);
-
-            jakarta.persistence.criteria.Path<LocalDateTime> changedAtPath = eventRoot.get("changedAt");
-            subquery.select(cb.greatest(changedAtPath));
-            subquery.where(cb.equal(eventRoot.get("alert").get("id"), root.get("id")));
-
-            return cb.lessThanOrEqualTo(subquery, date);
-        };
-    }
-
-
-    public static Specification<AlertEntity> petNameContains(String petName) {
-        return (root, query, cb) -> {
-            if (petName == null || petName.isBlank()) return cb.conjunction();
-
-            // Subquery: buscar pets cuyo nombre coincida
             Subquery<String> subquery = query.subquery(String.class);
-            Root<PetEntity> petRoot = subquery.from(PetEntity.class);
-            subquery.select(petRoot.get("id"));
-            subquery.where(
-                    cb.or(
-                            cb.like(cb.lower(petRoot.get("officialPetName")), "%" + petName.toLowerCase() + "%"),
-                            cb.like(cb.lower(petRoot.get("workingPetName")), "%" + petName.toLowerCase() + "%")
-                    )
-            );
+            Root<AlertLatestStateEntity> stateRoot = subquery.from(AlertLatestStateEntity.class);
+            subquery.select(stateRoot.get("alertId"));
+            subquery.where(cb.lessThanOrEqualTo(stateRoot.get("lastEventAt"), date));
 
-            // Alert.petId IN (subquery)
-            return root.get("petId").in(subquery);
+            return root.get("id").in(subquery);
         };
     }
 
+
     public static Specification<AlertEntity> withPetId(UUID petId) {
         return (root, query, cb) -> {
             if (petId == null) return cb.conjunction();
@@ -111,30 +118,56 @@ public final class AlertSpecifications {
         };
     }
 
-    public static Specification<AlertEntity> petBreedContains(String breed) {
+    /**
+     * All pet filters against a single join to {@code pets}: the database sees one join it can
+     * drive from the most selective predicate instead of one {@code pet_id IN (...)} subquery per filter.
+     */
+    public static Specification<AlertEntity> petMatches(String petName, String species, String breed) {
         return (root, query, cb) -> {
-            if (breed == null || breed.isBlank()) return cb.conjunction();
-
-            Subquery<String> subquery = query.subquery(String.class);
-            Root<PetEntity> petRoot = subquery.from(PetEntity.class);
-            subquery.select(petRoot.get("id"));
-            subquery.where(cb.like(cb.lower(petRoot.get("breed")), "%" + breed.toLowerCase() + "%"));
-
-            return root.get("petId").in(subquery);
+            List<Predicate> predicates = new ArrayList<>();
+            if (petName != null && !petName.isBlank()) {
+                String pattern = "%" + petName.toLowerCase() + "%";
+                Join<AlertEntity, PetEntity> pet = petJoin(root, cb);
+                predicates.add(cb.or(
+                        cb.like(cb.lower(pet.get("officialPetName")), pattern),
+                        cb.like(cb.lower(pet.get("workingPetName")), pattern)
+                ));
+            }
+            if (species != null && !species.isBlank()) {
+                predicates.add(cb.equal(cb.lower(petJoin(root, cb).get("species")), species.toLowerCase()));
+            }
+            if (breed != null && !breed.isBlank()) {
+                predicates.add(cb.like(cb.lower(petJoin(root, cb).get("breed")), "%" + breed.toLowerCase() + "%"));
+            }
+            return predicates.isEmpty() ? cb.conjunction() : cb.and(predicates.toArray(Predicate[]::new));
         };
     }
 
+    public static Specification<AlertEntity> petNameContains(String petName) {
+        return petMatches(petName, null, null);
+    }
 
-    public static Specification<AlertEntity> withPetSpecies(String species) {
-        return (root, query, cb) -> {
-            if (species == null || species.isBlank()) return cb.conjunction();
+    public static Specification<AlertEntity> petBreedContains(String breed) {
+        return petMatches(null, null, breed);
+    }
 
-            Subquery<String> subquery = query.subquery(String.class);
-            Root<PetEntity> petRoot = subquery.from(PetEntity.class);
-            subquery.select(petRoot.get("id"));
-            subquery.where(cb.equal(cb.lower(petRoot.get("species")), species.toLowerCase()));
+    public static Specification<AlertEntity> withPetSpecies(String species) {
+        return petMatches(null, species, null);
+    }
 
-            return root.get("petId").in(subquery);
-        };
+    /**
+     * Returns the join to {@code pets} already present on the root, or adds one.
+     * Reusing it keeps combined pet specifications and the search projection on a single join.
+     */
+    @SuppressWarnings("unchecked")
+    static Join<AlertEntity, PetEntity> petJoin(Root<AlertEntity> root, CriteriaBuilder cb) {
+        for (Join<AlertEntity, ?> join : root.getJoins()) {
+            if (join.getJavaType() == PetEntity.class) {
+                return (Join<AlertEntity, PetEntity>) join;
+            }
+        }
+        Join<AlertEntity, PetEntity> pet = root.join(PetEntity.class, JoinType.LEFT);
+        pet.on(cb.equal(pet.get("id"), root.get("petId")));
+        return pet;
     }
 }
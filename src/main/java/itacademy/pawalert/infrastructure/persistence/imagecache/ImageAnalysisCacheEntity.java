@@ -0,0 +1,39 @@
+package itacademy.pawalert.infrastructure.persistence.imagecache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the image_analysis_cache table.
+ * The payload is the analysis result as JSON; result_type names its class.
+ */
+@Getter
+@Entity
+@Table(name = "image_analysis_cache")
+public class ImageAnalysisCacheEntity {
+
+    @Id
+    @Column(name = "cache_key")
+    private String cacheKey;
+    @Column(name = "result_type")
+    private String resultType;
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public ImageAnalysisCacheEntity() {
+    }
+
+    public ImageAnalysisCacheEntity(String cacheKey, String resultType, String payload, LocalDateTime createdAt) {
+        this.cacheKey = cacheKey;
+        this.resultType = resultType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
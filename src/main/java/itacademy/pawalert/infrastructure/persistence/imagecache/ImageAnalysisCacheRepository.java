@@ -0,0 +1,17 @@
+package itacademy.pawalert.infrastructure.persistence.imagecache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ImageAnalysisCacheRepository extends JpaRepository<ImageAnalysisCacheEntity, String> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ImageAnalysisCacheEntity e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
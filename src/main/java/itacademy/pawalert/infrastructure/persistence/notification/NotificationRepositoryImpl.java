@@ -1,5 +1,6 @@
 package itacademy.pawalert.infrastructure.persistence.notification;
 
+import itacademy.pawalert.application.notification.model.SubscriberContact;
 import itacademy.pawalert.application.notification.port.outbound.NotificationRepositoryPort;
 import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
@@ -52,4 +53,26 @@ public class NotificationRepositoryImpl implements NotificationRepositoryPort {
                 .getResultList();
     }
 
+    @Override
+    public List<SubscriberContact> findSubscriberContactsByAlertId(UUID alertId) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT DISTINCT u.id, u.email, u.emailNotificationsEnabled, " +
+                                "u.telegramChatId, u.telegramNotificationsEnabled FROM UserEntity u " +
+                                "JOIN AlertSubscriptionEntity s ON CAST(s.userId AS string) = u.id " +
+                                "WHERE s.alertId = :alertId " +
+                                "AND (u.emailNotificationsEnabled = true OR u.telegramNotificationsEnabled = true)",
+                        Object[].class)
+                .setParameter("alertId", alertId)
+                .getResultList();
+
+        // The notification flags are nullable columns; a missing flag means the channel is off
+        return rows.stream()
+                .map(row -> new SubscriberContact(
+                        UUID.fromString((String) row[0]),
+                        (String) row[1],
+                        Boolean.TRUE.equals(row[2]),
+                        (String) row[3],
+                        Boolean.TRUE.equals(row[4])))
+                .toList();
+    }
 }
@@ -0,0 +1,66 @@
+package itacademy.pawalert.infrastructure.persistence.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the outbox_events table.
+ * The payload is the domain event as JSON; event_type names its class.
+ */
+@Getter
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventEntity {
+
+    @Id
+    private String id;
+    @Column(name = "alert_id")
+    private String alertId;
+    @Column(name = "event_type")
+    private String eventType;
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    @Column(name = "attempts")
+    private int attempts;
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    public OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(String id, String alertId, String eventType, String payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.alertId = alertId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public void markPublished(LocalDateTime at) {
+        this.publishedAt = at;
+        this.lastError = null;
+        this.nextAttemptAt = null;
+    }
+
+    public void markFailed(String error, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = retryAt;
+    }
+
+    public void markAbandoned(String error, int maxAttempts) {
+        this.attempts = Math.max(attempts, maxAttempts);
+        this.lastError = error;
+    }
+}
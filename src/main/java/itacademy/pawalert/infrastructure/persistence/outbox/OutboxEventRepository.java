@@ -0,0 +1,37 @@
+package itacademy.pawalert.infrastructure.persistence.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, String> {
+
+    // Lock timeout -2 renders FOR UPDATE SKIP LOCKED: rows claimed by another relay are left out
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEventEntity o " +
+            "WHERE o.publishedAt IS NULL AND o.attempts < :maxAttempts " +
+            "AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) " +
+            "ORDER BY o.createdAt ASC, o.id ASC")
+    List<OutboxEventEntity> claimDue(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now, Limit limit);
+
+    long countByPublishedAtIsNullAndAttemptsLessThan(int maxAttempts);
+
+    long countByPublishedAtIsNullAndAttemptsGreaterThanEqual(int maxAttempts);
+
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEventEntity o WHERE o.publishedAt IS NULL AND o.attempts < :maxAttempts")
+    LocalDateTime findOldestPendingCreatedAt(@Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity o WHERE o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
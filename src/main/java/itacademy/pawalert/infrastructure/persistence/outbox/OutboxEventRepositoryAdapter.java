@@ -0,0 +1,134 @@
+package itacademy.pawalert.infrastructure.persistence.outbox;
+
+import itacademy.pawalert.application.alert.model.OutboxBacklog;
+import itacademy.pawalert.application.alert.model.OutboxBatchResult;
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+import itacademy.pawalert.application.alert.model.OutboxRetryPolicy;
+import itacademy.pawalert.application.alert.port.outbound.AlertOutboxPort;
+import itacademy.pawalert.application.exception.EventBrokerUnavailableException;
+import itacademy.pawalert.application.exception.UnpublishableEventException;
+import itacademy.pawalert.domain.alert.model.AlertCreatedEvent;
+import itacademy.pawalert.domain.alert.model.AlertStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class OutboxEventRepositoryAdapter implements AlertOutboxPort {
+
+    // Only these types are written and read back, so a payload never names an arbitrary class
+    private static final Map<String, Class<?>> EVENT_TYPES = Map.of(
+            AlertCreatedEvent.class.getSimpleName(), AlertCreatedEvent.class,
+            AlertStatusChangedEvent.class.getSimpleName(), AlertStatusChangedEvent.class
+    );
+
+    private final OutboxEventRepository outboxRepository;
+    private final JsonMapper jsonMapper;
+
+    public OutboxEventRepositoryAdapter(OutboxEventRepository outboxRepository, JsonMapper jsonMapper) {
+        this.outboxRepository = outboxRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(UUID alertId, Object event) {
+        String eventType = event.getClass().getSimpleName();
+        if (!EVENT_TYPES.containsKey(eventType)) {
+            throw new IllegalArgumentException("Not an outbox event type: " + eventType);
+        }
+        outboxRepository.save(new OutboxEventEntity(UUID.randomUUID().toString(), alertId.toString(),
+                eventType, jsonMapper.writeValueAsString(event), LocalDateTime.now()));
+        log.debug("[OUTBOX] Appended {} for alert {}", eventType, alertId);
+    }
+
+    // The row locks are held until this transaction ends, i.e. until every claimed event is marked
+    @Override
+    @Transactional
+    public OutboxBatchResult relayBatch(int limit, OutboxRetryPolicy retryPolicy, Consumer<OutboxEvent> publisher) {
+        int maxAttempts = retryPolicy.maxAttempts();
+        List<OutboxEventEntity> claimed = outboxRepository.claimDue(maxAttempts, LocalDateTime.now(), Limit.of(limit));
+        if (claimed.isEmpty()) {
+            return OutboxBatchResult.empty();
+        }
+
+        int published = 0;
+        int failed = 0;
+        for (OutboxEventEntity entity : claimed) {
+            OutboxEvent event;
+            try {
+                event = toOutboxEvent(entity);
+            } catch (RuntimeException e) {
+                // Retrying cannot help; set it aside straight away so it does not block the events behind it
+                log.error("[OUTBOX] Event {} of type {} cannot be read: {}", entity.getId(), entity.getEventType(), e.getMessage());
+                entity.markAbandoned(errorOf(e), maxAttempts);
+                failed++;
+                continue;
+            }
+
+            try {
+                publisher.accept(event);
+                entity.markPublished(LocalDateTime.now());
+                published++;
+            } catch (EventBrokerUnavailableException e) {
+                // Not the event's fault: it keeps its attempt count and the rest of the batch waits for the next run
+                return new OutboxBatchResult(claimed.size(), published, failed, errorOf(e));
+            } catch (UnpublishableEventException e) {
+                log.error("[OUTBOX] Event {} cannot be published: {}", entity.getId(), e.getMessage());
+                entity.markAbandoned(errorOf(e), maxAttempts);
+                failed++;
+            } catch (RuntimeException e) {
+                // Recorded and committed: the event is not rolled back, only retried later
+                Duration delay = retryPolicy.delayAfter(entity.getAttempts() + 1);
+                entity.markFailed(errorOf(e), LocalDateTime.now().plus(delay));
+                log.warn("[OUTBOX] Event {} was not published, retrying in {} ms: {}",
+                        entity.getId(), delay.toMillis(), e.getMessage());
+                failed++;
+            }
+        }
+        return new OutboxBatchResult(claimed.size(), published, failed, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OutboxBacklog backlog(int maxAttempts) {
+        return new OutboxBacklog(
+                outboxRepository.countByPublishedAtIsNullAndAttemptsLessThan(maxAttempts),
+                outboxRepository.findOldestPendingCreatedAt(maxAttempts),
+                outboxRepository.countByPublishedAtIsNullAndAttemptsGreaterThanEqual(maxAttempts));
+    }
+
+    @Override
+    @Transactional
+    public int purgePublished(LocalDateTime publishedBefore) {
+        return outboxRepository.deletePublishedBefore(publishedBefore);
+    }
+
+    private OutboxEvent toOutboxEvent(OutboxEventEntity entity) {
+        Class<?> type = EVENT_TYPES.get(entity.getEventType());
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown event type: " + entity.getEventType());
+        }
+        return new OutboxEvent(
+                UUID.fromString(entity.getId()),
+                UUID.fromString(entity.getAlertId()),
+                jsonMapper.readValue(entity.getPayload(), type),
+                entity.getCreatedAt(),
+                entity.getAttempts());
+    }
+
+    private static String errorOf(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
@@ -1,6 +1,17 @@
 package itacademy.pawalert.infrastructure.rest.admin.controller;
 
+import itacademy.pawalert.application.alert.model.OutboxRelayStats;
+import itacademy.pawalert.application.alert.service.AlertOutboxRelay;
+import itacademy.pawalert.application.alert.service.AlertService;
 import itacademy.pawalert.application.notification.service.NotificationService;
+import itacademy.pawalert.domain.alert.model.NotificationChannel;
+import itacademy.pawalert.infrastructure.notificationqueues.ListenerStats;
+import itacademy.pawalert.infrastructure.notificationqueues.NotificationQueueMetrics;
+import itacademy.pawalert.infrastructure.notificationqueues.PublisherStats;
+import itacademy.pawalert.infrastructure.notificationqueues.email.EmailNotificationPublisher;
+import itacademy.pawalert.infrastructure.notificationqueues.telegram.TelegramNotificationPublisher;
+import itacademy.pawalert.infrastructure.notificationsenders.email.EmailDeliveryMetrics;
+import itacademy.pawalert.infrastructure.notificationsenders.email.EmailDeliveryStats;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +22,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +39,24 @@ public class AdminController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private AlertService alertService;
+
+    @Autowired
+    private EmailNotificationPublisher emailPublisher;
+
+    @Autowired
+    private TelegramNotificationPublisher telegramPublisher;
+
+    @Autowired
+    private NotificationQueueMetrics queueMetrics;
+
+    @Autowired
+    private EmailDeliveryMetrics emailDeliveryMetrics;
+
+    @Autowired
+    private AlertOutboxRelay outboxRelay;
+
 
     @PostMapping("/alerts/{alertId}/notify")
     @PreAuthorize("hasRole('ADMIN')")
@@ -44,4 +75,78 @@ public class AdminController {
         notificationService.relaunchNotification(alertId);
         return ResponseEntity.ok("Notifications resent");
     }
+
+    @PostMapping("/alerts/latest-state/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild alert latest state", description = "Replays every alert event to rebuild the denormalized last location / last status projection. This endpoint requires ADMIN role.")
+    @SecurityRequirement(name = "Bearer JWT")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Projection rebuilt successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User does not have ADMIN role")
+    })
+    public ResponseEntity<String> rebuildLatestStates() {
+        int rebuilt = alertService.rebuildLatestStates();
+        return ResponseEntity.ok("Latest state rebuilt for " + rebuilt + " alerts");
+    }
+
+    @GetMapping("/notifications/publishers")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Notification publisher metrics", description = "Returns batch size, confirm latency and failure counters of the email and telegram queue publishers. This endpoint requires ADMIN role.")
+    @SecurityRequirement(name = "Bearer JWT")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Publisher metrics retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User does not have ADMIN role")
+    })
+    public ResponseEntity<Map<NotificationChannel, PublisherStats>> getPublisherStats() {
+        return ResponseEntity.ok(Map.of(
+                NotificationChannel.EMAIL, emailPublisher.stats(),
+                NotificationChannel.TELEGRAM, telegramPublisher.stats()));
+    }
+
+    @GetMapping("/notifications/listeners")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Notification listener metrics", description = "Returns queue depth, consumer count and consumer utilization of the email and telegram listeners. " +
+            "Utilization is measured since the previous call. This endpoint requires ADMIN role.")
+    @SecurityRequirement(name = "Bearer JWT")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listener metrics retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User does not have ADMIN role")
+    })
+    public ResponseEntity<Map<NotificationChannel, ListenerStats>> getListenerStats() {
+        return ResponseEntity.ok(queueMetrics.listenerStats());
+    }
+
+    @GetMapping("/notifications/email-delivery")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Email delivery metrics", description = "Returns sent and failed counts, batch size and SMTP throughput of the bulk email sender. This endpoint requires ADMIN role.")
+    @SecurityRequirement(name = "Bearer JWT")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Email delivery metrics retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User does not have ADMIN role")
+    })
+    public ResponseEntity<EmailDeliveryStats> getEmailDeliveryStats() {
+        return ResponseEntity.ok(emailDeliveryMetrics.stats());
+    }
+
+    @GetMapping("/alerts/outbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Alert event outbox metrics", description = "Returns relay throughput, publish lag and the backlog of alert events waiting in the outbox. This endpoint requires ADMIN role.")
+    @SecurityRequirement(name = "Bearer JWT")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Outbox metrics retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User does not have ADMIN role")
+    })
+    public ResponseEntity<OutboxRelayStats> getOutboxStats() {
+        return ResponseEntity.ok(outboxRelay.stats());
+    }
 }
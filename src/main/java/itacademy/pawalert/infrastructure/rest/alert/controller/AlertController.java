@@ -1,5 +1,9 @@
 package itacademy.pawalert.infrastructure.rest.alert.controller;
 
+import itacademy.pawalert.application.alert.model.AlertCursor;
+import itacademy.pawalert.application.alert.model.AlertPage;
+import itacademy.pawalert.application.alert.model.AlertSearchCriteria;
+import itacademy.pawalert.application.alert.model.AlertWithPet;
 import itacademy.pawalert.application.alert.port.inbound.*;
 import itacademy.pawalert.domain.alert.model.*;
 import itacademy.pawalert.infrastructure.rest.alert.dto.*;
@@ -17,11 +21,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,6 +43,9 @@ import java.util.UUID;
 public class AlertController {
 
     private static final Logger logger = LoggerFactory.getLogger(AlertController.class);
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int STREAM_BATCH_SIZE = 200;
 
     private final CreateAlertUseCase createAlertUseCase;
     private final GetAlertUseCase getAlertUseCase;
@@ -40,10 +54,11 @@ public class AlertController {
     private final DeleteAlertUseCase deleteAlertUseCase;
     private final AlertMapper alertMapper;
     private final SearchAlertsUseCase searchAlertsUseCase;
+    private final JsonMapper jsonMapper;
 
     public AlertController(AlertMapper alertMapper, CreateAlertUseCase createAlertUseCase, GetAlertUseCase getAlertUseCase,
                            UpdateAlertStatusUseCase updateAlertStatusUseCase, UpdateAlertUseCase updateAlertUseCase,
-                           DeleteAlertUseCase deleteAlertUseCase, SearchAlertsUseCase searchAlerts) {
+                           DeleteAlertUseCase deleteAlertUseCase, SearchAlertsUseCase searchAlerts, JsonMapper jsonMapper) {
         this.createAlertUseCase = createAlertUseCase;
         this.getAlertUseCase = getAlertUseCase;
         this.updateAlertStatusUseCase = updateAlertStatusUseCase;
@@ -51,6 +66,7 @@ public class AlertController {
         this.alertMapper = alertMapper;
         this.deleteAlertUseCase = deleteAlertUseCase;
         this.searchAlertsUseCase = searchAlerts;
+        this.jsonMapper = jsonMapper;
     }
 
     @GetMapping("/public/nearby")
@@ -78,13 +94,24 @@ public class AlertController {
     }
 
     @GetMapping("/public/active")
-    @Operation(summary = "Get all active alerts", description = "Retrieve all active alerts in the system. Closed alerts are excluded. This is a public endpoint that does not require authentication.")
+    @Operation(summary = "Get all active alerts", description = "Retrieve all active alerts in the system. Closed alerts are excluded. " +
+            "When cursor or limit is given, a single page is returned (newest first) and the cursor of the next page is sent in the X-Next-Cursor header. " +
+            "This is a public endpoint that does not require authentication.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of active alerts retrieved successfully",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AlertDTO.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = AlertDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
     @Tag(name = "Alerts - Public")
-    public ResponseEntity<List<AlertDTO>> getActiveAlerts() {
+    public ResponseEntity<List<AlertDTO>> getActiveAlerts(
+            @Parameter(description = "Opaque cursor returned in X-Next-Cursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-500)", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return toPageResponse(AlertSearchCriteria.active(), cursor, limit);
+        }
+
         List<Alert> alerts = searchAlertsUseCase.search();
 
         // Filter out closed alerts
@@ -95,6 +122,31 @@ public class AlertController {
         return ResponseEntity.ok(alertMapper.toDTOList(activeAlerts));
     }
 
+    @GetMapping(value = "/public/active/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all active alerts", description = "Stream every active alert as newline-delimited JSON, newest first. " +
+            "Rows are written as they are read from the database. This is a public endpoint that does not require authentication.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active alerts streamed successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AlertDTO.class)))
+    })
+    @Tag(name = "Alerts - Public")
+    public ResponseEntity<StreamingResponseBody> streamActiveAlerts() {
+        StreamingResponseBody body = out -> {
+            List<Alert> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+            searchAlertsUseCase.streamSearch(AlertSearchCriteria.active(), alert -> {
+                batch.add(alert);
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    writeNdjson(out, batch);
+                }
+            });
+            writeNdjson(out, batch);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new alert", description = "Create a new alert for a missing or lost pet. Requires authentication with a valid JWT token.")
     @SecurityRequirement(name = "Bearer JWT")
@@ -290,7 +342,11 @@ public class AlertController {
             @Parameter(description = "Filter alerts updated until this date (ISO 8601 format)")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
             @Parameter(description = "Filter by user ID (UUID format)")
-            @RequestParam(required = false) String userId
+            @RequestParam(required = false) String userId,
+            @Parameter(description = "Opaque cursor returned in X-Next-Cursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-500). When cursor or limit is given, a single page is returned")
+            @RequestParam(required = false) Integer limit
     ) {
 
         UUID userIdUUID = null;
@@ -302,14 +358,21 @@ public class AlertController {
             }
         }
 
-        List<Alert> alerts = searchAlertsUseCase.search(
+        AlertSearchCriteria criteria = new AlertSearchCriteria(
                 status, title, petName, species, breed,
                 createdFrom, createdTo,
                 updatedFrom, updatedTo,
                 userIdUUID
         );
 
-        return ResponseEntity.ok(alertMapper.toDTOList(alerts));
+        if (cursor != null || limit != null) {
+            return toPageResponse(criteria, cursor, limit);
+        }
+
+        // Pet name, species and image come back with each alert, no per-alert pet lookup needed
+        List<AlertWithPet> results = searchAlertsUseCase.searchWithPets(criteria);
+
+        return ResponseEntity.ok(alertMapper.toDTOListWithPets(results));
 
     }
 
@@ -370,4 +433,31 @@ public class AlertController {
         List<Alert> alerts = searchAlertsUseCase.search();
         return ResponseEntity.ok(alertMapper.toDTOList(alerts));
     }
+
+    private ResponseEntity<List<AlertDTO>> toPageResponse(AlertSearchCriteria criteria, String cursor, Integer limit) {
+        AlertPage page = searchAlertsUseCase.searchPage(
+                criteria.withPage(AlertCursor.decode(cursor), limit != null ? limit : DEFAULT_PAGE_SIZE));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+        }
+        return response.body(alertMapper.toDTOList(page.alerts()));
+    }
+
+    private void writeNdjson(OutputStream out, List<Alert> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            for (AlertDTO dto : alertMapper.toDTOList(batch)) {
+                out.write(jsonMapper.writeValueAsBytes(dto));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        batch.clear();
+    }
 }
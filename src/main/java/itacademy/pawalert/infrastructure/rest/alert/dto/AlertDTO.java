@@ -19,4 +19,10 @@ public class AlertDTO {
     private Double latitude;
     private Double longitude;
     private String closureReason;
+    // Only filled by the search endpoint, which reads the pet in the same query
+    private String petName;
+    private String workingPetName;
+    private String species;
+    private String breed;
+    private String petImage;
 }
@@ -1,5 +1,8 @@
 package itacademy.pawalert.infrastructure.rest.alert.mapper;
 
+import itacademy.pawalert.application.alert.model.AlertLatestState;
+import itacademy.pawalert.application.alert.model.AlertPetSummary;
+import itacademy.pawalert.application.alert.model.AlertWithPet;
 import itacademy.pawalert.application.alert.port.outbound.AlertEventRepositoryPort;
 import itacademy.pawalert.domain.alert.model.*;
 import itacademy.pawalert.domain.user.User;
@@ -9,6 +12,7 @@ import itacademy.pawalert.infrastructure.rest.alert.dto.AlertWithContactDTO;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
@@ -21,22 +25,24 @@ public class AlertMapper {
     }
 
     public AlertDTO toDTO(Alert alert) {
-        // Get the latest event for location
-        AlertEvent latestEvent = eventRepository
-                .findLatestByAlertId(alert.getId())
+        AlertLatestState latestState = eventRepository
+                .findLatestStateByAlertId(alert.getId())
                 .orElse(null);
 
-        GeographicLocation location = latestEvent != null ? latestEvent.getLocation() : null;
+        return toDTO(alert, latestState);
+    }
+
+    private AlertDTO toDTO(Alert alert, AlertLatestState latestState) {
+        return toDTOBuilder(alert, latestState).build();
+    }
 
-        // Get closure reason from the closure event (if alert is closed)
+    private AlertDTO.AlertDTOBuilder toDTOBuilder(Alert alert, AlertLatestState latestState) {
+        GeographicLocation location = latestState != null ? latestState.lastLocation() : null;
+
+        // The projection only keeps a closure reason while the alert is closed
         ClosureReason closureReason = null;
-        if (alert.currentStatus().getStatusName() == StatusNames.CLOSED) {
-            // Find the closure event to get the reason
-            closureReason = eventRepository.findByAlertIdOrderByChangedAtDesc(alert.getId()).stream()
-                    .filter(e -> e.getNewStatus() == StatusNames.CLOSED && e.getClosureReason() != null)
-                    .findFirst()
-                    .map(AlertEvent::getClosureReason)
-                    .orElse(null);
+        if (alert.currentStatus().getStatusName() == StatusNames.CLOSED && latestState != null) {
+            closureReason = latestState.closureReason();
         }
 
         return AlertDTO.builder()
@@ -48,8 +54,19 @@ public class AlertMapper {
                 .status(alert.currentStatus().getStatusName().name())
                 .latitude(location != null ? location.latitude() : null)
                 .longitude(location != null ? location.longitude() : null)
-                .closureReason(closureReason != null ? closureReason.name() : null)
-                .build();
+                .closureReason(closureReason != null ? closureReason.name() : null);
+    }
+
+    private AlertDTO.AlertDTOBuilder withPet(AlertDTO.AlertDTOBuilder builder, AlertPetSummary pet) {
+        if (pet == null) {
+            return builder;
+        }
+        return builder
+                .petName(pet.officialPetName())
+                .workingPetName(pet.workingPetName())
+                .species(pet.species())
+                .breed(pet.breed())
+                .petImage(pet.petImage());
     }
 
     public Alert toDomain(AlertDTO alertDTO, StatusAlert status) {
@@ -80,8 +97,31 @@ public class AlertMapper {
     }
 
     public List<AlertDTO> toDTOList(List<Alert> alerts) {
+        if (alerts.isEmpty()) {
+            return List.of();
+        }
+
+        // One lookup for the whole page instead of one (or two) per alert
+        Map<UUID, AlertLatestState> latestStates = eventRepository.findLatestStatesByAlertIds(
+                alerts.stream().map(Alert::getId).toList());
+
         return alerts.stream()
-                .map(this::toDTO)
+                .map(alert -> toDTO(alert, latestStates.get(alert.getId())))
+                .toList();
+    }
+
+    public List<AlertDTO> toDTOListWithPets(List<AlertWithPet> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, AlertLatestState> latestStates = eventRepository.findLatestStatesByAlertIds(
+                results.stream().map(result -> result.alert().getId()).toList());
+
+        return results.stream()
+                .map(result -> withPet(
+                        toDTOBuilder(result.alert(), latestStates.get(result.alert().getId())),
+                        result.pet()).build())
                 .toList();
     }
 
@@ -1,10 +1,13 @@
 package itacademy.pawalert.infrastructure.rest.image.controller;
 
 
+import itacademy.pawalert.application.image.service.ImageSubmissionService;
 import itacademy.pawalert.application.image.service.ImageUploadService;
 import itacademy.pawalert.application.image.service.ImageValidationService;
+import itacademy.pawalert.domain.image.model.ImageSubmissionResult;
 import itacademy.pawalert.domain.image.model.ImageValidationResult;
 import itacademy.pawalert.domain.image.model.PetAnalysisResult;
+import itacademy.pawalert.domain.image.port.inbound.ImagePreprocessor;
 import itacademy.pawalert.domain.image.port.inbound.PetImageAnalyzer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,12 +34,17 @@ public class ImageController {
     private final ImageValidationService validationService;
     private final ImageUploadService uploadService;
     private final PetImageAnalyzer petImageAnalyzer;
+    private final ImagePreprocessor imagePreprocessor;
+    private final ImageSubmissionService submissionService;
 
     public ImageController(ImageValidationService validationService,
-                           ImageUploadService uploadService, PetImageAnalyzer petImageAnalyzer) {
+                           ImageUploadService uploadService, PetImageAnalyzer petImageAnalyzer,
+                           ImagePreprocessor imagePreprocessor, ImageSubmissionService submissionService) {
         this.validationService = validationService;
         this.uploadService = uploadService;
         this.petImageAnalyzer = petImageAnalyzer;
+        this.imagePreprocessor = imagePreprocessor;
+        this.submissionService = submissionService;
     }
 
     @PostMapping("/validate")
@@ -90,10 +98,30 @@ public class ImageController {
             throws IOException {
 
         return ResponseEntity.ok(
-                petImageAnalyzer.analyze(file.getBytes())
+                petImageAnalyzer.analyze(imagePreprocessor.prepare(file).getBytes())
         );
     }
 
+    @PostMapping("/submit")
+    @Operation(summary = "Analyze and upload pet image", description = "Analyzes a pet image and uploads it in parallel. The upload is discarded if the image is unsafe. Requires authentication.")
+    @SecurityRequirement(name = "Bearer JWT")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Image analyzed and uploaded successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Image rejected as unsafe; the analysis is returned without an image URL"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid")
+    })
+    public ResponseEntity<ImageSubmissionResult> submit(
+            @Parameter(description = "Image file to analyze and upload", required = true)
+            @RequestParam MultipartFile file,
+            @Parameter(description = "Destination folder for the image", required = true)
+            @RequestParam String folder) {
+        ImageSubmissionResult result = submissionService.submit(file, folder);
+        return result.isAccepted()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.badRequest().body(result);
+    }
+
     /**
      * Endpoint to classify pet image (dog vs cat)
      * Response format compatible with the frontend
@@ -111,7 +139,7 @@ public class ImageController {
             @Parameter(description = "Image file to classify", required = true)
             @RequestParam MultipartFile file) {
         try {
-            PetAnalysisResult result = petImageAnalyzer.analyze(file.getBytes());
+            PetAnalysisResult result = petImageAnalyzer.analyze(imagePreprocessor.prepare(file).getBytes());
 
             Map<String, Object> response = new HashMap<>();
 
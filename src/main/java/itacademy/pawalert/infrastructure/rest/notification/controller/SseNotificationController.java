@@ -1,7 +1,11 @@
 package itacademy.pawalert.infrastructure.rest.notification.controller;
 
+import itacademy.pawalert.application.alert.port.outbound.CurrentUserProviderPort;
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
 import itacademy.pawalert.infrastructure.notificationsenders.sse.SseNotificationService;
+import itacademy.pawalert.infrastructure.notificationsenders.sse.SseTopic;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -12,9 +16,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
@@ -23,18 +34,41 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class SseNotificationController {
 
     private final SseNotificationService sseNotificationService;
+    private final CurrentUserProviderPort currentUserProvider;
 
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    @Operation(summary = "Subscribe to real-time notifications", description = "Establishes an SSE (Server-Sent Events) connection to receive real-time notifications. Requires authentication.")
+    @Operation(summary = "Subscribe to real-time notifications", description = "Establishes an SSE (Server-Sent Events) connection to receive real-time notifications. " +
+            "Optional filters limit the stream to some alerts, to the area around a point, or to the caller's own alerts; without filters every notification is received. " +
+            "A reconnecting client that sends Last-Event-ID first receives the notifications it missed. Requires authentication.")
     @SecurityRequirement(name = "Bearer JWT")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SSE connection established successfully",
                     content = @Content(mediaType = "text/event-stream")),
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid")
     })
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(
+            @Parameter(description = "Only notifications about these alerts")
+            @RequestParam(required = false) List<UUID> alertId,
+            @Parameter(description = "Latitude of the area to follow (requires longitude)", example = "41.3874")
+            @RequestParam(required = false) Double latitude,
+            @Parameter(description = "Longitude of the area to follow (requires latitude)", example = "2.1686")
+            @RequestParam(required = false) Double longitude,
+            @Parameter(description = "Only notifications about the caller's own alerts")
+            @RequestParam(defaultValue = "false") boolean mine,
+            @Parameter(description = "Id of the last notification received, sent by the browser when it reconnects")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         log.info("New SSE subscription request");
-        return sseNotificationService.subscribe();
+        Set<SseTopic> topics = new HashSet<>();
+        if (alertId != null) {
+            alertId.forEach(id -> topics.add(SseTopic.alert(id)));
+        }
+        if (latitude != null && longitude != null) {
+            topics.addAll(SseTopic.areasAround(GeographicLocation.of(latitude, longitude)));
+        }
+        if (mine) {
+            topics.add(SseTopic.user(currentUserProvider.getCurrentUserId()));
+        }
+        return sseNotificationService.subscribe(topics, lastEventId);
     }
 
     @GetMapping("/connected-count")
@@ -47,6 +47,18 @@ CREATE TABLE IF NOT EXISTS alert_events (
     FOREIGN KEY (alert_id) REFERENCES alerts (id)
 );
 
+-- Alert latest state projection
+-- One row per alert, maintained alongside alert_events and rebuildable from it
+CREATE TABLE IF NOT EXISTS alert_latest_state (
+    alert_id VARCHAR(255) PRIMARY KEY,
+    last_event_at TIMESTAMP NOT NULL,
+    last_status VARCHAR(50),
+    last_latitude DOUBLE PRECISION,
+    last_longitude DOUBLE PRECISION,
+    closure_reason VARCHAR(50),
+    FOREIGN KEY (alert_id) REFERENCES alerts (id) ON DELETE CASCADE
+);
+
 -- Pets table
 CREATE TABLE IF NOT EXISTS pets (
     id VARCHAR(255) PRIMARY KEY,
@@ -76,13 +88,43 @@ CREATE TABLE IF NOT EXISTS alert_subscriptions (
    CONSTRAINT uq_alert_user UNIQUE (alert_id, user_id)
 );
 
+-- Outbox of alert domain events
+-- Written in the same transaction as the alert change and relayed to the alert-events exchange after commit
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id VARCHAR(255) PRIMARY KEY,
+    alert_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    next_attempt_at TIMESTAMP
+);
+
+-- Image analysis results keyed by result type and SHA-256 of the image bytes
+-- Second tier behind the in-memory cache, only used when app.images.analysis-cache.persistent is enabled
+CREATE TABLE IF NOT EXISTS image_analysis_cache (
+    cache_key VARCHAR(255) PRIMARY KEY,
+    result_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
 -- Indexes for better query performance
 CREATE INDEX IF NOT EXISTS idx_alerts_status ON alerts(status);
 CREATE INDEX IF NOT EXISTS idx_alerts_pet_id ON alerts(pet_id);
 CREATE INDEX IF NOT EXISTS idx_alerts_user ON alerts(user_id);
+CREATE INDEX IF NOT EXISTS idx_alerts_created_at_id ON alerts(created_at DESC, id DESC);
 CREATE INDEX IF NOT EXISTS idx_alert_events_location ON alert_events(latitude, longitude);
+CREATE INDEX IF NOT EXISTS idx_alert_latest_state_last_event_at ON alert_latest_state(last_event_at);
 CREATE INDEX IF NOT EXISTS idx_alert_subscriptions_alert_id ON alert_subscriptions(alert_id);
 CREATE INDEX IF NOT EXISTS idx_alert_subscriptions_user_id ON alert_subscriptions(user_id);
 CREATE INDEX IF NOT EXISTS idx_users_telegram_chat_id ON users(telegram_chat_id);
 CREATE INDEX IF NOT EXISTS idx_pets_official_name ON pets(pet_offical_name);
-CREATE INDEX IF NOT EXISTS idx_pets_species ON pets(pet_species);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_pets_species ON pets(pet_species);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events(published_at, created_at);
+CREATE INDEX IF NOT EXISTS idx_image_analysis_cache_created_at ON image_analysis_cache(created_at);
+
+-- Trigram (pg_trgm) indexes for the alert text search filters are PostgreSQL-only
+-- and are created on startup by TrigramSearchIndexInitializer
@@ -0,0 +1,66 @@
+package itacademy.pawalert.application.alert.service;
+
+import itacademy.pawalert.domain.alert.model.Alert;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.domain.pet.model.Breed;
+import itacademy.pawalert.domain.pet.model.Pet;
+import itacademy.pawalert.domain.pet.model.PetImage;
+import itacademy.pawalert.domain.pet.model.PetOfficialName;
+import itacademy.pawalert.infrastructure.config.ThymeleafConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.ITemplateEngine;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AlertNotificationFormatter Unit Tests")
+class AlertNotificationFormatterTest {
+
+    private ITemplateEngine templateEngine;
+    private AlertNotificationFormatter formatter;
+    private Alert alert;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        templateEngine = new ThymeleafConfig().templateEngine();
+        formatter = new AlertNotificationFormatter(templateEngine);
+
+        alert = mock(Alert.class);
+        when(alert.getId()).thenReturn(UUID.randomUUID());
+        pet = mock(Pet.class);
+        when(pet.getOfficialPetName()).thenReturn(PetOfficialName.of("Luna"));
+        when(pet.getBreed()).thenReturn(Breed.of("Beagle"));
+        when(pet.getPetImage()).thenReturn(PetImage.of("https://example.com/luna.jpg"));
+    }
+
+    @Test
+    @DisplayName("Should render the status change template with pet details")
+    void shouldRenderTemplateWithPetDetails() {
+        String body = formatter.formatEmailBody(alert, pet, StatusNames.OPENED, StatusNames.SEEN);
+
+        assertTrue(body.contains("Luna"));
+        assertTrue(body.contains("Beagle"));
+        assertTrue(body.contains("src=\"https://example.com/luna.jpg\""));
+        assertTrue(body.contains("/alerts/" + alert.getId()));
+        // Owners and followers get the same body, so it must not claim why it was sent
+        assertFalse(body.contains("because you follow this alert"));
+        // No color was set, so its row is left out
+        assertFalse(body.contains("Color:"));
+    }
+
+    @Test
+    @DisplayName("Should escape user-provided values in the email")
+    void shouldEscapeUserProvidedValues() {
+        Breed breed = Breed.of("Beagle <b>mix</b>");
+        when(pet.getBreed()).thenReturn(breed);
+
+        String body = formatter.formatEmailBody(alert, pet, StatusNames.OPENED, StatusNames.SEEN);
+
+        assertTrue(body.contains("Beagle &lt;b&gt;mix&lt;/b&gt;"));
+    }
+}
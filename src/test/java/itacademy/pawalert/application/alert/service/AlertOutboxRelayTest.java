@@ -0,0 +1,151 @@
+package itacademy.pawalert.application.alert.service;
+
+import itacademy.pawalert.application.alert.model.OutboxBacklog;
+import itacademy.pawalert.application.alert.model.OutboxBatchResult;
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+import itacademy.pawalert.application.alert.model.OutboxRelayStats;
+import itacademy.pawalert.application.alert.model.OutboxRetryPolicy;
+import itacademy.pawalert.application.alert.port.outbound.AlertEventPublisherPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertOutboxPort;
+import itacademy.pawalert.domain.alert.model.AlertStatusChangedEvent;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertOutboxRelay Unit Tests")
+class AlertOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 10, 0);
+    private static final OutboxRetryPolicy RETRY_POLICY =
+            new OutboxRetryPolicy(MAX_ATTEMPTS, Duration.ofSeconds(1), Duration.ofMinutes(5));
+
+    @Mock
+    private AlertOutboxPort outbox;
+
+    @Mock
+    private AlertEventPublisherPort eventPublisher;
+
+    private AlertOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        relay = new AlertOutboxRelay(outbox, eventPublisher, BATCH_SIZE, RETRY_POLICY, Duration.ofHours(24), clock);
+    }
+
+    @Test
+    @DisplayName("Should publish full batches until the outbox is drained and track the publish lag")
+    void shouldRelayUntilDrained() {
+        List<OutboxEvent> firstBatch = List.of(statusChange(NOW.minusSeconds(3)), statusChange(NOW.minusSeconds(2)));
+        List<OutboxEvent> secondBatch = List.of(statusChange(NOW.minusNanos(40_000_000)));
+        when(outbox.relayBatch(eq(BATCH_SIZE), eq(RETRY_POLICY), any()))
+                .thenAnswer(inv -> publishWith(inv.getArgument(2), firstBatch))
+                .thenAnswer(inv -> publishWith(inv.getArgument(2), secondBatch));
+        when(outbox.backlog(MAX_ATTEMPTS)).thenReturn(new OutboxBacklog(0, null, 0));
+
+        int relayed = relay.relayPending();
+
+        assertEquals(3, relayed);
+        firstBatch.forEach(event -> verify(eventPublisher).publish(event));
+        secondBatch.forEach(event -> verify(eventPublisher).publish(event));
+        // A short batch means nothing was left behind it
+        verify(outbox, times(2)).relayBatch(eq(BATCH_SIZE), eq(RETRY_POLICY), any());
+
+        OutboxRelayStats stats = relay.stats();
+        assertEquals(3, stats.published());
+        assertEquals(2, stats.batches());
+        assertEquals(40, stats.lastPublishLagMs());
+        assertEquals(3000, stats.maxPublishLagMs());
+    }
+
+    @Test
+    @DisplayName("Should end the run and back off while the broker is unavailable")
+    void shouldBackOffWhileBrokerIsUnavailable() {
+        when(outbox.relayBatch(eq(BATCH_SIZE), eq(RETRY_POLICY), any()))
+                .thenReturn(new OutboxBatchResult(BATCH_SIZE, 0, 0, "Broker unavailable"));
+        when(outbox.backlog(MAX_ATTEMPTS)).thenReturn(new OutboxBacklog(2, NOW.minusSeconds(10), 1));
+
+        assertEquals(0, relay.relayPending());
+        // Still within the backoff: the outbox is not even claimed
+        assertEquals(0, relay.relayPending());
+
+        verify(outbox, times(1)).relayBatch(eq(BATCH_SIZE), eq(RETRY_POLICY), any());
+        OutboxRelayStats stats = relay.stats();
+        assertEquals(1, stats.failedBatches());
+        assertEquals(0, stats.failedEvents());
+        assertEquals(2, stats.pending());
+        assertEquals(10_000, stats.oldestPendingAgeMs());
+        assertEquals(1, stats.stuck());
+    }
+
+    @Test
+    @DisplayName("Should go on with the next batch when single events fail")
+    void shouldContinueAfterEventFailures() {
+        when(outbox.relayBatch(eq(BATCH_SIZE), eq(RETRY_POLICY), any()))
+                .thenReturn(new OutboxBatchResult(BATCH_SIZE, 1, 1, null))
+                .thenReturn(OutboxBatchResult.empty());
+        when(outbox.backlog(MAX_ATTEMPTS)).thenReturn(new OutboxBacklog(1, NOW, 0));
+
+        assertEquals(1, relay.relayPending());
+
+        verify(outbox, times(2)).relayBatch(eq(BATCH_SIZE), eq(RETRY_POLICY), any());
+        assertEquals(1, relay.stats().failedEvents());
+        assertEquals(0, relay.stats().failedBatches());
+    }
+
+    @Test
+    @DisplayName("Should not touch the publisher when the outbox is empty")
+    void shouldDoNothingWhenEmpty() {
+        when(outbox.relayBatch(eq(BATCH_SIZE), eq(RETRY_POLICY), any())).thenReturn(OutboxBatchResult.empty());
+
+        assertEquals(0, relay.relayPending());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should purge events published before the retention period")
+    void shouldPurgeOldPublishedEvents() {
+        when(outbox.purgePublished(NOW.minusHours(24))).thenReturn(7);
+
+        assertEquals(7, relay.purgePublished());
+    }
+
+    @Test
+    @DisplayName("Should double the retry delay up to the maximum")
+    void shouldBackOffExponentially() {
+        assertEquals(Duration.ZERO, RETRY_POLICY.delayAfter(0));
+        assertEquals(Duration.ofSeconds(1), RETRY_POLICY.delayAfter(1));
+        assertEquals(Duration.ofSeconds(8), RETRY_POLICY.delayAfter(4));
+        assertEquals(Duration.ofMinutes(5), RETRY_POLICY.delayAfter(40));
+    }
+
+    private static OutboxBatchResult publishWith(Consumer<OutboxEvent> publisher, List<OutboxEvent> batch) {
+        batch.forEach(publisher);
+        return new OutboxBatchResult(batch.size(), batch.size(), 0, null);
+    }
+
+    private static OutboxEvent statusChange(LocalDateTime createdAt) {
+        UUID alertId = UUID.randomUUID();
+        return new OutboxEvent(UUID.randomUUID(), alertId,
+                new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN), createdAt, 0);
+    }
+}
@@ -0,0 +1,166 @@
+package itacademy.pawalert.application.image.service;
+
+import itacademy.pawalert.domain.image.model.ContentSafetyStatus;
+import itacademy.pawalert.domain.image.model.ImageSubmissionResult;
+import itacademy.pawalert.domain.image.model.PetAnalysisResult;
+import itacademy.pawalert.domain.image.port.inbound.ImageUploader;
+import itacademy.pawalert.domain.image.port.inbound.PetImageAnalyzer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageSubmissionService Unit Tests")
+class ImageSubmissionServiceTest {
+
+    private static final String URL = "https://res.cloudinary.com/demo/image/upload/v1/pets/luna.jpg";
+
+    @Mock
+    private PetImageAnalyzer petImageAnalyzer;
+
+    @Mock
+    private ImageUploader imageUploader;
+
+    private ExecutorService executor;
+    private ImageSubmissionService service;
+    private final MockMultipartFile file =
+            new MockMultipartFile("file", "luna.jpg", "image/jpeg", "photo".getBytes());
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        service = new ImageSubmissionService(petImageAnalyzer, imageUploader, f -> f, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static PetAnalysisResult analysis(boolean safe) {
+        return new PetAnalysisResult(safe, "Valid image of Dog", "Dog", 0.95, null, 0.0, List.of(),
+                "Brown", "#A52A2A", List.of(), "", false, List.of("Dog"),
+                safe ? ContentSafetyStatus.SAFE : ContentSafetyStatus.UNSAFE, safe);
+    }
+
+    @Test
+    @DisplayName("Should run the upload while the analysis is still in progress")
+    void shouldAnalyzeAndUploadConcurrently() {
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        when(imageUploader.upload(any(), eq("pets"))).thenAnswer(invocation -> {
+            uploadStarted.countDown();
+            return URL;
+        });
+        // The analysis only finishes once the upload has started, so sequential calls would time out
+        when(petImageAnalyzer.analyze(any())).thenAnswer(invocation -> {
+            assertTrue(uploadStarted.await(5, TimeUnit.SECONDS));
+            return analysis(true);
+        });
+
+        ImageSubmissionResult result = service.submit(file, "pets");
+
+        assertTrue(result.isAccepted());
+        assertEquals(URL, result.imageUrl());
+        assertEquals("Dog", result.analysis().species());
+    }
+
+    @Test
+    @DisplayName("Should interrupt the upload when the image is unsafe and delete what it still uploaded")
+    void shouldCancelUploadOfUnsafeImage() throws InterruptedException {
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch uploadInterrupted = new CountDownLatch(1);
+        when(imageUploader.upload(any(), eq("pets"))).thenAnswer(invocation -> {
+            uploadStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                uploadInterrupted.countDown();
+            }
+            return URL;
+        });
+        when(petImageAnalyzer.analyze(any())).thenAnswer(invocation -> {
+            assertTrue(uploadStarted.await(5, TimeUnit.SECONDS));
+            return analysis(false);
+        });
+
+        ImageSubmissionResult result = service.submit(file, "pets");
+
+        assertFalse(result.isAccepted());
+        assertNull(result.imageUrl());
+        assertEquals(ContentSafetyStatus.UNSAFE, result.analysis().safetyStatus());
+        assertTrue(uploadInterrupted.await(5, TimeUnit.SECONDS));
+        verify(imageUploader, timeout(5000)).delete(URL);
+    }
+
+    @Test
+    @DisplayName("Should delete an upload that ignores the interrupt and finishes after the rejection")
+    void shouldDeleteUploadThatIgnoresInterrupt() throws InterruptedException {
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Like a blocking HTTP call: the interrupt flag is set but the request runs to completion
+        when(imageUploader.upload(any(), eq("pets"))).thenAnswer(invocation -> {
+            uploadStarted.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return URL;
+        });
+        when(petImageAnalyzer.analyze(any())).thenAnswer(invocation -> {
+            assertTrue(uploadStarted.await(5, TimeUnit.SECONDS));
+            return analysis(false);
+        });
+
+        ImageSubmissionResult result = service.submit(file, "pets");
+
+        assertFalse(result.isAccepted());
+        verify(imageUploader, never()).delete(any());
+        release.countDown();
+        verify(imageUploader, timeout(5000)).delete(URL);
+    }
+
+    @Test
+    @DisplayName("Should delete an upload that finished before the image was rejected")
+    void shouldDeleteFinishedUploadOfUnsafeImage() {
+        CountDownLatch uploaded = new CountDownLatch(1);
+        when(imageUploader.upload(any(), eq("pets"))).thenAnswer(invocation -> {
+            uploaded.countDown();
+            return URL;
+        });
+        when(petImageAnalyzer.analyze(any())).thenAnswer(invocation -> {
+            assertTrue(uploaded.await(5, TimeUnit.SECONDS));
+            // Let the upload task complete before rejecting
+            Thread.sleep(50);
+            return analysis(false);
+        });
+
+        ImageSubmissionResult result = service.submit(file, "pets");
+
+        assertFalse(result.isAccepted());
+        verify(imageUploader).delete(URL);
+    }
+}
@@ -0,0 +1,121 @@
+package itacademy.pawalert.application.notification.service;
+
+import itacademy.pawalert.application.alert.port.outbound.AlertRepositoryPort;
+import itacademy.pawalert.application.alert.service.AlertNotificationFormatter;
+import itacademy.pawalert.application.notification.model.SubscriberContact;
+import itacademy.pawalert.application.notification.port.outbound.NotificationPublisherPort;
+import itacademy.pawalert.application.notification.port.outbound.NotificationRepositoryPort;
+import itacademy.pawalert.application.pet.port.inbound.GetPetUseCase;
+import itacademy.pawalert.domain.alert.model.Alert;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.domain.pet.model.Pet;
+import itacademy.pawalert.domain.pet.model.PetImage;
+import itacademy.pawalert.infrastructure.notificationqueues.email.EmailNotificationEvent;
+import itacademy.pawalert.infrastructure.notificationqueues.telegram.TelegramNotificationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscriptionNotificationService Unit Tests")
+class SubscriptionNotificationServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private NotificationRepositoryPort notificationRepository;
+
+    @Mock
+    private AlertRepositoryPort alertRepository;
+
+    @Mock
+    private GetPetUseCase getPetUseCase;
+
+    @Mock
+    private AlertNotificationFormatter formatter;
+
+    @Mock
+    private NotificationPublisherPort<EmailNotificationEvent> emailPublisher;
+
+    @Mock
+    private NotificationPublisherPort<TelegramNotificationEvent> telegramPublisher;
+
+    private SubscriptionNotificationService service;
+
+    private final UUID alertId = UUID.randomUUID();
+    private final UUID petId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new SubscriptionNotificationService(notificationRepository, alertRepository, getPetUseCase,
+                formatter, emailPublisher, telegramPublisher, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should load alert and pet once, render once and publish in batches")
+    void shouldRenderOnceAndPublishInBatches() {
+        List<SubscriberContact> contacts = new ArrayList<>(IntStream.range(0, 5)
+                .mapToObj(i -> new SubscriberContact(UUID.randomUUID(), "user" + i + "@example.com", true, null, false))
+                .toList());
+        contacts.add(new SubscriberContact(UUID.randomUUID(), "tg@example.com", false, "123456789", true));
+        when(notificationRepository.findSubscriberContactsByAlertId(alertId)).thenReturn(contacts);
+
+        Alert alert = mock(Alert.class);
+        when(alert.getPetId()).thenReturn(petId);
+        Pet pet = mock(Pet.class);
+        when(pet.getPetImage()).thenReturn(PetImage.of("https://example.com/photo.jpg"));
+        when(alertRepository.findById(alertId)).thenReturn(Optional.of(alert));
+        when(getPetUseCase.getPetById(petId)).thenReturn(pet);
+        when(formatter.formatEmailSubject(StatusNames.SEEN)).thenReturn("subject");
+        when(formatter.formatEmailBody(alert, pet, StatusNames.OPENED, StatusNames.SEEN)).thenReturn("body");
+        when(formatter.formatTelegramMessage(alert, pet, StatusNames.SEEN)).thenReturn("message");
+
+        service.notifySubscribers(alertId, StatusNames.OPENED, StatusNames.SEEN);
+
+        verify(alertRepository, times(1)).findById(alertId);
+        verify(getPetUseCase, times(1)).getPetById(petId);
+        verify(formatter, times(1)).formatEmailBody(any(), any(), any(), any());
+        verify(formatter, times(1)).formatTelegramMessage(any(), any(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailNotificationEvent>> emailBatches = ArgumentCaptor.forClass(List.class);
+        verify(emailPublisher, times(3)).publishAllConfirmed(emailBatches.capture());
+        List<EmailNotificationEvent> emails = emailBatches.getAllValues().stream().flatMap(List::stream).toList();
+        assertEquals(5, emails.size());
+        assertTrue(emails.stream().allMatch(event -> event.body().equals("body") && event.subject().equals("subject")));
+        // Only the recipient differs between the queued copies
+        assertEquals(5, emails.stream().map(EmailNotificationEvent::email).distinct().count());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TelegramNotificationEvent>> telegramBatch = ArgumentCaptor.forClass(List.class);
+        verify(telegramPublisher).publishAllConfirmed(telegramBatch.capture());
+        TelegramNotificationEvent telegram = telegramBatch.getValue().get(0);
+        assertEquals("123456789", telegram.chatId());
+        assertEquals("https://example.com/photo.jpg", telegram.photoUrl());
+    }
+
+    @Test
+    @DisplayName("Should skip alert and pet lookups when nobody wants notifications")
+    void shouldSkipLookupsWithoutRecipients() {
+        when(notificationRepository.findSubscriberContactsByAlertId(alertId)).thenReturn(List.of(
+                new SubscriberContact(UUID.randomUUID(), "user@example.com", false, null, true)));
+
+        service.notifySubscribers(alertId, StatusNames.SEEN);
+
+        verifyNoInteractions(alertRepository, getPetUseCase, formatter, emailPublisher, telegramPublisher);
+    }
+}
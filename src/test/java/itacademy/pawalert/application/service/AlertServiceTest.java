@@ -7,7 +7,10 @@ import itacademy.pawalert.domain.alert.exception.AlertModificationNotAllowedExce
 import itacademy.pawalert.application.user.port.inbound.GetUserUseCase;
 import itacademy.pawalert.application.alert.port.inbound.AlertSubscriptionUseCase;
 import itacademy.pawalert.application.alert.port.outbound.AlertEventRepositoryPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertLocationIndexPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertOutboxPort;
 import itacademy.pawalert.application.alert.port.outbound.AlertRepositoryPort;
+import itacademy.pawalert.application.alert.port.outbound.AlertSubscriptionRepositoryPort;
 import itacademy.pawalert.application.alert.port.outbound.CurrentUserProviderPort;
 import itacademy.pawalert.domain.alert.exception.InvalidAlertStatusChange;
 import itacademy.pawalert.domain.alert.exception.PetAlreadyHasActiveAlertException;
@@ -27,15 +30,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,6 +74,15 @@ class AlertServiceTest {
     @Mock
     private AlertSubscriptionUseCase alertSubscriptionUseCase;
 
+    @Mock
+    private AlertLocationIndexPort locationIndex;
+
+    @Mock
+    private AlertOutboxPort outbox;
+
+    @Mock
+    private AlertSubscriptionRepositoryPort subscriptionRepository;
+
     @InjectMocks
     private AlertService alertService;
 
@@ -399,6 +415,21 @@ class AlertServiceTest {
             assertEquals(StatusNames.SEEN, result.currentStatus().getStatusName());
         }
 
+        @Test
+        @DisplayName("Should record the status change in the outbox only after the change is saved")
+        void shouldRecordStatusChangeAfterSaving() {
+            when(alertRepository.findById(alertId)).thenReturn(Optional.of(testAlert));
+
+            alertService.changeStatus(alertId, StatusNames.SEEN, userId, location, null);
+
+            AlertStatusChangedEvent expected = new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN);
+            InOrder order = inOrder(eventRepository, alertRepository, outbox, eventPublisher);
+            order.verify(eventRepository).save(any(AlertEvent.class));
+            order.verify(alertRepository).save(any(Alert.class));
+            order.verify(outbox).append(alertId, expected);
+            order.verify(eventPublisher).publishEvent(expected);
+        }
+
         @Test
         @DisplayName("Should throw exception when alert not found")
         void shouldThrowWhenAlertNotFoundForChangeStatus() {
@@ -488,6 +519,41 @@ class AlertServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("searchNearby Tests")
+    class SearchNearbyTests {
+
+        @Test
+        @DisplayName("Should load only the candidates returned by the location index")
+        void shouldLoadOnlyIndexedCandidates() {
+            // Given
+            when(locationIndex.findAlertIdsWithinRadius(location, 10.0)).thenReturn(Set.of(alertId));
+            when(alertRepository.findAllById(Set.of(alertId))).thenReturn(List.of(testAlert));
+
+            // When
+            List<Alert> result = alertService.searchNearby(location.latitude(), location.longitude(), 10.0);
+
+            // Then
+            assertEquals(List.of(testAlert), result);
+            verify(alertRepository, never()).findAll();
+            verifyNoInteractions(eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should not query alerts when no candidate is nearby")
+        void shouldNotQueryAlertsWhenIndexIsEmpty() {
+            // Given
+            when(locationIndex.findAlertIdsWithinRadius(location, 10.0)).thenReturn(Set.of());
+
+            // When
+            List<Alert> result = alertService.searchNearby(location.latitude(), location.longitude(), 10.0);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(alertRepository, never()).findAllById(any());
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════
     // getPhoneUser in alert Tests
     // ═══════════════════════════════════════════════════════════════════════
@@ -596,4 +662,25 @@ class AlertServiceTest {
         assertNotNull(result);
         assertEquals(StatusNames.OPENED, result.currentStatus().getStatusName());
     }
+
+    @Test
+    @DisplayName("Should drop a deleted alert from the location index only after commit")
+    void shouldRemoveFromLocationIndexAfterCommit() {
+        // Given
+        when(alertRepository.findById(alertId)).thenReturn(Optional.of(testAlert));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            alertService.deleteAlertById(alertId);
+
+            // Then
+            verify(alertRepository).deleteById(alertId);
+            verify(locationIndex, never()).remove(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(locationIndex).remove(alertId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
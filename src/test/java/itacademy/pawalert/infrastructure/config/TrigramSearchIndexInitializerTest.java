@@ -0,0 +1,80 @@
+package itacademy.pawalert.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TrigramSearchIndexInitializer Unit Tests")
+class TrigramSearchIndexInitializerTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    private TrigramSearchIndexInitializer initializer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        initializer = new TrigramSearchIndexInitializer(dataSource, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should not touch the schema on databases other than PostgreSQL")
+    void shouldSkipNonPostgreSql() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+        initializer.run();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should build every index concurrently on PostgreSQL")
+    void shouldCreateIndexesConcurrently() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+
+        initializer.run();
+
+        verify(jdbcTemplate).execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        verify(jdbcTemplate, times(5)).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS "));
+        verify(jdbcTemplate, never()).execute(startsWith("DROP INDEX"));
+    }
+
+    @Test
+    @DisplayName("Should report failed statements and drop the invalid index they leave")
+    void shouldReportFailures() {
+        doThrow(new DataAccessResourceFailureException("permission denied"))
+                .when(jdbcTemplate).execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        doThrow(new DataAccessResourceFailureException("operator class gin_trgm_ops does not exist"))
+                .when(jdbcTemplate).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_alerts_title_trgm"));
+
+        List<String> failed = initializer.createIndexes();
+
+        assertEquals(List.of("CREATE EXTENSION IF NOT EXISTS pg_trgm", "idx_alerts_title_trgm"), failed);
+        verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_alerts_title_trgm");
+        verify(jdbcTemplate, times(5)).execute(startsWith("CREATE INDEX"));
+    }
+
+    @Test
+    @DisplayName("Should report no failures when every statement applies")
+    void shouldReportNoFailures() {
+        assertTrue(initializer.createIndexes().isEmpty());
+        verify(jdbcTemplate, never()).execute(startsWith("DROP INDEX"));
+        verify(jdbcTemplate, times(6)).execute(anyString());
+    }
+}
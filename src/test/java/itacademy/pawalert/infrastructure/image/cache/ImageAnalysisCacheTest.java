@@ -0,0 +1,146 @@
+package itacademy.pawalert.infrastructure.image.cache;
+
+import itacademy.pawalert.domain.image.model.ContentSafetyStatus;
+import itacademy.pawalert.domain.image.model.ImageValidationResult;
+import itacademy.pawalert.infrastructure.persistence.imagecache.ImageAnalysisCacheEntity;
+import itacademy.pawalert.infrastructure.persistence.imagecache.ImageAnalysisCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageAnalysisCache Unit Tests")
+class ImageAnalysisCacheTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private ImageAnalysisCacheRepository repository;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ImageValidationResult result =
+            ImageValidationResult.safe("Image of Dog", List.of("Dog", "Pet"));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        loads.set(0);
+    }
+
+    private ImageValidationResult load() {
+        loads.incrementAndGet();
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should compute once per distinct image content")
+    void shouldComputeOncePerContent() {
+        ImageAnalysisCache cache = new ImageAnalysisCache(repository, jsonMapper, 8, false, Duration.ofDays(30), CLOCK);
+
+        cache.get("photo".getBytes(), ImageValidationResult.class, this::load);
+        ImageValidationResult again = cache.get("photo".getBytes(), ImageValidationResult.class, this::load);
+        cache.get("other photo".getBytes(), ImageValidationResult.class, this::load);
+
+        assertSame(result, again);
+        assertEquals(2, loads.get());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used result when full")
+    void shouldEvictLeastRecentlyUsed() {
+        ImageAnalysisCache cache = new ImageAnalysisCache(repository, jsonMapper, 2, false, Duration.ofDays(30), CLOCK);
+
+        cache.get("a".getBytes(), ImageValidationResult.class, this::load);
+        cache.get("b".getBytes(), ImageValidationResult.class, this::load);
+        cache.get("a".getBytes(), ImageValidationResult.class, this::load);
+        cache.get("c".getBytes(), ImageValidationResult.class, this::load);
+        assertEquals(3, loads.get());
+
+        cache.get("a".getBytes(), ImageValidationResult.class, this::load);
+        assertEquals(3, loads.get());
+        cache.get("b".getBytes(), ImageValidationResult.class, this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should store misses and read fresh results back from the database")
+    void shouldUsePersistentTier() {
+        ImageAnalysisCache cache = new ImageAnalysisCache(repository, jsonMapper, 8, true, Duration.ofDays(30), CLOCK);
+        when(repository.findById(any())).thenReturn(Optional.empty());
+
+        cache.get("photo".getBytes(), ImageValidationResult.class, this::load);
+
+        ArgumentCaptor<ImageAnalysisCacheEntity> saved = ArgumentCaptor.forClass(ImageAnalysisCacheEntity.class);
+        verify(repository).save(saved.capture());
+        String key = "ImageValidationResult:" + ImageAnalysisCache.sha256("photo".getBytes());
+        assertEquals(key, saved.getValue().getCacheKey());
+
+        // A fresh node with an empty memory tier finds the stored row
+        ImageAnalysisCache otherNode = new ImageAnalysisCache(repository, jsonMapper, 8, true, Duration.ofDays(30), CLOCK);
+        when(repository.findById(key)).thenReturn(Optional.of(saved.getValue()));
+
+        ImageValidationResult restored = otherNode.get("photo".getBytes(), ImageValidationResult.class, this::load);
+
+        assertEquals(result, restored);
+        assertEquals(ContentSafetyStatus.SAFE, restored.safetyStatus());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should recompute stored results older than the TTL")
+    void shouldIgnoreExpiredRows() {
+        ImageAnalysisCache cache = new ImageAnalysisCache(repository, jsonMapper, 8, true, Duration.ofDays(30), CLOCK);
+        String key = "ImageValidationResult:" + ImageAnalysisCache.sha256("photo".getBytes());
+        when(repository.findById(key)).thenReturn(Optional.of(new ImageAnalysisCacheEntity(key,
+                "ImageValidationResult", jsonMapper.writeValueAsString(result),
+                LocalDateTime.now(CLOCK).minusDays(31))));
+
+        cache.get("photo".getBytes(), ImageValidationResult.class, this::load);
+
+        assertEquals(1, loads.get());
+        verify(repository).save(any());
+    }
+
+    @Test
+    @DisplayName("Should not cache a failed analysis")
+    void shouldNotCacheFailures() {
+        ImageAnalysisCache cache = new ImageAnalysisCache(repository, jsonMapper, 8, true, Duration.ofDays(30), CLOCK);
+        when(repository.findById(any())).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> cache.get("photo".getBytes(), ImageValidationResult.class, () -> {
+            throw new IllegalStateException("Vision analysis failed");
+        }));
+        verify(repository, never()).save(any());
+
+        assertSame(result, cache.get("photo".getBytes(), ImageValidationResult.class, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should delete stored results older than the TTL")
+    void shouldPurgeExpiredRows() {
+        ImageAnalysisCache cache = new ImageAnalysisCache(repository, jsonMapper, 8, true, Duration.ofDays(30), CLOCK);
+        when(repository.deleteCreatedBefore(LocalDateTime.now(CLOCK).minusDays(30))).thenReturn(3);
+
+        assertEquals(3, cache.purgeExpired());
+    }
+}
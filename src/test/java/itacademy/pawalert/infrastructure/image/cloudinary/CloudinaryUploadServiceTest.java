@@ -0,0 +1,102 @@
+package itacademy.pawalert.infrastructure.image.cloudinary;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import itacademy.pawalert.domain.image.exception.ImageUploadException;
+import itacademy.pawalert.infrastructure.image.preprocessing.PreparedImageFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CloudinaryUploadService Unit Tests")
+class CloudinaryUploadServiceTest {
+
+    private static final String URL = "https://res.cloudinary.com/demo/image/upload/v1712/pets/luna.jpg";
+
+    @Mock
+    private Cloudinary cloudinary;
+
+    @Mock
+    private Uploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        when(cloudinary.uploader()).thenReturn(uploader);
+    }
+
+    @Test
+    @DisplayName("Should send a prepared image straight from its buffer")
+    void shouldUploadPreparedBuffer() throws Exception {
+        CloudinaryUploadService service = new CloudinaryUploadService(cloudinary, 8, 1000, 16);
+        byte[] content = new byte[64];
+        when(uploader.upload(any(), anyMap())).thenReturn(Map.of("secure_url", URL));
+
+        String url = service.upload(new PreparedImageFile("file", "luna.jpg", "image/jpeg", content), "pets");
+
+        assertEquals(URL, url);
+        verify(uploader).upload(same(content), argThat(options -> "pets".equals(options.get("folder"))));
+        verify(uploader, never()).uploadLarge(any(), anyMap(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should stream large uploads in chunks")
+    void shouldStreamLargeUploads() throws Exception {
+        CloudinaryUploadService service = new CloudinaryUploadService(cloudinary, 8, 1000, 16);
+        when(uploader.uploadLarge(any(), anyMap(), anyInt())).thenReturn(Map.of("secure_url", URL));
+
+        String url = service.upload(new MockMultipartFile("file", "luna.jpg", "image/jpeg", new byte[64]), "pets");
+
+        assertEquals(URL, url);
+        verify(uploader).uploadLarge(isA(InputStream.class), anyMap(), eq(16));
+        verify(uploader, never()).upload(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should refuse an upload when every slot stays busy")
+    void shouldLimitConcurrentUploads() throws Exception {
+        CloudinaryUploadService service = new CloudinaryUploadService(cloudinary, 1, 50, 1024);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(uploader.upload(any(), anyMap())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return Map.of("secure_url", URL);
+        });
+        MockMultipartFile file = new MockMultipartFile("file", "luna.jpg", "image/jpeg", new byte[8]);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> service.upload(file, "pets"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ImageUploadException.class, () -> service.upload(file, "pets"));
+
+        release.countDown();
+        assertEquals(URL, first.get(5, TimeUnit.SECONDS));
+        // The slot is free again
+        assertEquals(URL, service.upload(file, "pets"));
+    }
+
+    @Test
+    @DisplayName("Should delete by the public id taken from the image URL")
+    void shouldDeleteByPublicId() throws Exception {
+        CloudinaryUploadService service = new CloudinaryUploadService(cloudinary, 8, 1000, 16);
+
+        service.delete(URL);
+
+        verify(uploader).destroy(eq("pets/luna"), anyMap());
+    }
+}
@@ -0,0 +1,67 @@
+package itacademy.pawalert.infrastructure.image.google;
+
+import com.google.cloud.vision.v1.AnnotateImageResponse;
+import com.google.cloud.vision.v1.BatchAnnotateImagesResponse;
+import com.google.cloud.vision.v1.EntityAnnotation;
+import com.google.cloud.vision.v1.ImageAnnotatorClient;
+import com.google.rpc.Status;
+import itacademy.pawalert.domain.image.exception.ImageProcessingException;
+import itacademy.pawalert.domain.image.model.LabelResult;
+import itacademy.pawalert.domain.image.service.PetColorClassifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoogleVisionImageAnalysisPort Unit Tests")
+class GoogleVisionImageAnalysisPortTest {
+
+    @Mock
+    private ImageAnnotatorClient imageAnnotatorClient;
+
+    private GoogleVisionImageAnalysisPort port;
+    private final byte[] imageBytes = "fake image bytes".getBytes();
+
+    @BeforeEach
+    void setUp() {
+        port = new GoogleVisionImageAnalysisPort(imageAnnotatorClient, new PetColorClassifier());
+    }
+
+    @Test
+    @DisplayName("Should fail instead of reporting no labels when Vision returns an error")
+    void shouldThrowOnErrorResponse() {
+        respondWith(AnnotateImageResponse.newBuilder()
+                .setError(Status.newBuilder().setCode(8).setMessage("Quota exceeded"))
+                .build());
+
+        ImageProcessingException exception = assertThrows(ImageProcessingException.class, () -> port.analyzeAll(imageBytes));
+        assertTrue(exception.getMessage().contains("Quota exceeded"));
+    }
+
+    @Test
+    @DisplayName("Should map the labels of a successful response")
+    void shouldReturnLabels() {
+        respondWith(AnnotateImageResponse.newBuilder()
+                .addLabelAnnotations(EntityAnnotation.newBuilder().setDescription("Dog").setScore(0.95f))
+                .build());
+
+        List<LabelResult> labels = port.detectLabels(imageBytes);
+
+        assertEquals(1, labels.size());
+        assertEquals("Dog", labels.getFirst().label());
+    }
+
+    private void respondWith(AnnotateImageResponse response) {
+        when(imageAnnotatorClient.batchAnnotateImages(anyList()))
+                .thenReturn(BatchAnnotateImagesResponse.newBuilder().addResponses(response).build());
+    }
+}
@@ -22,7 +22,7 @@ class GoogleVisionPetAnalyzerTest {
     private ImageAnalysisPort imageAnalysisPort;
 
     private PetImageAnalyzer petImageAnalyzer;
-    private  ImageTypeClassifier imageTypeClassifier;
+    private final ImageTypeClassifier imageTypeClassifier = new ImageTypeClassifier();
 
     @BeforeEach
     void setUp() {
@@ -40,12 +40,11 @@ class GoogleVisionPetAnalyzerTest {
                 new LabelResult("Pet", 0.85)
         );
 
-        when(imageAnalysisPort.detectLabels(imageBytes)).thenReturn(labels);
-        when(imageAnalysisPort.detectText(imageBytes)).thenReturn("");
-        when(imageAnalysisPort.detectColors(imageBytes))
-                .thenReturn(new ColorResult("Brown", "#A52A2A", 0.8));
-        when(imageAnalysisPort.checkSafety(imageBytes))
-                .thenReturn(new SafetyResult(true, "SAFE"));
+        when(imageAnalysisPort.analyzeAll(imageBytes)).thenReturn(new ImageAnalysisResult(
+                labels,
+                "",
+                new ColorResult("Brown", "#A52A2A", 0.8),
+                new SafetyResult(true, "SAFE")));
 
         // When
         PetAnalysisResult result = petImageAnalyzer.analyze(imageBytes);
@@ -55,10 +54,8 @@ class GoogleVisionPetAnalyzerTest {
         assertEquals("Dog", result.species());
         assertEquals("Golden Retriever", result.breed());
         assertTrue(result.isSafeForWork());
-        verify(imageAnalysisPort).detectLabels(imageBytes);
-        verify(imageAnalysisPort).detectText(imageBytes);
-        verify(imageAnalysisPort).detectColors(imageBytes);
-        verify(imageAnalysisPort).checkSafety(imageBytes);
+        verify(imageAnalysisPort).analyzeAll(imageBytes);
+        verifyNoMoreInteractions(imageAnalysisPort);
     }
 
     @Test
@@ -71,14 +68,18 @@ class GoogleVisionPetAnalyzerTest {
                 new LabelResult("Road", 0.90)
         );
 
-        when(imageAnalysisPort.detectLabels(imageBytes)).thenReturn(labels);
+        when(imageAnalysisPort.analyzeAll(imageBytes)).thenReturn(new ImageAnalysisResult(
+                labels,
+                "",
+                new ColorResult("Gray", "#808080", 0.7),
+                new SafetyResult(true, "SAFE")));
 
         // When
         PetAnalysisResult result = petImageAnalyzer.analyze(imageBytes);
 
         // Then
         assertFalse(result.isValidPet());
-        assertEquals("Desconocido", result.species());
+        assertEquals("Unknown", result.species());
     }
 
     @Test
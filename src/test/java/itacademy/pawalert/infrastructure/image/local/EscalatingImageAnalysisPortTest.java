@@ -0,0 +1,186 @@
+package itacademy.pawalert.infrastructure.image.local;
+
+import itacademy.pawalert.domain.image.model.ColorResult;
+import itacademy.pawalert.domain.image.model.ImageAnalysisResult;
+import itacademy.pawalert.domain.image.model.LabelResult;
+import itacademy.pawalert.domain.image.model.PetAnalysisResult;
+import itacademy.pawalert.domain.image.model.SafetyResult;
+import itacademy.pawalert.domain.image.service.ImageTypeClassifier;
+import itacademy.pawalert.infrastructure.image.google.GoogleVisionImageAnalysisPort;
+import itacademy.pawalert.infrastructure.image.google.GoogleVisionPetAnalyzer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EscalatingImageAnalysisPort Unit Tests")
+class EscalatingImageAnalysisPortTest {
+
+    @Mock
+    private GoogleVisionImageAnalysisPort vision;
+
+    private final HeuristicImageClassifier classifier = new HeuristicImageClassifier();
+
+    @Test
+    @DisplayName("Should reject a drawing offline without calling Vision")
+    void shouldRejectDrawingLocally() throws IOException {
+        EscalatingImageAnalysisPort port = new EscalatingImageAnalysisPort(classifier, vision, true);
+        GoogleVisionPetAnalyzer analyzer = new GoogleVisionPetAnalyzer(port, new ImageTypeClassifier());
+
+        PetAnalysisResult result = analyzer.analyze(jpeg(drawing()));
+
+        assertFalse(result.isValidPet());
+        assertTrue(result.validationMessage().contains("illustration"));
+        verifyNoInteractions(vision);
+    }
+
+    @Test
+    @DisplayName("Should not report a locally answered image as safe")
+    void shouldMarkLocalSafetyAsNotChecked() throws IOException {
+        SafetyResult safety = classifier.classify(jpeg(drawing())).orElseThrow().safety();
+
+        assertFalse(safety.isSafe());
+        assertFalse(safety.isChecked());
+    }
+
+    @Test
+    @DisplayName("Should escalate a low-light photo with crushed blacks instead of calling it an illustration")
+    void shouldEscalateLowLightPhoto() throws IOException {
+        EscalatingImageAnalysisPort port = new EscalatingImageAnalysisPort(classifier, vision, true);
+        byte[] photo = jpeg(lowLightPhoto());
+        ImageAnalysisResult remote = new ImageAnalysisResult(List.of(new LabelResult("Cat", 0.91)), "",
+                new ColorResult("Black", "#101010", 0.8), new SafetyResult(true, "SAFE"));
+        when(vision.analyzeAll(photo)).thenReturn(remote);
+
+        assertTrue(classifier.classify(photo).isEmpty());
+        assertSame(remote, port.analyzeAll(photo));
+    }
+
+    @Test
+    @DisplayName("Should escalate an overexposed photo with blown-out whites instead of calling it an illustration")
+    void shouldEscalateOverexposedPhoto() throws IOException {
+        EscalatingImageAnalysisPort port = new EscalatingImageAnalysisPort(classifier, vision, true);
+        byte[] photo = jpeg(overexposedPhoto());
+        ImageAnalysisResult remote = new ImageAnalysisResult(List.of(new LabelResult("Dog", 0.93)), "",
+                new ColorResult("White", "#F5F5F5", 0.8), new SafetyResult(true, "SAFE"));
+        when(vision.analyzeAll(photo)).thenReturn(remote);
+
+        assertTrue(classifier.classify(photo).isEmpty());
+        assertSame(remote, port.analyzeAll(photo));
+    }
+
+    @Test
+    @DisplayName("Should escalate photos to Vision")
+    void shouldEscalatePhotos() throws IOException {
+        EscalatingImageAnalysisPort port = new EscalatingImageAnalysisPort(classifier, vision, true);
+        byte[] photo = jpeg(photo());
+        ImageAnalysisResult remote = new ImageAnalysisResult(List.of(new LabelResult("Dog", 0.95)), "",
+                new ColorResult("Brown", "#A52A2A", 0.8), new SafetyResult(true, "SAFE"));
+        when(vision.analyzeAll(photo)).thenReturn(remote);
+
+        assertTrue(classifier.classify(photo).isEmpty());
+        assertSame(remote, port.analyzeAll(photo));
+    }
+
+    @Test
+    @DisplayName("Should always call Vision when the local classifier is disabled")
+    void shouldSkipLocalClassifierWhenDisabled() throws IOException {
+        EscalatingImageAnalysisPort port = new EscalatingImageAnalysisPort(classifier, vision, false);
+        byte[] drawing = jpeg(drawing());
+        when(vision.detectLabels(drawing)).thenReturn(List.of(new LabelResult("Cartoon", 0.9)));
+
+        assertEquals("Cartoon", port.detectLabels(drawing).getFirst().label());
+        verify(vision).detectLabels(drawing);
+    }
+
+    // Flat background, a few shapes and some text: what a clip-art or screenshot upload looks like
+    private static BufferedImage drawing() {
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 800, 600);
+        graphics.setColor(new Color(240, 160, 40));
+        graphics.fillOval(250, 150, 300, 300);
+        graphics.setColor(Color.BLACK);
+        graphics.fillOval(330, 240, 40, 40);
+        graphics.fillOval(430, 240, 40, 40);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 36));
+        graphics.drawString("Lost cat!", 320, 520);
+        graphics.dispose();
+        return image;
+    }
+
+    // Smooth gradient with sensor-like noise
+    private static BufferedImage photo() {
+        Random random = new Random(42);
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 600; y++) {
+            for (int x = 0; x < 800; x++) {
+                int r = clamp(120 + x / 10 + (int) (random.nextGaussian() * 12));
+                int g = clamp(90 + y / 8 + (int) (random.nextGaussian() * 12));
+                int b = clamp(60 + (x + y) / 20 + (int) (random.nextGaussian() * 12));
+                image.setRGB(x, y, r << 16 | g << 8 | b);
+            }
+        }
+        return image;
+    }
+
+    // Night shot: most of the frame is clipped to pure black, with a dim noisy corner
+    private static BufferedImage lowLightPhoto() {
+        Random random = new Random(7);
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 600; y++) {
+            for (int x = 0; x < 800; x++) {
+                int base = -60 + x / 12 + y / 16;
+                int r = clamp(base + 8 + (int) (random.nextGaussian() * 5));
+                int g = clamp(base + 4 + (int) (random.nextGaussian() * 5));
+                int b = clamp(base + (int) (random.nextGaussian() * 5));
+                image.setRGB(x, y, r << 16 | g << 8 | b);
+            }
+        }
+        return image;
+    }
+
+    // White dog on snow: the snow is blown out to pure white around a bright, noisy subject
+    private static BufferedImage overexposedPhoto() {
+        Random random = new Random(11);
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 600; y++) {
+            for (int x = 0; x < 800; x++) {
+                double dx = (x - 400) / 220.0;
+                double dy = (y - 330) / 150.0;
+                int base = dx * dx + dy * dy <= 1 ? 190 + x / 20 - y / 15 : 275;
+                int r = clamp(base + (int) (random.nextGaussian() * 8));
+                int g = clamp(base - 2 + (int) (random.nextGaussian() * 8));
+                int b = clamp(base - 6 + (int) (random.nextGaussian() * 8));
+                image.setRGB(x, y, r << 16 | g << 8 | b);
+            }
+        }
+        return image;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package itacademy.pawalert.infrastructure.image.preprocessing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ImageIoPreprocessor Unit Tests")
+class ImageIoPreprocessorTest {
+
+    private final ImageIoPreprocessor preprocessor = new ImageIoPreprocessor(true, 1600, 0.85f);
+
+    @Test
+    @DisplayName("Should downscale a large photo to the max edge and re-encode it as JPEG")
+    void shouldDownscaleLargePhoto() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "luna.png", "image/png", encode(image(4000, 3000), "png"));
+
+        MultipartFile prepared = preprocessor.prepare(file);
+
+        BufferedImage result = decode(prepared.getBytes());
+        assertEquals(1600, result.getWidth());
+        assertEquals(1200, result.getHeight());
+        assertEquals("image/jpeg", prepared.getContentType());
+        assertEquals("luna.jpg", prepared.getOriginalFilename());
+        assertTrue(prepared.getSize() < file.getSize());
+        assertSame(prepared, preprocessor.prepare(prepared));
+    }
+
+    @Test
+    @DisplayName("Should rotate a photo upright from its EXIF orientation")
+    void shouldApplyExifOrientation() throws IOException {
+        // Orientation 6: stored sideways, displayed rotated 90 degrees clockwise
+        byte[] jpeg = withOrientation(encode(image(200, 100), "jpeg"), 6);
+        assertEquals(6, ExifOrientation.read(jpeg));
+
+        MultipartFile prepared = preprocessor.prepare(new MockMultipartFile("file", "luna.jpg", "image/jpeg", jpeg));
+
+        BufferedImage result = decode(prepared.getBytes());
+        assertEquals(100, result.getWidth());
+        assertEquals(200, result.getHeight());
+        // The red top-left corner ends up top-right
+        assertTrue(new Color(result.getRGB(95, 4)).getRed() > 200);
+        assertTrue(new Color(result.getRGB(4, 4)).getRed() < 60);
+    }
+
+    @Test
+    @DisplayName("Should pass small upright JPEGs and undecodable files through unchanged")
+    void shouldPassThroughWhenNothingToDo() throws IOException {
+        byte[] jpeg = encode(image(800, 600), "jpeg");
+        byte[] heic = "not an image ImageIO can read".getBytes();
+
+        MultipartFile small = preprocessor.prepare(new MockMultipartFile("file", "luna.jpg", "image/jpeg", jpeg));
+        MultipartFile unknown = preprocessor.prepare(new MockMultipartFile("file", "luna.heic", "image/heic", heic));
+
+        assertArrayEquals(jpeg, small.getBytes());
+        assertArrayEquals(heic, unknown.getBytes());
+        assertEquals("image/heic", unknown.getContentType());
+    }
+
+    // Blue image with a red square in the top-left corner
+    private static BufferedImage image(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 10, height / 10);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    // Inserts a big-endian APP1 Exif segment holding only the orientation tag right after SOI
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        int length = 2 + 6 + tiff.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
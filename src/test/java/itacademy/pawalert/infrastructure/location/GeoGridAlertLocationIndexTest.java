@@ -0,0 +1,102 @@
+package itacademy.pawalert.infrastructure.location;
+
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.infrastructure.persistence.alert.AlertLatestStateEntity;
+import itacademy.pawalert.infrastructure.persistence.alert.AlertLatestStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GeoGridAlertLocationIndex Unit Tests")
+class GeoGridAlertLocationIndexTest {
+
+    private static final GeographicLocation MADRID = GeographicLocation.of(40.4168, -3.7025);
+    private static final GeographicLocation GETAFE = GeographicLocation.of(40.3057, -3.7329);
+    private static final GeographicLocation BARCELONA = GeographicLocation.of(41.3874, 2.1686);
+
+    @Mock
+    private AlertLatestStateRepository latestStateRepository;
+
+    private GeoGridAlertLocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GeoGridAlertLocationIndex(latestStateRepository, 0.1);
+    }
+
+    @Test
+    @DisplayName("Should return only alerts within the radius")
+    void shouldReturnOnlyAlertsWithinRadius() {
+        UUID madridAlert = UUID.randomUUID();
+        UUID getafeAlert = UUID.randomUUID();
+        UUID barcelonaAlert = UUID.randomUUID();
+        index.index(madridAlert, MADRID);
+        index.index(getafeAlert, GETAFE);
+        index.index(barcelonaAlert, BARCELONA);
+
+        assertEquals(Set.of(madridAlert), index.findAlertIdsWithinRadius(MADRID, 5.0));
+        assertEquals(Set.of(madridAlert, getafeAlert), index.findAlertIdsWithinRadius(MADRID, 20.0));
+        assertEquals(Set.of(madridAlert, getafeAlert, barcelonaAlert), index.findAlertIdsWithinRadius(MADRID, 600.0));
+    }
+
+    @Test
+    @DisplayName("Should move alert when its location changes")
+    void shouldMoveAlertWhenLocationChanges() {
+        UUID alertId = UUID.randomUUID();
+        index.index(alertId, MADRID);
+        index.index(alertId, BARCELONA);
+
+        assertTrue(index.findAlertIdsWithinRadius(MADRID, 10.0).isEmpty());
+        assertEquals(Set.of(alertId), index.findAlertIdsWithinRadius(BARCELONA, 10.0));
+    }
+
+    @Test
+    @DisplayName("Should forget removed alerts")
+    void shouldForgetRemovedAlerts() {
+        UUID alertId = UUID.randomUUID();
+        index.index(alertId, MADRID);
+        index.remove(alertId);
+
+        assertTrue(index.findAlertIdsWithinRadius(MADRID, 10.0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find alerts across the antimeridian")
+    void shouldFindAlertsAcrossAntimeridian() {
+        UUID alertId = UUID.randomUUID();
+        index.index(alertId, GeographicLocation.of(-17.0, 179.95));
+
+        assertEquals(Set.of(alertId), index.findAlertIdsWithinRadius(GeographicLocation.of(-17.0, -179.95), 20.0));
+    }
+
+    @Test
+    @DisplayName("Should replace the grid with the projection when rebuilding")
+    void shouldReconcileWithProjectionOnRebuild() {
+        UUID staleAlert = UUID.randomUUID();
+        UUID remoteAlert = UUID.randomUUID();
+        index.index(staleAlert, MADRID);
+        AlertLatestStateEntity remoteState = mock(AlertLatestStateEntity.class);
+        when(remoteState.getAlertId()).thenReturn(remoteAlert.toString());
+        when(remoteState.getLastLatitude()).thenReturn(BARCELONA.latitude());
+        when(remoteState.getLastLongitude()).thenReturn(BARCELONA.longitude());
+        when(latestStateRepository.findLocatedOfActiveAlerts()).thenReturn(List.of(remoteState));
+
+        index.rebuild();
+
+        assertTrue(index.findLocation(staleAlert).isEmpty());
+        assertTrue(index.findAlertIdsWithinRadius(MADRID, 10.0).isEmpty());
+        assertEquals(Set.of(remoteAlert), index.findAlertIdsWithinRadius(BARCELONA, 10.0));
+    }
+}
@@ -0,0 +1,168 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.infrastructure.notificationqueues.email.EmailNotificationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.AmqpNackReceivedException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchingRabbitPublisher Unit Tests")
+class BatchingRabbitPublisherTest {
+
+    private static final String QUEUE = "test-queue";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    private BatchingRabbitPublisher<EmailNotificationEvent> publisher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+        // Long delay so only explicit flushes run during the test
+        publisher = new BatchingRabbitPublisher<>(QUEUE, rabbitTemplate, 3,
+                Duration.ofMinutes(10), Duration.ofSeconds(1), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+    }
+
+    @Test
+    @DisplayName("Flush should send buffered events in batches of the configured size")
+    void flushShouldSendInBatches() {
+        events(7).forEach(publisher::submit);
+        publisher.flush();
+
+        verify(rabbitTemplate, atLeast(3)).invoke(any());
+        verify(operations, times(7)).convertAndSend(eq(QUEUE), any(Object.class));
+        PublisherStats stats = publisher.stats();
+        assertEquals(7, stats.published());
+        assertEquals(0, stats.buffered());
+        assertTrue(stats.batches() >= 3);
+    }
+
+    @Test
+    @DisplayName("Failed batch should be held back and retried after a backoff")
+    void failedBatchShouldBeRetried() {
+        doThrow(new AmqpIOException(new IOException("broker down")))
+                .doNothing()
+                .when(operations).convertAndSend(eq(QUEUE), any(Object.class));
+
+        publisher.submitAll(events(2));
+        publisher.flush();
+        assertEquals(2, publisher.stats().failed());
+        assertEquals(2, publisher.stats().awaitingRetry());
+        assertEquals(0, publisher.stats().buffered());
+
+        // Still backing off: no new attempt yet
+        publisher.flush();
+        verify(operations, times(1)).convertAndSend(eq(QUEUE), any(Object.class));
+
+        // Shutdown ignores the backoff and retries the held batch
+        publisher.close();
+        assertEquals(2, publisher.stats().published());
+        assertEquals(0, publisher.stats().awaitingRetry());
+    }
+
+    @Test
+    @DisplayName("Confirmed publish should wait for the broker to confirm each batch")
+    void publishConfirmedShouldWaitForConfirms() {
+        BatchingRabbitPublisher<EmailNotificationEvent> confirming = confirmingPublisher();
+        try {
+            confirming.publishConfirmed(events(4));
+
+            verify(operations, times(4)).convertAndSend(eq(QUEUE), any(Object.class));
+            verify(operations, times(2)).waitForConfirmsOrDie(1000);
+            assertEquals(4, confirming.stats().published());
+            assertEquals(0, confirming.stats().buffered());
+        } finally {
+            confirming.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Confirmed publish should fail when the broker nacks, leaving nothing buffered")
+    void publishConfirmedShouldThrowOnNack() {
+        BatchingRabbitPublisher<EmailNotificationEvent> confirming = confirmingPublisher();
+        doThrow(new AmqpNackReceivedException("nacked", mock(Message.class)))
+                .when(operations).waitForConfirmsOrDie(anyLong());
+        try {
+            assertThrows(AmqpException.class, () -> confirming.publishConfirmed(events(2)));
+
+            PublisherStats stats = confirming.stats();
+            assertEquals(0, stats.published());
+            assertEquals(2, stats.failed());
+            assertEquals(0, stats.buffered());
+            assertEquals(0, stats.awaitingRetry());
+        } finally {
+            confirming.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Submit should surface the failure when the buffer is full and the direct send fails")
+    void submitShouldNotDropWhenBufferIsFull() {
+        doThrow(new AmqpIOException(new IOException("broker down")))
+                .when(operations).convertAndSend(eq(QUEUE), any(Object.class));
+
+        int rejected = 0;
+        for (EmailNotificationEvent event : events(20)) {
+            try {
+                publisher.submit(event);
+            } catch (AmqpException e) {
+                rejected++;
+            }
+        }
+        // Waits for any flush in progress; later ones are still backing off
+        publisher.flush();
+
+        PublisherStats stats = publisher.stats();
+        assertTrue(rejected > 0);
+        assertEquals(20, rejected + stats.buffered() + stats.awaitingRetry());
+    }
+
+    private BatchingRabbitPublisher<EmailNotificationEvent> confirmingPublisher() {
+        CachingConnectionFactory connectionFactory = mock(CachingConnectionFactory.class);
+        when(connectionFactory.isSimplePublisherConfirms()).thenReturn(true);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        return new BatchingRabbitPublisher<>(QUEUE, rabbitTemplate, 2,
+                Duration.ofMinutes(10), Duration.ofSeconds(1), 10);
+    }
+
+    private List<EmailNotificationEvent> events(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> EmailNotificationEvent.create(UUID.randomUUID(), UUID.randomUUID(), StatusNames.SEEN,
+                        "user" + i + "@example.com", "subject", "body"))
+                .toList();
+    }
+}
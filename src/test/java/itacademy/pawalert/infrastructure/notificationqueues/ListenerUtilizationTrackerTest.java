@@ -0,0 +1,55 @@
+package itacademy.pawalert.infrastructure.notificationqueues;
+
+import itacademy.pawalert.domain.alert.model.NotificationChannel;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListenerUtilizationTracker Unit Tests")
+class ListenerUtilizationTrackerTest {
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private final ListenerUtilizationTracker tracker =
+            new ListenerUtilizationTracker(NotificationChannel.EMAIL, "email-notifications", 2);
+
+    @Test
+    @DisplayName("Should count processed and failed deliveries")
+    void shouldCountProcessedAndFailedDeliveries() throws Throwable {
+        when(invocation.proceed())
+                .thenReturn(null)
+                .thenThrow(new IllegalStateException("smtp down"));
+
+        tracker.invoke(invocation);
+        assertThrows(IllegalStateException.class, () -> tracker.invoke(invocation));
+
+        assertEquals(1, tracker.processed());
+        assertEquals(1, tracker.failed());
+        assertEquals(0, tracker.inFlight());
+    }
+
+    @Test
+    @DisplayName("Utilization should reflect busy time over consumer capacity and reset per reading")
+    void utilizationShouldReflectBusyTime() throws Throwable {
+        when(invocation.proceed()).thenAnswer(call -> {
+            Thread.sleep(50);
+            return null;
+        });
+        tracker.utilizationSinceLastReading();
+
+        tracker.invoke(invocation);
+        double utilization = tracker.utilizationSinceLastReading();
+
+        // One of two consumers busy for nearly the whole window
+        assertTrue(utilization > 0.3 && utilization <= 0.5, "utilization was " + utilization);
+        assertTrue(tracker.utilizationSinceLastReading() < 0.1);
+    }
+}
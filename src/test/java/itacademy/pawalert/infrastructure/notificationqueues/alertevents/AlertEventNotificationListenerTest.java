@@ -0,0 +1,57 @@
+package itacademy.pawalert.infrastructure.notificationqueues.alertevents;
+
+import itacademy.pawalert.application.exception.AlertNotFoundException;
+import itacademy.pawalert.application.notification.service.SubscriptionNotificationService;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.rabbit.core.AmqpNackReceivedException;
+import org.springframework.amqp.core.Message;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertEventNotificationListener Unit Tests")
+class AlertEventNotificationListenerTest {
+
+    @Mock
+    private SubscriptionNotificationService subscriptionNotificationService;
+
+    private AlertEventNotificationListener listener;
+    private final UUID alertId = UUID.randomUUID();
+    private final AlertEventMessage message = new AlertEventMessage(UUID.randomUUID(),
+            AlertEventMessage.ALERT_STATUS_CHANGED, alertId, null, StatusNames.OPENED, StatusNames.SEEN, LocalDateTime.now());
+
+    @BeforeEach
+    void setUp() {
+        listener = new AlertEventNotificationListener(subscriptionNotificationService, 0);
+    }
+
+    @Test
+    @DisplayName("Should requeue the event when the broker does not confirm the notifications")
+    void shouldRequeueOnBrokerFailure() {
+        doThrow(new AmqpNackReceivedException("nacked", mock(Message.class)))
+                .when(subscriptionNotificationService).notifySubscribers(alertId, StatusNames.OPENED, StatusNames.SEEN);
+
+        assertThrows(ImmediateRequeueAmqpException.class, () -> listener.handleAlertEvent(message));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an event whose alert no longer exists")
+    void shouldDeadLetterPermanentFailure() {
+        doThrow(new AlertNotFoundException("Alert not found: " + alertId))
+                .when(subscriptionNotificationService).notifySubscribers(alertId, StatusNames.OPENED, StatusNames.SEEN);
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> listener.handleAlertEvent(message));
+    }
+}
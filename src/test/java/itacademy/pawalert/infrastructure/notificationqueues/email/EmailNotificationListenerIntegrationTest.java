@@ -1,11 +1,14 @@
 package itacademy.pawalert.infrastructure.notificationqueues.email;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import itacademy.pawalert.application.notification.model.EmailDeliveryFailure;
+import itacademy.pawalert.application.notification.model.OutgoingEmail;
 import itacademy.pawalert.application.notification.port.outbound.EmailServicePort;
 import itacademy.pawalert.domain.alert.model.StatusNames;
 import itacademy.pawalert.infrastructure.notificationqueues.AbstractRabbitMQIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -17,14 +20,13 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.when;
 
 /**
  * Integration tests for {@link EmailNotificationListener}.
@@ -68,45 +70,35 @@ class EmailNotificationListenerIntegrationTest extends AbstractRabbitMQIntegrati
     @Test
     void shouldProcessMessageSuccessfully() {
         // Given
-        doNothing().when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenReturn(List.of());
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
 
         // Then
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            verify(emailService).sendToUser(
-                    eq(testEvent.email()),
-                    eq(testEvent.subject()),
-                    eq(testEvent.body())
-            );
+            verify(emailService).sendAll(argThat(emails -> emails.contains(outgoing(testEvent))));
         });
     }
 
     @Test
     void shouldRetryOnException() {
         // Given - Email listener retries ALL exceptions
-        doThrow(new RuntimeException("SMTP connection failed"))
-                .when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenThrow(new RuntimeException("SMTP connection failed"));
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
 
         // Then - verify multiple retry attempts
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(emailService, atLeast(1)).sendToUser(
-                    eq(testEvent.email()),
-                    eq(testEvent.subject()),
-                    eq(testEvent.body())
-            );
+            verify(emailService, atLeast(1)).sendAll(argThat(emails -> emails.contains(outgoing(testEvent))));
         });
     }
 
     @Test
     void shouldSendToDLQAfterMaxRetries() {
         // Given
-        doThrow(new RuntimeException("Permanent SMTP failure"))
-                .when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenThrow(new RuntimeException("Permanent SMTP failure"));
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
@@ -122,8 +114,7 @@ class EmailNotificationListenerIntegrationTest extends AbstractRabbitMQIntegrati
     @Test
     void shouldPersistFailedNotification() {
         // Given
-        doThrow(new RuntimeException("Email sending failed"))
-                .when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenThrow(new RuntimeException("Email sending failed"));
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
@@ -155,18 +146,14 @@ class EmailNotificationListenerIntegrationTest extends AbstractRabbitMQIntegrati
     @Test
     void shouldNotPersistFailedNotificationOnSuccessfulProcessing() {
         // Given
-        doNothing().when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenReturn(List.of());
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
 
         // Then
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            verify(emailService).sendToUser(
-                    eq(testEvent.email()),
-                    eq(testEvent.subject()),
-                    eq(testEvent.body())
-            );
+            verify(emailService).sendAll(argThat(emails -> emails.contains(outgoing(testEvent))));
             
             // Wait a bit more to ensure no async persistence happens
             Thread.sleep(500);
@@ -182,7 +169,7 @@ class EmailNotificationListenerIntegrationTest extends AbstractRabbitMQIntegrati
         EmailNotificationEvent event1 = createTestEvent();
         EmailNotificationEvent event2 = createTestEvent();
         EmailNotificationEvent event3 = createTestEvent();
-        doNothing().when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenReturn(List.of());
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, event1);
@@ -191,67 +178,101 @@ class EmailNotificationListenerIntegrationTest extends AbstractRabbitMQIntegrati
 
         // Then
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(emailService, times(3)).sendToUser(anyString(), anyString(), anyString());
+            // Messages may arrive in one consumer batch or several
+            ArgumentCaptor<List<OutgoingEmail>> batches = ArgumentCaptor.captor();
+            verify(emailService, atLeast(1)).sendAll(batches.capture());
+            assertThat(batches.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(3);
         });
     }
 
     @Test
     void shouldRetryOnSmtpTimeout() {
         // Given - SMTP timeout scenario
-        doThrow(new RuntimeException("SMTP timeout"))
-                .when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenThrow(new RuntimeException("SMTP timeout"));
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
 
         // Then - verify multiple retry attempts
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(emailService, atLeast(1)).sendToUser(
-                    eq(testEvent.email()),
-                    eq(testEvent.subject()),
-                    eq(testEvent.body())
-            );
+            verify(emailService, atLeast(1)).sendAll(argThat(emails -> emails.contains(outgoing(testEvent))));
         });
     }
 
     @Test
     void shouldRetryOnInvalidEmailAddress() {
         // Given - Invalid email address scenario (Email listener retries ALL exceptions)
-        doThrow(new RuntimeException("Invalid email address format"))
-                .when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenThrow(new RuntimeException("Invalid email address format"));
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
 
         // Then - verify retry attempts (Email retries all exceptions)
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(emailService, atLeast(1)).sendToUser(
-                    eq(testEvent.email()),
-                    eq(testEvent.subject()),
-                    eq(testEvent.body())
-            );
+            verify(emailService, atLeast(1)).sendAll(argThat(emails -> emails.contains(outgoing(testEvent))));
         });
     }
 
     @Test
     void shouldRetryOnAuthenticationFailure() {
         // Given - SMTP authentication failure
-        doThrow(new RuntimeException("SMTP authentication failed"))
-                .when(emailService).sendToUser(anyString(), anyString(), anyString());
+        when(emailService.sendAll(anyList())).thenThrow(new RuntimeException("SMTP authentication failed"));
 
         // When
         rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
 
         // Then - verify retry attempts
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(emailService, atLeast(1)).sendToUser(
-                    eq(testEvent.email()),
-                    eq(testEvent.subject()),
-                    eq(testEvent.body())
-            );
+            verify(emailService, atLeast(1)).sendAll(argThat(emails -> emails.contains(outgoing(testEvent))));
         });
     }
 
+    @Test
+    void shouldRequeueOnlyTheRecipientThatFailed() {
+        // Given - the SMTP server rejects the second recipient of the batch with a temporary error
+        EmailNotificationEvent delivered = createTestEvent();
+        when(emailService.sendAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<OutgoingEmail> emails = invocation.getArgument(0);
+                    int index = emails.indexOf(outgoing(testEvent));
+                    return index < 0 ? List.of()
+                            : List.of(new EmailDeliveryFailure(index, testEvent.email(), "451 try again later", true));
+                })
+                .thenReturn(List.of());
+
+        // When
+        rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, delivered);
+        rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
+
+        // Then - the failed recipient is sent again and nothing is persisted as failed
+        await().atMost(10, SECONDS).untilAsserted(() -> {
+            verify(emailService, atLeast(2)).sendAll(argThat(emails -> emails.contains(outgoing(testEvent))));
+            assertThat(failedNotificationRepository.findAll()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldPersistPermanentRecipientFailureWithoutRetry() {
+        // Given - the SMTP server rejects the address itself
+        when(emailService.sendAll(anyList()))
+                .thenReturn(List.of(new EmailDeliveryFailure(0, testEvent.email(), "550 no such user", false)));
+
+        // When
+        rabbitTemplate.convertAndSend(EmailQueueConfig.EMAIL_QUEUE, testEvent);
+
+        // Then
+        await().atMost(10, SECONDS).untilAsserted(() -> {
+            List<EmailNotificationEvent> failedEvents = failedNotificationRepository.findAll();
+            assertThat(failedEvents).hasSize(1);
+            assertThat(failedEvents.get(0).eventId()).isEqualTo(testEvent.eventId());
+        });
+        verify(emailService, times(1)).sendAll(anyList());
+    }
+
+    private OutgoingEmail outgoing(EmailNotificationEvent event) {
+        return new OutgoingEmail(event.email(), event.subject(), event.body());
+    }
+
     // Helper method to create test events
     private EmailNotificationEvent createTestEvent() {
         return new EmailNotificationEvent(
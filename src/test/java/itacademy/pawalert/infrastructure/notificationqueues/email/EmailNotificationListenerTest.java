@@ -0,0 +1,71 @@
+package itacademy.pawalert.infrastructure.notificationqueues.email;
+
+import itacademy.pawalert.application.notification.model.EmailDeliveryFailure;
+import itacademy.pawalert.application.notification.port.outbound.EmailServicePort;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailNotificationListener Unit Tests")
+class EmailNotificationListenerTest {
+
+    @Mock
+    private EmailServicePort emailService;
+
+    @Mock
+    private EmailFailedNotificationRepository failedRepository;
+
+    @Mock
+    private EmailNotificationPublisher publisher;
+
+    @InjectMocks
+    private EmailNotificationListener listener;
+
+    @Test
+    @DisplayName("Should acknowledge a partly delivered batch even when the failed recipient cannot be requeued")
+    void shouldNotFailBatchWhenRepublishFails() {
+        EmailNotificationEvent delivered = event("ana@example.com");
+        EmailNotificationEvent rejected = event("bob@example.com");
+        when(emailService.sendAll(anyList()))
+                .thenReturn(List.of(new EmailDeliveryFailure(1, rejected.email(), "451 try again later", true)));
+        doThrow(new AmqpIOException(new IOException("broker down"))).when(publisher).republish(any());
+
+        assertDoesNotThrow(() -> listener.handleEmailNotifications(List.of(delivered, rejected)));
+
+        verify(failedRepository).save(rejected);
+        verify(failedRepository, never()).save(delivered);
+    }
+
+    @Test
+    @DisplayName("Should requeue only the recipient that failed")
+    void shouldRequeueFailedRecipient() {
+        EmailNotificationEvent delivered = event("ana@example.com");
+        EmailNotificationEvent rejected = event("bob@example.com");
+        when(emailService.sendAll(anyList()))
+                .thenReturn(List.of(new EmailDeliveryFailure(1, rejected.email(), "451 try again later", true)));
+
+        listener.handleEmailNotifications(List.of(delivered, rejected));
+
+        verify(publisher).republish(argThat(event -> event.eventId().equals(rejected.eventId()) && event.retryCount() == 1));
+        verifyNoInteractions(failedRepository);
+    }
+
+    private static EmailNotificationEvent event(String email) {
+        return EmailNotificationEvent.create(UUID.randomUUID(), UUID.randomUUID(), StatusNames.SEEN, email, "subject", "body");
+    }
+}
@@ -0,0 +1,75 @@
+package itacademy.pawalert.infrastructure.notificationqueues.sse;
+
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.infrastructure.notificationqueues.NotificationMessagingConfig;
+import itacademy.pawalert.infrastructure.notificationsenders.sse.SseNotificationService;
+import itacademy.pawalert.infrastructure.notificationsenders.sse.SseTopic;
+import itacademy.pawalert.infrastructure.rest.notification.dto.NotificationMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SseFanoutListener Unit Tests")
+class SseFanoutListenerTest {
+
+    private SseNotificationService sseNotificationService;
+    private SseFanoutListener listener;
+
+    @BeforeEach
+    void setUp() {
+        sseNotificationService = mock(SseNotificationService.class);
+        when(sseNotificationService.getNodeId()).thenReturn("node-a");
+        listener = new SseFanoutListener(sseNotificationService);
+    }
+
+    @Test
+    @DisplayName("Should deliver a notification from another node to local clients")
+    void shouldDeliverNotificationFromOtherNode() {
+        NotificationMessage notification = NotificationMessage.newAlert(UUID.randomUUID(), "Luna");
+        Set<SseTopic> topics = Set.of(SseTopic.alert(notification.alertId()));
+
+        listener.handleNotification(new SseFanoutEvent("node-b", notification, topics));
+
+        verify(sseNotificationService).deliverLocally(notification, topics);
+    }
+
+    @Test
+    @DisplayName("Should skip a notification this node published itself")
+    void shouldSkipOwnNotification() {
+        NotificationMessage notification = NotificationMessage.newAlert(UUID.randomUUID(), "Luna");
+
+        listener.handleNotification(new SseFanoutEvent("node-a", notification, Set.of()));
+
+        verify(sseNotificationService, never()).deliverLocally(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should survive the round trip through the notification message converter")
+    void shouldRoundTripThroughMessageConverter() {
+        MessageConverter converter = new NotificationMessagingConfig().notificationMessageConverter(JsonMapper.builder().build());
+        NotificationMessage notification = NotificationMessage.statusChange(UUID.randomUUID(), "Luna", "OPENED", "SEEN");
+        SseFanoutEvent event = new SseFanoutEvent("node-b", notification, Set.of(
+                SseTopic.alert(notification.alertId()),
+                SseTopic.user(UUID.randomUUID()),
+                SseTopic.area(GeographicLocation.of(41.3874, 2.1686))));
+
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        Message message = converter.toMessage(event, properties);
+        // Set by the listener container from the handler's parameter type
+        message.getMessageProperties().setInferredArgumentType(SseFanoutEvent.class);
+
+        assertEquals(event, converter.fromMessage(message));
+    }
+}
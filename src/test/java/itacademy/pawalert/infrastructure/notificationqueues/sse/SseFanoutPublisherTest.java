@@ -0,0 +1,69 @@
+package itacademy.pawalert.infrastructure.notificationqueues.sse;
+
+import itacademy.pawalert.infrastructure.notificationsenders.sse.SseTopic;
+import itacademy.pawalert.infrastructure.rest.notification.dto.NotificationMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SseFanoutPublisher Unit Tests")
+class SseFanoutPublisherTest {
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+
+    @Test
+    @DisplayName("Should return before the event reaches the broker")
+    void shouldSendOffTheCallingThread() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        SseFanoutPublisher publisher = new SseFanoutPublisher(rabbitTemplate, tasks::add);
+        SseFanoutEvent event = event();
+
+        publisher.publish(event);
+        verifyNoInteractions(rabbitTemplate);
+
+        tasks.poll().run();
+        verify(rabbitTemplate).convertAndSend(SseFanoutConfig.SSE_FANOUT_EXCHANGE, "", event);
+    }
+
+    @Test
+    @DisplayName("Should drop the event when the send queue is full")
+    void shouldDropWhenQueueIsFull() {
+        SseFanoutPublisher publisher = new SseFanoutPublisher(rabbitTemplate, task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        assertDoesNotThrow(() -> publisher.publish(event()));
+        assertEquals(1, publisher.dropped());
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("Should swallow and count broker failures on the sender")
+    void shouldSwallowBrokerFailures() {
+        SseFanoutPublisher publisher = new SseFanoutPublisher(rabbitTemplate, Runnable::run);
+        doThrow(new AmqpIOException(new IOException("broker down")))
+                .when(rabbitTemplate).convertAndSend(eq(SseFanoutConfig.SSE_FANOUT_EXCHANGE), anyString(), any(Object.class));
+
+        assertDoesNotThrow(() -> publisher.publish(event()));
+        assertEquals(1, publisher.dropped());
+    }
+
+    private static SseFanoutEvent event() {
+        NotificationMessage notification = NotificationMessage.newAlert(UUID.randomUUID(), "Luna");
+        return new SseFanoutEvent("node-a", notification, Set.of(SseTopic.alert(notification.alertId())));
+    }
+}
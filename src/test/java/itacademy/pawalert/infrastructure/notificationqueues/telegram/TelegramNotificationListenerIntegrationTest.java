@@ -15,6 +15,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -65,14 +66,14 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
     @Test
     void shouldProcessMessageSuccessfully() {
         // Given
-        doNothing().when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
 
         // Then
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            verify(telegramService).sendToUser(eq(testEvent.chatId()), eq(testEvent.message()));
+            verify(telegramService).sendToUserAsync(eq(testEvent.chatId()), eq(testEvent.message()));
         });
     }
 
@@ -90,14 +91,15 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
                 LocalDateTime.now(),
                 0
         );
-        doNothing().when(telegramService).sendPhotoWithCaption(anyString(), anyString(), anyString());
+        when(telegramService.sendPhotoWithCaptionAsync(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, eventWithPhoto);
 
         // Then
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            verify(telegramService).sendPhotoWithCaption(
+            verify(telegramService).sendPhotoWithCaptionAsync(
                     eq(eventWithPhoto.chatId()),
                     eq(eventWithPhoto.photoUrl()),
                     eq(eventWithPhoto.message())
@@ -108,38 +110,38 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
     @Test
     void shouldRetryOnNetworkError() {
         // Given
-        doThrow(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.NETWORK_ERROR))
-                .when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.NETWORK_ERROR)));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
 
         // Then - verify multiple retry attempts
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(telegramService, atLeast(1)).sendToUser(eq(testEvent.chatId()), eq(testEvent.message()));
+            verify(telegramService, atLeast(1)).sendToUserAsync(eq(testEvent.chatId()), eq(testEvent.message()));
         });
     }
 
     @Test
     void shouldNotRetryOnPermanentError() {
         // Given
-        doThrow(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.CHAT_NOT_FOUND))
-                .when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.CHAT_NOT_FOUND)));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
 
         // Then - verify only one attempt (no retries)
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            verify(telegramService, times(1)).sendToUser(eq(testEvent.chatId()), eq(testEvent.message()));
+            verify(telegramService, times(1)).sendToUserAsync(eq(testEvent.chatId()), eq(testEvent.message()));
         });
     }
 
     @Test
     void shouldPersistFailedNotificationOnPermanentError() {
         // Given
-        doThrow(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.CHAT_NOT_FOUND))
-                .when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.CHAT_NOT_FOUND)));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
@@ -155,8 +157,8 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
     @Test
     void shouldPersistFailedNotificationOnBotBlocked() {
         // Given
-        doThrow(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.BOT_BLOCKED))
-                .when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.BOT_BLOCKED)));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
@@ -172,8 +174,8 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
     @Test
     void shouldPersistFailedNotificationOnInvalidChatId() {
         // Given
-        doThrow(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.INVALID_CHAT_ID))
-                .when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.INVALID_CHAT_ID)));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
@@ -202,14 +204,14 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
     @Test
     void shouldNotPersistFailedNotificationOnSuccessfulProcessing() {
         // Given
-        doNothing().when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
 
         // Then
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            verify(telegramService).sendToUser(eq(testEvent.chatId()), eq(testEvent.message()));
+            verify(telegramService).sendToUserAsync(eq(testEvent.chatId()), eq(testEvent.message()));
             
             // Wait a bit more to ensure no async persistence happens
             Thread.sleep(500);
@@ -225,7 +227,7 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
         TelegramNotificationEvent event1 = createTestEvent();
         TelegramNotificationEvent event2 = createTestEvent();
         TelegramNotificationEvent event3 = createTestEvent();
-        doNothing().when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, event1);
@@ -234,22 +236,22 @@ class TelegramNotificationListenerIntegrationTest extends AbstractRabbitMQIntegr
 
         // Then
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(telegramService, times(3)).sendToUser(anyString(), anyString());
+            verify(telegramService, times(3)).sendToUserAsync(anyString(), anyString());
         });
     }
 
     @Test
     void shouldRetryOnUnknownError() {
         // Given
-        doThrow(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.UNKNOWN))
-                .when(telegramService).sendToUser(anyString(), anyString());
+        when(telegramService.sendToUserAsync(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new TelegramNotificationException(testEvent.chatId(), NotificationFailureReason.UNKNOWN)));
 
         // When
         rabbitTemplate.convertAndSend(TelegramQueueConfig.TELEGRAM_QUEUE, testEvent);
 
         // Then - verify multiple retry attempts for UNKNOWN error
         await().atMost(10, SECONDS).untilAsserted(() -> {
-            verify(telegramService, atLeast(1)).sendToUser(eq(testEvent.chatId()), eq(testEvent.message()));
+            verify(telegramService, atLeast(1)).sendToUserAsync(eq(testEvent.chatId()), eq(testEvent.message()));
         });
     }
 
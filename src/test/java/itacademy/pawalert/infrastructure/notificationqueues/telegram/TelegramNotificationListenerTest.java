@@ -0,0 +1,115 @@
+package itacademy.pawalert.infrastructure.notificationqueues.telegram;
+
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.domain.notification.exception.TelegramNotificationException;
+import itacademy.pawalert.domain.notification.model.NotificationFailureReason;
+import itacademy.pawalert.infrastructure.notificationsenders.telegram.TelegramNotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TelegramNotificationListener Unit Tests")
+class TelegramNotificationListenerTest {
+
+    @Mock
+    private TelegramNotificationService telegramService;
+
+    @Mock
+    private TelegramFailedNotificationRepository failedRepository;
+
+    @Mock
+    private TelegramNotificationPublisher publisher;
+
+    @InjectMocks
+    private TelegramNotificationListener listener;
+
+    @Test
+    @DisplayName("Should complete the future once the async send succeeds")
+    void shouldCompleteWhenSendSucceeds() {
+        CompletableFuture<Void> send = new CompletableFuture<>();
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenReturn(send);
+
+        CompletableFuture<Void> result = listener.handleNotification(event(0));
+
+        // The listener returns before Telegram answers; the container acks when the future completes
+        assertThat(result).isNotDone();
+        send.complete(null);
+        assertThat(result).isCompleted();
+        verifyNoInteractions(failedRepository, publisher);
+    }
+
+    @Test
+    @DisplayName("Should store a permanent failure and complete so the message is acknowledged")
+    void shouldStorePermanentFailure() {
+        TelegramNotificationEvent event = event(0);
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenReturn(
+                CompletableFuture.failedFuture(new TelegramNotificationException(event.chatId(), NotificationFailureReason.BOT_BLOCKED)));
+
+        assertThat(listener.handleNotification(event)).isCompleted();
+
+        verify(failedRepository).save(event);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Should republish a transient failure with a delay")
+    void shouldRepublishTransientFailure() {
+        TelegramNotificationEvent event = event(1);
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenReturn(
+                CompletableFuture.failedFuture(new TelegramNotificationException(event.chatId(), NotificationFailureReason.NETWORK_ERROR)));
+
+        assertThat(listener.handleNotification(event)).isCompleted();
+
+        verify(publisher).publishDelayed(argThat(republished -> republished.retryCount() == 2), eq(Duration.ofSeconds(4)));
+        verifyNoInteractions(failedRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject without requeue once transient retries are exhausted")
+    void shouldRejectAfterMaxRetries() {
+        TelegramNotificationEvent event = event(3);
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenReturn(
+                CompletableFuture.failedFuture(new TelegramNotificationException(event.chatId(), NotificationFailureReason.UNKNOWN)));
+
+        CompletableFuture<Void> result = listener.handleNotification(event);
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AmqpRejectAndDontRequeueException.class);
+        verify(publisher, never()).publishDelayed(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should settle a synchronous send failure through the future")
+    void shouldSettleSynchronousFailure() {
+        when(telegramService.sendToUserAsync(anyString(), anyString())).thenThrow(new IllegalStateException("executor closed"));
+
+        CompletableFuture<Void> result = listener.handleNotification(event(0));
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AmqpRejectAndDontRequeueException.class);
+    }
+
+    private static TelegramNotificationEvent event(int retryCount) {
+        return new TelegramNotificationEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), StatusNames.SEEN,
+                "123456789", "Luna was seen", null, LocalDateTime.now(), retryCount);
+    }
+}
@@ -1,15 +1,29 @@
 package itacademy.pawalert.infrastructure.notificationsenders.email;
 
+import itacademy.pawalert.application.notification.model.EmailDeliveryFailure;
+import itacademy.pawalert.application.notification.model.OutgoingEmail;
+import jakarta.mail.Address;
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -24,6 +38,9 @@ class EmailServiceImplTest {
     @Mock
     private SpringTemplateEngine templateEngine;
 
+    @Spy
+    private EmailDeliveryMetrics deliveryMetrics = new EmailDeliveryMetrics();
+
     @InjectMocks
     private EmailServiceImpl emailService;
 
@@ -63,4 +80,103 @@ class EmailServiceImplTest {
         // Assert
         verify(mailSender, times(1)).send(mimeMessage);
     }
+
+    @Test
+    void sendAll_should_send_every_message_in_one_call() {
+        // Arrange
+        List<MimeMessage> created = stubMessageCreation();
+        List<MimeMessage[]> sendCalls = new ArrayList<>();
+        doAnswer(invocation -> sendCalls.add((MimeMessage[]) invocation.getRawArguments()[0]))
+                .when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        List<EmailDeliveryFailure> failures = emailService.sendAll(emails(3));
+
+        // Assert
+        assertTrue(failures.isEmpty());
+        assertEquals(1, sendCalls.size());
+        assertEquals(created, Arrays.asList(sendCalls.get(0)));
+        assertEquals(3, deliveryMetrics.stats().sent());
+        assertEquals(1, deliveryMetrics.stats().batches());
+    }
+
+    @Test
+    void sendAll_should_report_only_the_recipients_that_failed() throws Exception {
+        // Arrange
+        List<MimeMessage> created = stubMessageCreation();
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            failed.put(created.get(1), new SendFailedException("Invalid Addresses", null,
+                    new Address[0], new Address[0], new Address[]{new InternetAddress("user1@example.com")}));
+            throw new MailSendException(failed);
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        List<EmailDeliveryFailure> failures = emailService.sendAll(emails(3));
+
+        // Assert
+        assertEquals(1, failures.size());
+        assertEquals(1, failures.get(0).index());
+        assertEquals("user1@example.com", failures.get(0).to());
+        assertFalse(failures.get(0).retryable());
+        assertEquals(2, deliveryMetrics.stats().sent());
+        assertEquals(1, deliveryMetrics.stats().failed());
+    }
+
+    @Test
+    void sendAll_should_throw_when_no_message_could_be_sent() {
+        // Arrange
+        List<MimeMessage> created = stubMessageCreation();
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            created.forEach(message -> failed.put(message, new MessagingException("Connection refused")));
+            throw new MailSendException("Mail server connection failed", null, failed);
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // Act & Assert
+        assertThrows(MailSendException.class, () -> emailService.sendAll(emails(2)));
+        assertEquals(2, deliveryMetrics.stats().failed());
+    }
+
+    @Test
+    void sendAll_should_report_each_recipient_when_every_address_is_rejected() throws Exception {
+        // Arrange
+        List<MimeMessage> created = stubMessageCreation();
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (int i = 0; i < created.size(); i++) {
+                failed.put(created.get(i), new SendFailedException("Invalid Addresses", null,
+                        new Address[0], new Address[0], new Address[]{new InternetAddress("user" + i + "@example.com")}));
+            }
+            throw new MailSendException(failed);
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        List<EmailDeliveryFailure> failures = emailService.sendAll(emails(2));
+
+        // Assert
+        assertEquals(2, failures.size());
+        assertEquals(List.of(0, 1), failures.stream().map(EmailDeliveryFailure::index).toList());
+        assertTrue(failures.stream().noneMatch(EmailDeliveryFailure::retryable));
+        assertEquals(2, deliveryMetrics.stats().failed());
+    }
+
+    private List<MimeMessage> stubMessageCreation() {
+        ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@pawalert.com");
+        List<MimeMessage> created = new ArrayList<>();
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> {
+            MimeMessage message = mock(MimeMessage.class);
+            created.add(message);
+            return message;
+        });
+        return created;
+    }
+
+    private List<OutgoingEmail> emails(int count) {
+        List<OutgoingEmail> emails = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            emails.add(new OutgoingEmail("user" + i + "@example.com", "Subject", "<p>Body</p>"));
+        }
+        return emails;
+    }
 }
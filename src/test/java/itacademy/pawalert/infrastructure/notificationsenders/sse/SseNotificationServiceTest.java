@@ -0,0 +1,242 @@
+package itacademy.pawalert.infrastructure.notificationsenders.sse;
+
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.infrastructure.notificationqueues.sse.SseFanoutEvent;
+import itacademy.pawalert.infrastructure.notificationqueues.sse.SseFanoutPublisher;
+import itacademy.pawalert.infrastructure.rest.notification.dto.NotificationMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SseNotificationService Unit Tests")
+class SseNotificationServiceTest {
+
+    private final SseSubscriptionRegistry registry = new SseSubscriptionRegistry();
+    // Tasks run on the calling thread unless a test queues them to inspect the backlog
+    private final SseBroadcaster broadcaster = new SseBroadcaster(registry, JsonMapper.builder().build(), Runnable::run, 4, 2, 3);
+    private final SseFanoutPublisher fanoutPublisher = mock(SseFanoutPublisher.class);
+    private final SseNotificationService service = new SseNotificationService(registry, broadcaster, fanoutPublisher);
+
+    @Test
+    @DisplayName("Should only write to clients following one of the event topics")
+    void shouldOnlyWriteToInterestedClients() throws IOException {
+        UUID alertId = UUID.randomUUID();
+        SseEmitter follower = mock(SseEmitter.class);
+        SseEmitter otherAlert = mock(SseEmitter.class);
+        SseEmitter everything = mock(SseEmitter.class);
+        registry.register(follower, Set.of(SseTopic.alert(alertId)));
+        registry.register(otherAlert, Set.of(SseTopic.alert(UUID.randomUUID())));
+        registry.register(everything, Set.of(SseTopic.all()));
+
+        service.publish(NotificationMessage.statusChange(alertId, "Luna", "OPENED", "SEEN"),
+                Set.of(SseTopic.alert(alertId), SseTopic.user(UUID.randomUUID())));
+
+        verify(follower, times(1)).send(anySet());
+        verify(everything, times(1)).send(anySet());
+        verify(otherAlert, never()).send(anySet());
+    }
+
+    @Test
+    @DisplayName("Should write once to a client following several matching topics")
+    void shouldWriteOnceToClientWithSeveralMatchingTopics() throws IOException {
+        UUID alertId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
+        SseEmitter emitter = mock(SseEmitter.class);
+        registry.register(emitter, Set.of(SseTopic.alert(alertId), SseTopic.user(ownerId), SseTopic.all()));
+
+        service.publish(NotificationMessage.newAlert(alertId, "Luna"), Set.of(SseTopic.alert(alertId), SseTopic.user(ownerId)));
+
+        verify(emitter, times(1)).send(anySet());
+    }
+
+    @Test
+    @DisplayName("Should drop a client whose connection failed from every topic")
+    void shouldUnregisterDeadClient() throws IOException {
+        UUID alertId = UUID.randomUUID();
+        SseEmitter dead = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(dead).send(anySet());
+        registry.register(dead, Set.of(SseTopic.alert(alertId), SseTopic.all()));
+
+        service.broadcast(NotificationMessage.newAlert(alertId, "Luna"));
+
+        assertEquals(0, registry.connectedCount());
+        assertEquals(0, registry.topicCount());
+    }
+
+    @Test
+    @DisplayName("Should serialize a notification once for all its clients")
+    @SuppressWarnings("unchecked")
+    void shouldSerializeOnceForAllClients() throws IOException {
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        registry.register(first, Set.of(SseTopic.all()));
+        registry.register(second, Set.of(SseTopic.all()));
+
+        service.broadcast(NotificationMessage.newAlert(UUID.randomUUID(), "Luna"));
+
+        ArgumentCaptor<Set<?>> firstFrame = ArgumentCaptor.forClass(Set.class);
+        ArgumentCaptor<Set<?>> secondFrame = ArgumentCaptor.forClass(Set.class);
+        verify(first).send((Set) firstFrame.capture());
+        verify(second).send((Set) secondFrame.capture());
+        assertSame(firstFrame.getValue(), secondFrame.getValue());
+    }
+
+    @Test
+    @DisplayName("Should return before writing and disconnect a client past its backlog")
+    void shouldDisconnectClientPastBacklog() throws IOException {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        SseBroadcaster queued = new SseBroadcaster(registry, JsonMapper.builder().build(), tasks::add, 4, 2, 3);
+        SseEmitter slow = mock(SseEmitter.class);
+        registry.register(slow, Set.of(SseTopic.all()));
+
+        for (int i = 0; i < 3; i++) {
+            queued.publish(NotificationMessage.newAlert(UUID.randomUUID(), "Luna"), Set.of());
+        }
+        verify(slow, never()).send(anySet());
+
+        // Run the three fan-outs without letting the client's writer drain its backlog
+        for (int i = 0; i < 3; i++) {
+            tasks.poll().run();
+        }
+
+        assertEquals(1, queued.slowClientsDisconnected());
+        assertEquals(0, registry.connectedCount());
+        tasks.forEach(Runnable::run);
+        verify(slow).complete();
+        verify(slow, never()).send(anySet());
+    }
+
+    @Test
+    @DisplayName("Should replay only the missed events of the followed topics on reconnect")
+    void shouldReplayMissedEventsOnReconnect() throws IOException {
+        UUID alertId = UUID.randomUUID();
+        Set<SseTopic> followed = Set.of(SseTopic.alert(alertId));
+        long seen = broadcaster.publish(NotificationMessage.newAlert(alertId, "Luna"), followed);
+        long missed = broadcaster.publish(NotificationMessage.statusChange(alertId, "Luna", "OPENED", "SEEN"), followed);
+        broadcaster.publish(NotificationMessage.newAlert(UUID.randomUUID(), "Max"), Set.of());
+
+        SseEmitter emitter = mock(SseEmitter.class);
+        broadcaster.attach(emitter, followed, broadcaster.eventId(seen));
+        long live = broadcaster.publish(NotificationMessage.statusChange(alertId, "Luna", "SEEN", "CLOSED"), followed);
+
+        List<String> frames = sentFrames(emitter, 2);
+        assertTrue(frames.get(0).contains("id:" + broadcaster.eventId(missed) + "\n"));
+        assertTrue(frames.get(1).contains("id:" + broadcaster.eventId(live) + "\n"));
+        assertTrue(frames.get(1).contains("CLOSED"));
+    }
+
+    @Test
+    @DisplayName("Should deliver an event published while the client is being registered")
+    void shouldDeliverEventPublishedDuringAttach() throws Exception {
+        AtomicReference<SseBroadcaster> racing = new AtomicReference<>();
+        AtomicReference<Thread> publisher = new AtomicReference<>();
+        SseSubscriptionRegistry racingRegistry = new SseSubscriptionRegistry() {
+            @Override
+            public void register(SseEmitter emitter, Set<SseTopic> topics) {
+                // Another request publishes right as the client is added
+                Thread thread = Thread.ofPlatform().start(() -> racing.get().publish(
+                        NotificationMessage.newAlert(UUID.randomUUID(), "Luna"), Set.of()));
+                publisher.set(thread);
+                awaitBlockedOrDone(thread);
+                super.register(emitter, topics);
+            }
+        };
+        racing.set(new SseBroadcaster(racingRegistry, JsonMapper.builder().build(), Runnable::run, 4, 2, 3));
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        racing.get().attach(emitter, Set.of(SseTopic.all()), null);
+        publisher.get().join(5000);
+
+        verify(emitter, times(1)).send(anySet());
+    }
+
+    private static void awaitBlockedOrDone(Thread thread) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (thread.getState() != Thread.State.BLOCKED && thread.getState() != Thread.State.TERMINATED
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    @DisplayName("Should ask the client to resync when the missed events left the buffer")
+    void shouldResyncWhenMissedEventsWereEvicted() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            broadcaster.publish(NotificationMessage.newAlert(UUID.randomUUID(), "Luna"), Set.of());
+        }
+
+        SseEmitter emitter = mock(SseEmitter.class);
+        broadcaster.attach(emitter, Set.of(SseTopic.all()), broadcaster.eventId(1));
+
+        // Buffer holds events 3 to 5, so event 2 is gone
+        List<String> frames = sentFrames(emitter, 4);
+        assertTrue(frames.get(0).contains("event:resync"));
+        assertTrue(frames.get(1).contains(broadcaster.eventId(3) + "\n"));
+        assertTrue(frames.get(3).contains(broadcaster.eventId(5) + "\n"));
+    }
+
+    @Test
+    @DisplayName("Should only ask for a resync when the last event id came from another node")
+    void shouldResyncOnEventIdFromAnotherNode() throws IOException {
+        broadcaster.publish(NotificationMessage.newAlert(UUID.randomUUID(), "Luna"), Set.of());
+
+        SseEmitter emitter = mock(SseEmitter.class);
+        broadcaster.attach(emitter, Set.of(SseTopic.all()), "othernode-1");
+
+        List<String> frames = sentFrames(emitter, 1);
+        assertTrue(frames.get(0).contains("event:resync"));
+    }
+
+    @Test
+    @DisplayName("Should fan a published notification out to the other nodes")
+    void shouldFanOutPublishedNotification() {
+        UUID alertId = UUID.randomUUID();
+        NotificationMessage notification = NotificationMessage.newAlert(alertId, "Luna");
+
+        service.publish(notification, Set.of(SseTopic.alert(alertId)));
+        service.deliverLocally(notification, Set.of(SseTopic.alert(alertId)));
+
+        verify(fanoutPublisher, times(1)).publish(
+                new SseFanoutEvent(service.getNodeId(), notification, Set.of(SseTopic.alert(alertId))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> sentFrames(SseEmitter emitter, int expected) throws IOException {
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, times(expected)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(frame -> frame.stream()
+                        .map(part -> part.getData() instanceof byte[] bytes
+                                ? new String(bytes, StandardCharsets.UTF_8)
+                                : part.getData().toString())
+                        .collect(Collectors.joining()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("An alert's area should be among the areas followed around a nearby point")
+    void alertAreaShouldBeFollowedFromNearbyPoint() {
+        GeographicLocation alertLocation = GeographicLocation.of(41.499, 2.499);
+        GeographicLocation watcher = GeographicLocation.of(41.501, 2.501);
+
+        assertTrue(SseTopic.areasAround(watcher).contains(SseTopic.area(alertLocation)));
+        assertEquals(9, SseTopic.areasAround(watcher).size());
+    }
+}
@@ -0,0 +1,168 @@
+package itacademy.pawalert.infrastructure.notificationsenders.telegram;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import itacademy.pawalert.domain.notification.exception.TelegramNotificationException;
+import itacademy.pawalert.domain.notification.model.NotificationFailureReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the real Telegram HTTP client beans against a local stub server reached through
+ * {@code telegram.api.base-url}, checking connection reuse, concurrent sends and the read timeout.
+ */
+@DisplayName("Telegram HTTP client against a stub server")
+class TelegramHttpClientStubServerTest {
+
+    private static final String OK_BODY = "{\"ok\":true}";
+
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should reuse one kept-alive connection for sequential sends")
+    void shouldReuseConnectionForSequentialSends() throws Exception {
+        startServer(exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, OK_BODY);
+        });
+
+        contextRunner().run(context -> {
+            TelegramNotificationService service = context.getBean(TelegramNotificationService.class);
+            for (int i = 0; i < 5; i++) {
+                service.sendToUser("100" + i, "blocking " + i);
+            }
+            for (int i = 0; i < 5; i++) {
+                service.sendToUserAsync("200" + i, "async " + i).get(5, TimeUnit.SECONDS);
+            }
+        });
+
+        assertThat(remotePorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should keep concurrent async sends in flight and pool their connections")
+    void shouldKeepConcurrentSendsInFlight() throws Exception {
+        int concurrentSends = 5;
+        CountDownLatch allArrived = new CountDownLatch(concurrentSends);
+        startServer(exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            allArrived.countDown();
+            // Answer only once every send reached the server, which needs them all in flight at once
+            awaitQuietly(allArrived);
+            respond(exchange, OK_BODY);
+        });
+
+        contextRunner().run(context -> {
+            TelegramNotificationService service = context.getBean(TelegramNotificationService.class);
+            List<CompletableFuture<Void>> sends = new ArrayList<>();
+            for (int i = 0; i < concurrentSends; i++) {
+                sends.add(service.sendToUserAsync("300" + i, "concurrent " + i));
+            }
+            assertThat(sends).noneMatch(CompletableFuture::isDone);
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            // A second round finds the pooled connections instead of opening new ones
+            for (int i = 0; i < concurrentSends; i++) {
+                service.sendToUserAsync("400" + i, "pooled " + i).get(5, TimeUnit.SECONDS);
+            }
+        });
+
+        assertThat(remotePorts).hasSizeLessThanOrEqualTo(concurrentSends);
+    }
+
+    @Test
+    @DisplayName("Should fail with NETWORK_ERROR when the server answers after the read timeout")
+    void shouldTimeOutSlowResponse() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        startServer(exchange -> {
+            awaitQuietly(release);
+            respond(exchange, OK_BODY);
+        });
+
+        try {
+            contextRunner().run(context -> {
+                TelegramNotificationService service = context.getBean(TelegramNotificationService.class);
+
+                assertThatThrownBy(() -> service.sendToUserAsync("5001", "slow").get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .cause()
+                        .isInstanceOfSatisfying(TelegramNotificationException.class,
+                                e -> assertThat(e.getReason()).isEqualTo(NotificationFailureReason.NETWORK_ERROR));
+                assertThatThrownBy(() -> service.sendToUser("5002", "slow"))
+                        .isInstanceOfSatisfying(TelegramNotificationException.class,
+                                e -> assertThat(e.getReason()).isEqualTo(NotificationFailureReason.NETWORK_ERROR));
+            });
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private ApplicationContextRunner contextRunner() {
+        return new ApplicationContextRunner()
+                .withUserConfiguration(TelegramHttpClientConfig.class, TelegramRateLimiter.class,
+                        TelegramNotificationService.class)
+                .withBean(JsonMapper.class, () -> JsonMapper.builder().build())
+                .withPropertyValues(
+                        "telegram.bot.token=test-bot-token",
+                        "telegram.bot.chat_id=123456789",
+                        "telegram.api.base-url=http://127.0.0.1:" + server.getAddress().getPort(),
+                        "app.telegram.http.read-timeout-ms=500",
+                        "app.telegram.rate-limit.global-per-second=1000",
+                        "app.telegram.rate-limit.per-chat-per-second=1000");
+    }
+
+    private void startServer(HttpHandler handler) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", handler);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
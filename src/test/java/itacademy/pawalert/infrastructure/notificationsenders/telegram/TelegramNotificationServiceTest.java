@@ -12,7 +12,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.net.http.HttpClient;
 import java.util.Arrays;
 import java.util.List;
 
@@ -35,8 +37,9 @@ class TelegramNotificationServiceTest {
 
     @BeforeEach
     void setUp() {
-        telegramService = new TelegramNotificationService();
-        ReflectionTestUtils.setField(telegramService, "restTemplate", restTemplate);
+        // Generous limits so the tests never wait
+        telegramService = new TelegramNotificationService(restTemplate, HttpClient.newHttpClient(), JsonMapper.builder().build(),
+                Runnable::run, new TelegramRateLimiter(1000, 1000, 5000), TelegramRequest.DEFAULT_API_BASE_URL, 10000);
         ReflectionTestUtils.setField(telegramService, "botToken", BOT_TOKEN);
         ReflectionTestUtils.setField(telegramService, "chatId", CHAT_ID);
     }
@@ -0,0 +1,66 @@
+package itacademy.pawalert.infrastructure.notificationsenders.telegram;
+
+import itacademy.pawalert.domain.notification.exception.TelegramNotificationException;
+import itacademy.pawalert.domain.notification.model.NotificationFailureReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TelegramRateLimiter Unit Tests")
+class TelegramRateLimiterTest {
+
+    @Test
+    @DisplayName("Second message to the same chat should wait for the per-chat slot")
+    void sameChatShouldBeSpacedOut() {
+        TelegramRateLimiter limiter = new TelegramRateLimiter(1000, 10, 1000);
+
+        long start = System.nanoTime();
+        limiter.acquire("123456789");
+        limiter.acquire("123456789");
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedMs >= 80, "waited only " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Different chats should not wait on each other while under the global limit")
+    void differentChatsShouldNotWait() {
+        TelegramRateLimiter limiter = new TelegramRateLimiter(1000, 1, 1000);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire("10000000" + i);
+        }
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedMs < 500, "took " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Wait beyond the maximum should fail fast with the time to retry")
+    void longWaitShouldThrowRateLimited() {
+        TelegramRateLimiter limiter = new TelegramRateLimiter(1000, 1, 100);
+        limiter.acquire("123456789");
+
+        TelegramNotificationException thrown = assertThrows(TelegramNotificationException.class,
+                () -> limiter.acquire("123456789"));
+
+        assertEquals(NotificationFailureReason.RATE_LIMITED, thrown.getReason());
+        assertTrue(thrown.getRetryAfter().toMillis() > 100);
+    }
+
+    @Test
+    @DisplayName("A 429 pause should hold back every chat")
+    void pauseShouldApplyToAllChats() {
+        TelegramRateLimiter limiter = new TelegramRateLimiter(1000, 1000, 100);
+        limiter.pauseFor(Duration.ofSeconds(30));
+
+        TelegramNotificationException thrown = assertThrows(TelegramNotificationException.class,
+                () -> limiter.acquire("987654321"));
+
+        assertTrue(thrown.getRetryAfter().toSeconds() >= 29);
+    }
+}
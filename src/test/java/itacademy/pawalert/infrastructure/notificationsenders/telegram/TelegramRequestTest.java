@@ -8,11 +8,26 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.json.JsonMapper;
 
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -187,6 +202,97 @@ class TelegramRequestTest {
         assertEquals(NotificationFailureReason.NETWORK_ERROR, thrown.getReason());
     }
 
+    @Test
+    void execute_shouldThrowRateLimited_withRetryAfterFromBody_whenTooManyRequests() {
+        // Arrange
+        TelegramRequest request = TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId(CHAT_ID)
+                .message(MESSAGE)
+                .build();
+
+        String body = "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 7\"," +
+                "\"parameters\":{\"retry_after\":7}}";
+        when(restTemplate.postForEntity(any(String.class), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                        HttpHeaders.EMPTY, body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+
+        // Act & Assert
+        TelegramNotificationException thrown = assertThrows(
+                TelegramNotificationException.class,
+                () -> request.execute(restTemplate, BOT_TOKEN)
+        );
+        assertEquals(NotificationFailureReason.RATE_LIMITED, thrown.getReason());
+        assertEquals(Duration.ofSeconds(7), thrown.getRetryAfter());
+    }
+
+    @Test
+    void execute_shouldClassifyByStatusCode_notByDigitsInTheMessage() {
+        // Arrange - a 400 whose description happens to contain "429"
+        TelegramRequest request = TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId("4291234567")
+                .message(MESSAGE)
+                .build();
+
+        String body = "{\"ok\":false,\"error_code\":400,\"description\":\"Bad Request: chat 4291234567 not supported\"}";
+        when(restTemplate.postForEntity(any(String.class), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request",
+                        HttpHeaders.EMPTY, body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+
+        // Act & Assert
+        TelegramNotificationException thrown = assertThrows(
+                TelegramNotificationException.class,
+                () -> request.execute(restTemplate, BOT_TOKEN)
+        );
+        assertEquals(NotificationFailureReason.INVALID_CHAT_ID, thrown.getReason());
+        assertNull(thrown.getRetryAfter());
+    }
+
+    @Test
+    void execute_shouldThrowBotBlocked_whenForbidden() {
+        // Arrange
+        TelegramRequest request = TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId(CHAT_ID)
+                .message(MESSAGE)
+                .build();
+
+        String body = "{\"ok\":false,\"error_code\":403,\"description\":\"Forbidden: bot was blocked by the user\"}";
+        when(restTemplate.postForEntity(any(String.class), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.FORBIDDEN, "Forbidden",
+                        HttpHeaders.EMPTY, body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+
+        // Act & Assert
+        TelegramNotificationException thrown = assertThrows(
+                TelegramNotificationException.class,
+                () -> request.execute(restTemplate, BOT_TOKEN)
+        );
+        assertEquals(NotificationFailureReason.BOT_BLOCKED, thrown.getReason());
+    }
+
+    @Test
+    void execute_shouldKeepBotTokenOutOfTheFailure() {
+        // Arrange - RestTemplate quotes the full URL, token included, in I/O errors
+        TelegramRequest request = TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId(CHAT_ID)
+                .message(MESSAGE)
+                .build();
+
+        when(restTemplate.postForEntity(any(String.class), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new ResourceAccessException("I/O error on POST request for \"https://api.telegram.org/bot"
+                        + BOT_TOKEN + "/sendMessage\": Connection refused", new IOException("Connection refused")));
+
+        // Act & Assert
+        TelegramNotificationException thrown = assertThrows(
+                TelegramNotificationException.class,
+                () -> request.execute(restTemplate, BOT_TOKEN)
+        );
+        assertEquals(NotificationFailureReason.NETWORK_ERROR, thrown.getReason());
+        assertFalse(thrown.getCause().getMessage().contains(BOT_TOKEN));
+    }
+
     @Test
     void execute_shouldThrowTelegramNotificationException_whenUnknownError() {
         // Arrange
@@ -323,4 +429,98 @@ class TelegramRequestTest {
 
         assertDoesNotThrow(() -> request.execute(restTemplate, BOT_TOKEN));
     }
+
+    @Test
+    void executeAsync_shouldPostJsonBodyToStubServer() throws Exception {
+        // Arrange - stub HTTP server standing in for api.telegram.org
+        AtomicReference<String> receivedPath = new AtomicReference<>();
+        AtomicReference<String> receivedBody = new AtomicReference<>();
+        HttpServer server = stubServer(200, "{\"ok\":true}", receivedPath, receivedBody);
+        TelegramRequest request = TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId(CHAT_ID)
+                .message(MESSAGE)
+                .build();
+
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            // Act
+            request.executeAsync(httpClient, JsonMapper.builder().build(), baseUrl(server), BOT_TOKEN, Duration.ofSeconds(5))
+                    .get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals("/bot" + BOT_TOKEN + "/sendMessage", receivedPath.get());
+            assertTrue(receivedBody.get().contains("\"chat_id\":\"" + CHAT_ID + "\""));
+            assertTrue(receivedBody.get().contains("\"text\":\"" + MESSAGE + "\""));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void executeAsync_shouldFailWithRateLimited_whenStubServerAnswersTooManyRequests() throws Exception {
+        // Arrange
+        String body = "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 3\"," +
+                "\"parameters\":{\"retry_after\":3}}";
+        HttpServer server = stubServer(429, body, new AtomicReference<>(), new AtomicReference<>());
+        TelegramRequest request = TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId(CHAT_ID)
+                .message(MESSAGE)
+                .build();
+
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            // Act & Assert
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> request
+                    .executeAsync(httpClient, JsonMapper.builder().build(), baseUrl(server), BOT_TOKEN, Duration.ofSeconds(5))
+                    .get(5, TimeUnit.SECONDS));
+            TelegramNotificationException cause = assertInstanceOf(TelegramNotificationException.class, thrown.getCause());
+            assertEquals(NotificationFailureReason.RATE_LIMITED, cause.getReason());
+            assertEquals(Duration.ofSeconds(3), cause.getRetryAfter());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void executeAsync_shouldFailWithNetworkError_whenServerIsUnreachable() throws Exception {
+        // Arrange - bind and release a port so nothing is listening on it
+        HttpServer server = stubServer(200, "{}", new AtomicReference<>(), new AtomicReference<>());
+        String unreachableUrl = baseUrl(server);
+        server.stop(0);
+        TelegramRequest request = TelegramRequest.builder()
+                .endpoint("sendMessage")
+                .chatId(CHAT_ID)
+                .message(MESSAGE)
+                .build();
+
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            // Act & Assert
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> request
+                    .executeAsync(httpClient, JsonMapper.builder().build(), unreachableUrl, BOT_TOKEN, Duration.ofSeconds(5))
+                    .get(5, TimeUnit.SECONDS));
+            TelegramNotificationException cause = assertInstanceOf(TelegramNotificationException.class, thrown.getCause());
+            assertEquals(NotificationFailureReason.NETWORK_ERROR, cause.getReason());
+        }
+    }
+
+    private static HttpServer stubServer(int status, String responseBody,
+                                         AtomicReference<String> receivedPath,
+                                         AtomicReference<String> receivedBody) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            receivedPath.set(exchange.getRequestURI().getPath());
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server) {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
 }
@@ -0,0 +1,118 @@
+package itacademy.pawalert.infrastructure.persistence.alert;
+
+import itacademy.pawalert.application.alert.model.AlertCursor;
+import itacademy.pawalert.application.alert.model.AlertPage;
+import itacademy.pawalert.application.alert.model.AlertSearchCriteria;
+import itacademy.pawalert.domain.alert.model.Alert;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AlertRepositoryAdapter.class)
+class AlertKeysetPaginationIntegrationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlertRepositoryAdapter adapter;
+
+    // Newest first, as returned by the keyset ordering
+    private final List<String> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Two alerts share a timestamp so the id tie-breaker is exercised
+        String tieLow = "00000000-0000-0000-0000-000000000001";
+        String tieHigh = "00000000-0000-0000-0000-000000000002";
+        persistAlert(UUID.randomUUID().toString(), BASE.plusHours(3), StatusNames.OPENED);
+        persistAlert(tieHigh, BASE.plusHours(2), StatusNames.SEEN);
+        persistAlert(tieLow, BASE.plusHours(2), StatusNames.OPENED);
+        persistAlert(UUID.randomUUID().toString(), BASE.plusHours(1), StatusNames.CLOSED);
+        persistAlert(UUID.randomUUID().toString(), BASE, StatusNames.SAFE);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Pages should follow created_at, id descending without gaps or duplicates")
+    void pagesShouldWalkWholeResultInKeysetOrder() {
+        List<String> seen = new ArrayList<>();
+        AlertCursor cursor = null;
+        int pages = 0;
+
+        do {
+            AlertPage page = adapter.searchPage(AlertSearchCriteria.empty().withPage(cursor, 2));
+            page.alerts().forEach(alert -> seen.add(alert.getId().toString()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    @DisplayName("Active criteria should exclude closed alerts from pages and streams")
+    void activeCriteriaShouldExcludeClosedAlerts() {
+        AlertPage page = adapter.searchPage(AlertSearchCriteria.active().withPage(null, 10));
+        List<Alert> streamed = new ArrayList<>();
+        adapter.streamSearch(AlertSearchCriteria.active(), streamed::add);
+
+        assertThat(page.alerts()).hasSize(4).noneMatch(this::isClosed);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(streamed).extracting(alert -> alert.getId().toString())
+                .containsExactlyElementsOf(page.alerts().stream().map(alert -> alert.getId().toString()).toList());
+    }
+
+    @Test
+    @DisplayName("Cursor should survive an encode/decode round trip and reject garbage")
+    void cursorShouldRoundTrip() {
+        AlertCursor cursor = new AlertCursor(BASE, UUID.randomUUID());
+
+        assertThat(AlertCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(AlertCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> AlertCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private boolean isClosed(Alert alert) {
+        return alert.currentStatus().getStatusName() == StatusNames.CLOSED;
+    }
+
+    private void persistAlert(String id, LocalDateTime createdAt, StatusNames status) {
+        entityManager.persist(new AlertEntity(
+                id,
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                "Lost Dog",
+                "Golden retriever lost near the central park",
+                status
+        ));
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE alerts SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, id)
+                .executeUpdate();
+        expectedOrder.add(id);
+    }
+}
@@ -0,0 +1,161 @@
+package itacademy.pawalert.infrastructure.persistence.alert;
+
+import itacademy.pawalert.application.alert.model.AlertLatestState;
+import itacademy.pawalert.application.alert.port.outbound.AlertLocationIndexPort;
+import itacademy.pawalert.domain.alert.model.AlertEvent;
+import itacademy.pawalert.domain.alert.model.ChangedAt;
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.domain.alert.model.Title;
+import itacademy.pawalert.domain.user.Role;
+import itacademy.pawalert.infrastructure.persistence.pet.PetEntity;
+import itacademy.pawalert.infrastructure.persistence.pet.PetRepository;
+import itacademy.pawalert.infrastructure.persistence.user.UserEntity;
+import itacademy.pawalert.infrastructure.persistence.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Saves two events for the same alert from concurrent transactions. Each test commits its own
+ * data, so the class runs outside the usual rolled-back test transaction and cleans up after itself.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AlertEventRepositoryAdapter.class, AlertLatestStateConcurrencyIntegrationTest.IndexConfig.class})
+class AlertLatestStateConcurrencyIntegrationTest {
+
+    @TestConfiguration
+    static class IndexConfig {
+        @Bean
+        AlertLocationIndexPort alertLocationIndex() {
+            return mock(AlertLocationIndexPort.class);
+        }
+    }
+
+    @Autowired
+    private AlertEventRepositoryAdapter adapter;
+
+    @Autowired
+    private AlertEventRepository eventRepository;
+
+    @Autowired
+    private AlertLatestStateRepository latestStateRepository;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private UUID alertId;
+    private UUID userId;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        userId = UUID.randomUUID();
+        alertId = UUID.randomUUID();
+        createdAt = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.SECONDS);
+
+        transaction.executeWithoutResult(status -> {
+            userRepository.save(new UserEntity(userId.toString(), "owner-" + userId, userId + "@test.com", "hash",
+                    null, null, Role.USER, LocalDateTime.now(), null, false, false));
+            PetEntity pet = petRepository.save(new PetEntity(UUID.randomUUID().toString(), userId.toString(), null,
+                    "Luna", null, "DOG", null, null, null, null, null, null));
+            alertRepository.save(new AlertEntity(alertId.toString(), pet.getId(), userId.toString(),
+                    "Lost dog", "Missing since this morning", StatusNames.OPENED));
+            adapter.save(AlertEvent.createStatusEvent(alertId, null, StatusNames.OPENED, userId, null,
+                    new ChangedAt(createdAt)));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            latestStateRepository.deleteAllInBatch();
+            eventRepository.deleteAllInBatch();
+            alertRepository.deleteAllInBatch();
+            petRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("Should apply concurrent events for the same alert on top of each other")
+    void shouldNotLoseConcurrentProjectionUpdates() throws Exception {
+        GeographicLocation seenAt = GeographicLocation.of(41.3874, 2.1686);
+        CountDownLatch firstSaved = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        // The first transaction holds its projection update open while the second one saves
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            adapter.save(AlertEvent.createStatusEvent(alertId, StatusNames.OPENED, StatusNames.SEEN, userId, seenAt,
+                    new ChangedAt(createdAt.plusMinutes(1))));
+            firstSaved.countDown();
+            awaitQuietly(secondStarted);
+            sleepQuietly(300);
+        }));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            awaitQuietly(firstSaved);
+            transaction.executeWithoutResult(status -> {
+                secondStarted.countDown();
+                adapter.save(AlertEvent.createTitleEvent(alertId, Title.of("Lost dog"), Title.of("Lost black dog"),
+                        userId, new ChangedAt(createdAt.plusMinutes(2))));
+            });
+        });
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        AlertLatestState state = adapter.findLatestStateByAlertId(alertId).orElseThrow();
+        assertThat(state.lastStatus()).isEqualTo(StatusNames.SEEN);
+        assertThat(state.lastLocation()).isEqualTo(seenAt);
+        assertThat(state.lastEventAt()).isEqualTo(createdAt.plusMinutes(2));
+        assertThat(eventRepository.count()).isEqualTo(3);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
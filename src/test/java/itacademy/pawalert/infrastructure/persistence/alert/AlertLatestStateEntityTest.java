@@ -0,0 +1,73 @@
+package itacademy.pawalert.infrastructure.persistence.alert;
+
+import itacademy.pawalert.application.alert.model.AlertLatestState;
+import itacademy.pawalert.domain.alert.model.ClosureReason;
+import itacademy.pawalert.domain.alert.model.GeographicLocation;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AlertLatestStateEntity Unit Tests")
+class AlertLatestStateEntityTest {
+
+    private static final String ALERT_ID = UUID.randomUUID().toString();
+    private static final String USER_ID = UUID.randomUUID().toString();
+    private static final GeographicLocation MADRID = GeographicLocation.of(40.4168, -3.7025);
+    private static final GeographicLocation BARCELONA = GeographicLocation.of(41.3874, 2.1686);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+    @Test
+    @DisplayName("Should keep last location when a title event has none")
+    void shouldKeepLastLocationOnTitleEvent() {
+        AlertLatestStateEntity state = new AlertLatestStateEntity(ALERT_ID);
+
+        state.apply(statusEvent("OPENED", "SEEN", NOW, MADRID, null));
+        state.apply(new AlertEventEntity(UUID.randomUUID().toString(), "TITLE_CHANGED",
+                "Old title", "New title", NOW.plusMinutes(5), USER_ID));
+
+        AlertLatestState latest = state.toDomain();
+        assertEquals(NOW.plusMinutes(5), latest.lastEventAt());
+        assertEquals(MADRID, latest.lastLocation());
+        assertEquals(StatusNames.SEEN, latest.lastStatus());
+    }
+
+    @Test
+    @DisplayName("Should keep closure reason only while closed")
+    void shouldClearClosureReasonWhenReopened() {
+        AlertLatestStateEntity state = new AlertLatestStateEntity(ALERT_ID);
+
+        state.apply(statusEvent("SEEN", "CLOSED", NOW, MADRID, "FOUNDED"));
+        assertEquals(ClosureReason.FOUNDED, state.toDomain().closureReason());
+
+        state.apply(statusEvent("CLOSED", "OPENED", NOW.plusHours(1), BARCELONA, null));
+        AlertLatestState latest = state.toDomain();
+        assertEquals(StatusNames.OPENED, latest.lastStatus());
+        assertEquals(BARCELONA, latest.lastLocation());
+        assertNull(latest.closureReason());
+    }
+
+    @Test
+    @DisplayName("Should ignore events older than the current state")
+    void shouldIgnoreOlderEvents() {
+        AlertLatestStateEntity state = new AlertLatestStateEntity(ALERT_ID);
+
+        state.apply(statusEvent("OPENED", "SEEN", NOW, MADRID, null));
+        state.apply(statusEvent("OPENED", "OPENED", NOW.minusDays(1), BARCELONA, null));
+
+        AlertLatestState latest = state.toDomain();
+        assertEquals(NOW, latest.lastEventAt());
+        assertEquals(MADRID, latest.lastLocation());
+        assertEquals(StatusNames.SEEN, latest.lastStatus());
+    }
+
+    private AlertEventEntity statusEvent(String previous, String next, LocalDateTime changedAt,
+                                         GeographicLocation location, String closureReason) {
+        return new AlertEventEntity(UUID.randomUUID().toString(), previous, next,
+                changedAt, USER_ID, location, closureReason);
+    }
+}
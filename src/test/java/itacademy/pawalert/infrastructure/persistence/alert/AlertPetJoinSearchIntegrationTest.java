@@ -0,0 +1,102 @@
+package itacademy.pawalert.infrastructure.persistence.alert;
+
+import itacademy.pawalert.application.alert.model.AlertSearchCriteria;
+import itacademy.pawalert.application.alert.model.AlertWithPet;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import itacademy.pawalert.infrastructure.persistence.pet.PetEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AlertRepositoryAdapter.class)
+class AlertPetJoinSearchIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlertRepositoryAdapter adapter;
+
+    private String labradorAlertId;
+    private String orphanAlertId;
+
+    @BeforeEach
+    void setUp() {
+        String userId = UUID.randomUUID().toString();
+        String labrador = persistPet(userId, "Fluffy", "Flu", "DOG", "Labrador");
+        String siamese = persistPet(userId, "Misu", null, "CAT", "Siamese");
+
+        labradorAlertId = persistAlert(labrador, userId, "Lost Labrador");
+        persistAlert(siamese, userId, "Lost Siamese");
+        orphanAlertId = persistAlert(UUID.randomUUID().toString(), userId, "Lost without pet");
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Combined pet filters should match through a single join and return the pet columns")
+    void combinedPetFiltersShouldReturnAlertWithPet() {
+        AlertSearchCriteria criteria = new AlertSearchCriteria(
+                null, null, "flu", "dog", "labra", null, null, null, null, null);
+
+        List<AlertWithPet> results = adapter.searchWithPets(criteria);
+
+        assertThat(results).hasSize(1);
+        AlertWithPet result = results.get(0);
+        assertThat(result.alert().getId().toString()).isEqualTo(labradorAlertId);
+        assertThat(result.pet().officialPetName()).isEqualTo("Fluffy");
+        assertThat(result.pet().workingPetName()).isEqualTo("Flu");
+        assertThat(result.pet().species()).isEqualTo("DOG");
+        assertThat(result.pet().breed()).isEqualTo("Labrador");
+    }
+
+    @Test
+    @DisplayName("Search without pet filters should keep alerts whose pet is missing")
+    void searchWithoutPetFiltersShouldKeepAlertsWithoutPet() {
+        List<AlertWithPet> results = adapter.searchWithPets(AlertSearchCriteria.empty());
+
+        assertThat(results).hasSize(3);
+        assertThat(results)
+                .filteredOn(result -> result.alert().getId().toString().equals(orphanAlertId))
+                .singleElement()
+                .satisfies(result -> assertThat(result.pet()).isNull());
+    }
+
+    @Test
+    @DisplayName("Pet filters should give the same alerts from the entity search")
+    void petFiltersShouldMatchEntitySearch() {
+        AlertSearchCriteria criteria = new AlertSearchCriteria(
+                null, null, null, "cat", null, null, null, null, null, null);
+
+        assertThat(adapter.search(criteria))
+                .extracting(alert -> alert.getTitle().getValue())
+                .containsExactly("Lost Siamese");
+    }
+
+    private String persistPet(String userId, String officialName, String workingName, String species, String breed) {
+        String id = UUID.randomUUID().toString();
+        entityManager.persist(new PetEntity(id, userId, null, officialName, workingName, species, breed,
+                "MEDIUM", "Brown", "MALE", "Friendly pet", null));
+        return id;
+    }
+
+    private String persistAlert(String petId, String userId, String title) {
+        String id = UUID.randomUUID().toString();
+        entityManager.persist(new AlertEntity(id, petId, userId, title,
+                "Pet lost near the central park", StatusNames.OPENED));
+        return id;
+    }
+}
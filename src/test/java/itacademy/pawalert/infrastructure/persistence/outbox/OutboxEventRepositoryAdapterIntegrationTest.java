@@ -0,0 +1,179 @@
+package itacademy.pawalert.infrastructure.persistence.outbox;
+
+import itacademy.pawalert.application.alert.model.OutboxBatchResult;
+import itacademy.pawalert.application.alert.model.OutboxEvent;
+import itacademy.pawalert.application.alert.model.OutboxRetryPolicy;
+import itacademy.pawalert.application.exception.EventBrokerUnavailableException;
+import itacademy.pawalert.domain.alert.model.AlertCreatedEvent;
+import itacademy.pawalert.domain.alert.model.AlertStatusChangedEvent;
+import itacademy.pawalert.domain.alert.model.StatusNames;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({OutboxEventRepositoryAdapter.class, OutboxEventRepositoryAdapterIntegrationTest.JsonConfig.class})
+class OutboxEventRepositoryAdapterIntegrationTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    // No delay, so a failed event is due again on the next call
+    private static final OutboxRetryPolicy RETRY_NOW = new OutboxRetryPolicy(MAX_ATTEMPTS, Duration.ZERO, Duration.ZERO);
+
+    @TestConfiguration
+    static class JsonConfig {
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @Autowired
+    private OutboxEventRepositoryAdapter adapter;
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should claim events oldest first, hand them over as domain events and mark them published")
+    void shouldRelayOldestFirstAndMarkPublished() {
+        UUID alertId = UUID.randomUUID();
+        UUID creatorId = UUID.randomUUID();
+        adapter.append(alertId, new AlertCreatedEvent(alertId, creatorId));
+        adapter.append(alertId, new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN));
+        entityManager.flush();
+
+        List<OutboxEvent> handed = new ArrayList<>();
+        OutboxBatchResult result = adapter.relayBatch(10, RETRY_NOW, handed::add);
+        entityManager.flush();
+
+        assertThat(result.published()).isEqualTo(2);
+        assertThat(handed).extracting(OutboxEvent::event).containsExactly(
+                new AlertCreatedEvent(alertId, creatorId),
+                new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN));
+        assertThat(adapter.backlog(MAX_ATTEMPTS).pending()).isZero();
+        assertThat(adapter.relayBatch(10, RETRY_NOW, handed::add).claimed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count an attempt when the broker refuses an event and set it aside at the limit")
+    void shouldCountAttemptsOnFailure() {
+        UUID alertId = UUID.randomUUID();
+        adapter.append(alertId, new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SAFE));
+        entityManager.flush();
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            OutboxBatchResult result = adapter.relayBatch(10, RETRY_NOW, event -> {
+                throw new IllegalStateException("Nack received");
+            });
+            entityManager.flush();
+            assertThat(result.failed()).isEqualTo(1);
+        }
+
+        assertThat(repository.findAll()).singleElement()
+                .satisfies(entity -> {
+                    assertThat(entity.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+                    assertThat(entity.getLastError()).isEqualTo("Nack received");
+                    assertThat(entity.getPublishedAt()).isNull();
+                });
+        assertThat(adapter.backlog(MAX_ATTEMPTS).stuck()).isEqualTo(1);
+        assertThat(adapter.relayBatch(10, RETRY_NOW, event -> { }).claimed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hold a failed event back until its retry delay has passed")
+    void shouldBackOffFailedEvent() {
+        UUID alertId = UUID.randomUUID();
+        adapter.append(alertId, new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SAFE));
+        entityManager.flush();
+        OutboxRetryPolicy slowRetry = new OutboxRetryPolicy(MAX_ATTEMPTS, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+        adapter.relayBatch(10, slowRetry, event -> {
+            throw new IllegalStateException("Nack received");
+        });
+        entityManager.flush();
+
+        assertThat(repository.findAll()).singleElement()
+                .satisfies(entity -> assertThat(entity.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50)));
+        assertThat(adapter.relayBatch(10, slowRetry, event -> { }).claimed()).isZero();
+        assertThat(adapter.backlog(MAX_ATTEMPTS).pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not count an attempt when the broker is unavailable")
+    void shouldNotCountBrokerOutage() {
+        UUID alertId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            adapter.append(alertId, new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN));
+        }
+        entityManager.flush();
+
+        for (int run = 0; run < MAX_ATTEMPTS + 2; run++) {
+            OutboxBatchResult result = adapter.relayBatch(10, RETRY_NOW, event -> {
+                throw new EventBrokerUnavailableException("Connection refused", null);
+            });
+            entityManager.flush();
+            assertThat(result.brokerUnavailable()).isTrue();
+        }
+
+        assertThat(repository.findAll()).allSatisfy(entity -> assertThat(entity.getAttempts()).isZero());
+        assertThat(adapter.relayBatch(10, RETRY_NOW, event -> { }).published()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should set an unreadable event aside and still publish the events behind it")
+    void shouldSetPoisonEventAside() {
+        UUID alertId = UUID.randomUUID();
+        repository.save(new OutboxEventEntity(UUID.randomUUID().toString(), alertId.toString(),
+                AlertStatusChangedEvent.class.getSimpleName(), "{not json", LocalDateTime.now().minusMinutes(1)));
+        adapter.append(alertId, new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN));
+        entityManager.flush();
+
+        List<OutboxEvent> handed = new ArrayList<>();
+        OutboxBatchResult result = adapter.relayBatch(10, RETRY_NOW, handed::add);
+        entityManager.flush();
+
+        assertThat(result.published()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(handed).extracting(OutboxEvent::event)
+                .containsExactly(new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN));
+        assertThat(adapter.backlog(MAX_ATTEMPTS).stuck()).isEqualTo(1);
+        assertThat(adapter.relayBatch(10, RETRY_NOW, handed::add).claimed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should purge published events and keep pending ones")
+    void shouldPurgePublishedEvents() {
+        UUID alertId = UUID.randomUUID();
+        adapter.append(alertId, new AlertStatusChangedEvent(alertId, StatusNames.OPENED, StatusNames.SEEN));
+        entityManager.flush();
+        adapter.relayBatch(10, RETRY_NOW, event -> { });
+        adapter.append(alertId, new AlertStatusChangedEvent(alertId, StatusNames.SEEN, StatusNames.SAFE));
+        entityManager.flush();
+
+        int purged = adapter.purgePublished(LocalDateTime.now().plusSeconds(1));
+        entityManager.clear();
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(repository.findAll()).singleElement()
+                .satisfies(entity -> assertThat(entity.getPublishedAt()).isNull());
+    }
+}
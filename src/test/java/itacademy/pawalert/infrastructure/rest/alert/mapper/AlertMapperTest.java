@@ -1,5 +1,6 @@
 package itacademy.pawalert.infrastructure.rest.alert.mapper;
 
+import itacademy.pawalert.application.alert.model.AlertLatestState;
 import itacademy.pawalert.application.alert.port.outbound.AlertEventRepositoryPort;
 import itacademy.pawalert.domain.alert.model.*;
 import itacademy.pawalert.infrastructure.persistence.alert.AlertEntity;
@@ -12,10 +13,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("AlertMapper Tests")
@@ -50,7 +55,7 @@ class AlertMapperTest {
                     new OpenedStateAlert()
             );
 
-            when(eventRepository.findLatestByAlertId(alertId)).thenReturn(Optional.empty());
+            when(eventRepository.findLatestStateByAlertId(alertId)).thenReturn(Optional.empty());
 
             AlertDTO dto = alertMapper.toDTO(alert);
 
@@ -62,6 +67,45 @@ class AlertMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("toDTOList Tests")
+    class ToDTOListTests {
+
+        @Test
+        @DisplayName("Should fetch latest states for all alerts in a single call")
+        void shouldFetchLatestStatesInSingleCall() {
+            Alert opened = new Alert(
+                    UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    Title.of("Lost Dog"),
+                    Description.of("Golden Retriever lost near the park entrance"),
+                    new OpenedStateAlert()
+            );
+            Alert closed = new Alert(
+                    UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    Title.of("Lost Cat"),
+                    Description.of("Black cat with a white patch on the chest"),
+                    new ClosedStatusAlert()
+            );
+            GeographicLocation madrid = GeographicLocation.of(40.4168, -3.7025);
+
+            when(eventRepository.findLatestStatesByAlertIds(List.of(opened.getId(), closed.getId())))
+                    .thenReturn(Map.of(
+                            opened.getId(), new AlertLatestState(opened.getId(), LocalDateTime.now(), madrid,
+                                    StatusNames.OPENED, null),
+                            closed.getId(), new AlertLatestState(closed.getId(), LocalDateTime.now(), null,
+                                    StatusNames.CLOSED, ClosureReason.FOUNDED)));
+
+            List<AlertDTO> dtos = alertMapper.toDTOList(List.of(opened, closed));
+
+            assertEquals(2, dtos.size());
+            assertEquals(madrid.latitude(), dtos.get(0).getLatitude());
+            assertNull(dtos.get(0).getClosureReason());
+            assertEquals(ClosureReason.FOUNDED.name(), dtos.get(1).getClosureReason());
+            verify(eventRepository, never()).findLatestStateByAlertId(any());
+            verify(eventRepository, never()).findByAlertIdOrderByChangedAtDesc(any());
+        }
+    }
+
     @Nested
     @DisplayName("toEntity Tests")
     class ToEntityTests {
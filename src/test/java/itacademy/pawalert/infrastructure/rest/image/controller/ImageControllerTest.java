@@ -1,5 +1,6 @@
 package itacademy.pawalert.infrastructure.rest.image.controller;
 
+import itacademy.pawalert.application.image.service.ImageSubmissionService;
 import itacademy.pawalert.application.image.service.ImageUploadService;
 import itacademy.pawalert.application.image.service.ImageValidationService;
 import itacademy.pawalert.domain.image.model.ContentSafetyStatus;
@@ -29,13 +30,16 @@ class ImageControllerTest {
     @Mock
     private ImageValidationService validationService;
 
+    @Mock
+    private ImageSubmissionService submissionService;
+
     private ImageController controller;
 
     private PetImageAnalyzer petImageAnalyzer;
 
     @BeforeEach
     void setUp() {
-        controller = new ImageController(validationService, uploadService,petImageAnalyzer);
+        controller = new ImageController(validationService, uploadService, petImageAnalyzer, file -> file, submissionService);
     }
 
     @Test